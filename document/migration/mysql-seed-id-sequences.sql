@@ -0,0 +1,21 @@
+-- IDENTITY(auto_increment) ID를 쓰던 MySQL DB를 시퀀스 ID(IdAllocation)로 옮길 때 한 번 실행한다.
+-- MySQL에는 시퀀스가 없어 Hibernate가 <엔티티>_seq 테이블(next_val 한 행)로 대신한다.
+-- 새 ID 구간은 next_val 에서 allocationSize(50)만큼 앞까지 나눠 주므로, 기존 최대 ID + 50 이상으로 시작해야 기존 행과 겹치지 않는다.
+-- 애플리케이션을 멈춘 상태에서 실행한다.
+
+create table if not exists article_seq (next_val bigint) engine=InnoDB;
+delete from article_seq;
+insert into article_seq (next_val) select greatest(coalesce(max(id), 0) + 50, 1000) from article;
+
+create table if not exists article_comment_seq (next_val bigint) engine=InnoDB;
+delete from article_comment_seq;
+insert into article_comment_seq (next_val) select greatest(coalesce(max(id), 0) + 50, 1000) from article_comment;
+
+create table if not exists hashtag_seq (next_val bigint) engine=InnoDB;
+delete from hashtag_seq;
+insert into hashtag_seq (next_val) select greatest(coalesce(max(id), 0) + 50, 1000) from hashtag;
+
+-- ID를 애플리케이션이 정하므로 auto_increment 는 더 이상 쓰지 않는다.
+alter table article modify id bigint not null;
+alter table article_comment modify id bigint not null;
+alter table hashtag modify id bigint not null;
@@ -0,0 +1,116 @@
+package com.yoon.projectboard.benchmark;
+
+import com.yoon.projectboard.ProjectBoardApplication;
+import com.yoon.projectboard.dto.ArticleCommentDto;
+import com.yoon.projectboard.dto.ArticleDto;
+import com.yoon.projectboard.dto.UserAccountDto;
+import com.yoon.projectboard.dto.security.BoardPrincipal;
+import com.yoon.projectboard.service.ArticleCommentService;
+import com.yoon.projectboard.service.ArticleService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ArticleService#saveArticle}, {@link ArticleCommentService#saveArticleComment}를 통한 게시글/댓글 저장 처리량.
+ * <p>
+ * 내장 H2(MySQL 모드)로 애플리케이션 컨텍스트를 띄워 실제 저장 경로 그대로 잰다.
+ * {@code *InOneTransaction}은 한 트랜잭션에 {@link #BULK_SIZE}건을 저장하는 일괄 생성(마이그레이션 등)으로, ID를 시퀀스에서
+ * 미리 받아 insert 가 JDBC 배치로 묶이는 효과가 가장 크게 드러난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ArticleInsertBenchmark {
+
+    private static final int BULK_SIZE = 100;
+    private static final Long ARTICLE_ID = 1L;
+
+    private ConfigurableApplicationContext context;
+    private ArticleService articleService;
+    private ArticleCommentService articleCommentService;
+    private TransactionTemplate transactionTemplate;
+    private UserAccountDto userAccountDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectBoardApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;mode=mysql",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0",
+                        "KAKAO_OAUTH_CLIENT_ID=benchmark",
+                        "KAKAO_OAUTH_CLIENT_SECRET=benchmark",
+                        "logging.level.root=warn",
+                        "logging.level.com.yoon.projectboard=warn",
+                        "logging.level.org.springframework.web.servlet=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+                )
+                .run();
+        articleService = context.getBean(ArticleService.class);
+        articleCommentService = context.getBean(ArticleCommentService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        // 작성자(createdBy) 감사 정보를 채우기 위해 모든 벤치마크 스레드가 같은 인증 정보를 보게 한다.
+        userAccountDto = UserAccountDto.of("yoon", "pw", "yoon@mail.com", "yoon", null);
+        BoardPrincipal principal = BoardPrincipal.from(userAccountDto);
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public void saveArticle() {
+        articleService.saveArticle(newArticle());
+    }
+
+    @Benchmark
+    public void saveArticleComment() {
+        articleCommentService.saveArticleComment(newComment());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public void saveArticlesInOneTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < BULK_SIZE; i++) {
+                articleService.saveArticle(newArticle());
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public void saveArticleCommentsInOneTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < BULK_SIZE; i++) {
+                articleCommentService.saveArticleComment(newComment());
+            }
+        });
+    }
+
+    private ArticleDto newArticle() {
+        return ArticleDto.of(userAccountDto, "벤치마크 게시글", "저장 처리량 측정용 본문입니다. #benchmark #spring #성능", Set.of());
+    }
+
+    private ArticleCommentDto newComment() {
+        return ArticleCommentDto.of(ARTICLE_ID, userAccountDto, "저장 처리량 측정용 댓글입니다.");
+    }
+}
@@ -0,0 +1,69 @@
+package com.yoon.projectboard.benchmark;
+
+import com.yoon.projectboard.service.HashtagParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 본문 해시태그 추출: 정규식 구현(이전 {@code HashtagService.parseHashtagNames})과 {@link HashtagParser} 비교.
+ * <p>
+ * 본문은 한글/영문 문장 사이에 해시태그를 섞어 고정 시드로 만든다. 할당량까지 보려면 {@code -prof gc}로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HashtagParserBenchmark {
+
+    private static final String[] WORDS = {
+            "오늘", "스프링", "부트로", "게시판을", "만들면서", "배운", "내용을", "정리합니다.", "쿼리", "성능이",
+            "생각보다", "중요하네요,", "the", "query", "plan", "looks", "fine", "but", "latency", "spikes", "again...",
+            "(참고)", "https://example.com/articles?page=2", "😀", "ㅋㅋㅋ", "100%", "e-mail:", "yoon@mail.com"
+    };
+    private static final String[] HASHTAGS = {
+            "java", "spring", "springboot", "jpa", "querydsl", "스프링", "자바", "성능", "게시판", "trouble_shooting", "h2"
+    };
+
+    @Param({"500", "10000"})
+    private int contentLength;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(contentLength + 32);
+        while (builder.length() < contentLength) {
+            if (random.nextInt(12) == 0) {
+                builder.append('#').append(HASHTAGS[random.nextInt(HASHTAGS.length)]);
+            } else {
+                builder.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            builder.append(random.nextInt(8) == 0 ? '\n' : ' ');
+        }
+        content = builder.substring(0, contentLength);
+    }
+
+    @Benchmark
+    public Set<String> regex() {
+        Pattern pattern = Pattern.compile("#[\\w가-핳]+");
+        Matcher matcher = pattern.matcher(content.strip());
+        Set<String> result = new HashSet<>();
+
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+
+        return Set.copyOf(result);
+    }
+
+    @Benchmark
+    public Set<String> scanner() {
+        return HashtagParser.parse(content);
+    }
+}
@@ -0,0 +1,87 @@
+package com.yoon.projectboard.benchmark;
+
+import com.yoon.projectboard.ProjectBoardApplication;
+import com.yoon.projectboard.dto.security.BoardPrincipal;
+import com.yoon.projectboard.service.OAuthAccountService;
+import com.yoon.projectboard.service.UserAccountService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OAuth 로그인 뒤 게시판 계정을 찾거나 만드는 처리량. (카카오 사용자 정보 요청은 빼고 잰다)
+ * <p>
+ * {@code returningUserWithEagerDummyPassword}는 이전 방식(로그인마다 bcrypt 더미 패스워드를 만든 뒤 계정을 조회)을 그대로 재현한 기준선이고,
+ * {@code returningUser}는 {@link OAuthAccountService#provision}으로 이미 가입한 사용자를 처리한다. 둘의 차이가 bcrypt 한 번의 비용이다.
+ * {@code firstLogin}은 매번 새 사용자로 가입 경로(더미 패스워드 + insert)를 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+public class OAuthLoginBenchmark {
+
+    private static final String RETURNING_USERNAME = "kakao_benchmark";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private OAuthAccountService oAuthAccountService;
+    private UserAccountService userAccountService;
+    private PasswordEncoder passwordEncoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectBoardApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:oauth-benchmark;mode=mysql",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0",
+                        "KAKAO_OAUTH_CLIENT_ID=benchmark",
+                        "KAKAO_OAUTH_CLIENT_SECRET=benchmark",
+                        "logging.level.root=warn",
+                        "logging.level.com.yoon.projectboard=warn",
+                        "logging.level.org.springframework.web.servlet=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+                )
+                .run();
+        oAuthAccountService = context.getBean(OAuthAccountService.class);
+        userAccountService = context.getBean(UserAccountService.class);
+        passwordEncoder = context.getBean(PasswordEncoder.class);
+
+        oAuthAccountService.provision(RETURNING_USERNAME, "kakao-benchmark@mail.com", "benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BoardPrincipal returningUserWithEagerDummyPassword() {
+        String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
+        return userAccountService.searchUser(RETURNING_USERNAME)
+                .map(BoardPrincipal::from)
+                .orElseThrow(() -> new IllegalStateException(dummyPassword));
+    }
+
+    @Benchmark
+    public BoardPrincipal returningUser() {
+        return oAuthAccountService.provision(RETURNING_USERNAME, "kakao-benchmark@mail.com", "benchmark");
+    }
+
+    @Benchmark
+    public BoardPrincipal firstLogin() {
+        String username = "kakao_" + sequence.incrementAndGet();
+        return oAuthAccountService.provision(username, username + "@mail.com", "benchmark");
+    }
+}
@@ -1,8 +1,24 @@
 package com.yoon.projectboard;
 
+import com.yoon.projectboard.config.ExportConfig.ExportProperties;
+import com.yoon.projectboard.config.ImportConfig.ImportProperties;
+import com.yoon.projectboard.dto.ImportResultDto;
+import com.yoon.projectboard.service.exporter.ArticleExportService;
+import com.yoon.projectboard.service.importer.ArticleImportService;
+import com.yoon.projectboard.service.importer.ImportFormat;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan
@@ -12,4 +28,47 @@ public class ProjectBoardApplication {
         SpringApplication.run(ProjectBoardApplication.class, args);
     }
 
+    /**
+     * 대량 가져오기 CLI. {@code --board.import.file=boards.ndjson} 으로 실행하면 파일을 가져오고 종료한다.
+     * 중간에 멈췄으면 같은 작업 ID({@code --board.import.job-id}, 기본값: 파일 이름)로 다시 실행해 이어서 가져온다.
+     */
+    @Bean
+    @ConditionalOnProperty("board.import.file")
+    public ApplicationRunner articleImportRunner(
+            ArticleImportService articleImportService,
+            ImportProperties importProperties,
+            ConfigurableApplicationContext context
+    ) {
+        return args -> {
+            Path file = Path.of(importProperties.getFile());
+            String jobId = importProperties.getJobId() == null ? file.getFileName().toString() : importProperties.getJobId();
+
+            ImportResultDto result;
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                result = articleImportService.importRecords(jobId, ImportFormat.fromFileName(file.toString()), inputStream);
+            }
+            int exitCode = result.completed() ? 0 : 1;
+            System.exit(SpringApplication.exit(context, () -> exitCode));
+        };
+    }
+
+    /**
+     * 내보내기 CLI. {@code --board.export.file=boards.ndjson.gz} 으로 실행하면 게시판 전체를 파일로 내보내고 종료한다.
+     */
+    @Bean
+    @ConditionalOnProperty("board.export.file")
+    public ApplicationRunner articleExportRunner(
+            ArticleExportService articleExportService,
+            ExportProperties exportProperties,
+            ConfigurableApplicationContext context
+    ) {
+        return args -> {
+            Path file = Path.of(exportProperties.getFile());
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024)) {
+                articleExportService.exportArticles(outputStream, file.toString().endsWith(".gz"));
+            }
+            System.exit(SpringApplication.exit(context, () -> 0));
+        };
+    }
+
 }
@@ -0,0 +1,105 @@
+package com.yoon.projectboard.conditional;
+
+import com.yoon.projectboard.dto.ArticleVersionDto;
+import com.yoon.projectboard.service.ArticleCommentService;
+import com.yoon.projectboard.service.ArticleService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Data REST 단건 조회(GET {@code /api/articles/{id}}, {@code /api/articleComments/{id}})의 조건부 GET.
+ * <p>
+ * 엔티티를 읽기 전에 수정일시만 조회해 {@code If-None-Match}/{@code If-Modified-Since}와 비교하고, 그대로면 바로 304로 답한다.
+ * 바뀌었으면 ETag 와 Last-Modified 를 달아 Data REST 로 넘긴다(Data REST 는 {@code @Version}이 없는 엔티티에 ETag 를 주지 않는다).
+ * <p>
+ * 게시글 리소스에는 댓글이 들어가지 않는 대신 {@code views}(DB에 반영된 조회수)가 들어가므로, ETag 는 게시글 수정일시와 조회수로 만든다.
+ * 조회수는 수정일시를 바꾸지 않으므로 게시글은 Last-Modified 를 주지 않고 ETag 로만 비교한다.
+ */
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final Pattern RESOURCE_PATH = Pattern.compile("/api/(articles|articleComments)/(\\d+)");
+
+    private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+    private final Counter notModified;
+    private final Counter modified;
+
+    public ConditionalGetFilter(ArticleService articleService, ArticleCommentService articleCommentService, MeterRegistry meterRegistry) {
+        this.articleService = articleService;
+        this.articleCommentService = articleCommentService;
+        this.notModified = requestCounter("not_modified", meterRegistry);
+        this.modified = requestCounter("modified", meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Matcher matcher = RESOURCE_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        Optional<ResourceVersion> version = matcher.matches()
+                ? versionOf(matcher.group(1), Long.valueOf(matcher.group(2)))
+                : Optional.empty();
+        if (version.isEmpty()) {
+            filterChain.doFilter(request, response);        // 없는 리소스는 Data REST 가 404로 답한다
+            return;
+        }
+
+        String etag = "W/\"" + matcher.group(1) + "-" + matcher.group(2) + "-" + version.get().tag() + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());     // 시큐리티 기본값(no-store) 대신
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        boolean notModifiedResponse = version.get().lastModified() == null
+                ? webRequest.checkNotModified(etag)
+                : webRequest.checkNotModified(etag, version.get().lastModified());
+        if (notModifiedResponse) {
+            notModified.increment();
+            return;
+        }
+
+        modified.increment();
+        filterChain.doFilter(request, response);
+    }
+
+    private Optional<ResourceVersion> versionOf(String resource, Long id) {
+        if (resource.equals("articles")) {
+            return articleService.getArticleVersion(id).map(version -> new ResourceVersion(
+                    Long.toHexString(ArticleVersionDto.toEpochMilli(version.articleModifiedAt())) + "-" + version.views(),
+                    null
+            ));
+        }
+        return articleCommentService.getArticleCommentModifiedAt(id).map(modifiedAt -> {
+            long lastModified = ArticleVersionDto.toEpochMilli(modifiedAt);
+            return new ResourceVersion(Long.toHexString(lastModified), lastModified);
+        });
+    }
+
+    private static Counter requestCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("board.conditional-get.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param tag ETag 에 들어가는 리소스 버전
+     * @param lastModified Last-Modified 로 비교할 수 없는 리소스면 {@code null}
+     */
+    private record ResourceVersion(String tag, Long lastModified) {
+    }
+}
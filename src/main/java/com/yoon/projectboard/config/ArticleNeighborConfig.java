@@ -0,0 +1,28 @@
+package com.yoon.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ArticleNeighborConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.article-neighbor")
+    public static class ArticleNeighborProperties {
+        /**
+         * 이전/다음 게시글을 캐시하는 최대 게시글 수
+         */
+        private final long maximumSize;
+        /**
+         * 캐시한 이전/다음 게시글을 다시 DB에서 찾기까지의 시간
+         */
+        private final Duration ttl;
+    }
+}
@@ -0,0 +1,29 @@
+package com.yoon.projectboard.config;
+
+import com.yoon.projectboard.conditional.ConditionalGetFilter;
+import com.yoon.projectboard.service.ArticleCommentService;
+import com.yoon.projectboard.service.ArticleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Data REST 단건 조회의 조건부 GET(ETag / Last-Modified). 게시글 상세 화면은 {@code ArticleController}가 직접 처리한다.
+ */
+@Configuration
+public class ConditionalGetConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConditionalGetFilter> conditionalGetFilter(
+            ArticleService articleService,
+            ArticleCommentService articleCommentService,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<ConditionalGetFilter> registration = new FilterRegistrationBean<>(
+                new ConditionalGetFilter(articleService, articleCommentService, meterRegistry)
+        );
+        registration.addUrlPatterns("/api/articles/*", "/api/articleComments/*");
+        return registration;
+    }
+}
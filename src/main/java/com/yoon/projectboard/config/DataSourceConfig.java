@@ -0,0 +1,163 @@
+package com.yoon.projectboard.config;
+
+import com.yoon.projectboard.datasource.ReadWriteRoutingDataSource;
+import com.yoon.projectboard.datasource.ReadYourWritesFilter;
+import com.yoon.projectboard.datasource.ReplicaDataSource;
+import com.yoon.projectboard.datasource.ReplicaSelection;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주 DB + 읽기 전용 복제본 라우팅. {@code board.datasource.routing.enabled=true}일 때만 켜지고,
+ * 꺼져 있으면 스프링 부트 기본 {@code spring.datasource} 하나만 쓴다.
+ * <p>
+ * 주 DB는 {@code spring.datasource}(풀 설정은 {@code spring.datasource.hikari})로, 복제본은 {@code board.datasource.routing.replicas}로 만든다.
+ */
+@ConditionalOnProperty(name = "board.datasource.routing.enabled", havingValue = "true")
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * 스프링 부트 기본 설정과 같이 {@code spring.datasource.hikari.*}(maximum-pool-size 등)를 주 DB 풀에 적용한다.
+     * 풀 이름은 바인딩 전에 정하므로 {@code spring.datasource.hikari.pool-name}으로 바꿀 수도 있다.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return primary;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            RoutingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        if (properties.getReplicas() == null || properties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("board.datasource.routing.replicas 에 복제본을 하나 이상 지정해야 합니다.");
+        }
+
+        List<ReplicaDataSource> replicas = properties.getReplicas().stream()
+                .map(replica -> new ReplicaDataSource(replica.getName(), replicaPool(replica, properties.getConnectionTimeout())))
+                .toList();
+        return new ReadWriteRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                properties.getSelection(),
+                properties.getEjectionThreshold(),
+                properties.getHealthCheckTimeout(),
+                meterRegistry
+        );
+    }
+
+    /**
+     * 쓰기를 커밋한 사용자의 다음 요청들을 잠시 주 DB에서 읽게 한다. 다른 필터(시큐리티 등)가 DB를 읽기 전에 고정해야 하므로 가장 먼저 실행한다.
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            ReadWriteRoutingDataSource routingDataSource,
+            RoutingProperties properties
+    ) {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(properties.getReadYourWritesWindow(), Clock.systemUTC());
+        routingDataSource.setWriteListener(filter::markWritten);
+
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * 트랜잭션이 읽기 전용으로 표시된 뒤, 첫 쿼리를 실행할 때 주 DB/복제본을 고르도록 늦게 커넥션을 받는다.
+     */
+    @Primary
+    @Bean
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource replicaPool(RoutingProperties.Replica replica, Duration connectionTimeout) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(replica.getName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());      // 죽은 복제본에서 오래 기다리지 않고 다른 경로로 넘어가게
+        dataSource.setInitializationFailTimeout(-1);                       // 복제본이 내려가 있어도 기동은 한다
+        return dataSource;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.datasource.routing")
+    public static class RoutingProperties {
+        /**
+         * 읽기 전용 트랜잭션을 복제본으로 보낼지 여부
+         */
+        private final boolean enabled;
+        /**
+         * 복제본 선택 방식 (round-robin, least-loaded)
+         */
+        private final ReplicaSelection selection;
+        /**
+         * 복제본 상태 검사 주기
+         */
+        private final Duration healthCheckInterval;
+        /**
+         * 복제본 상태 검사에서 커넥션이 살아 있는지 기다리는 시간
+         */
+        private final Duration healthCheckTimeout;
+        /**
+         * 복제본 풀에서 커넥션을 기다리는 최대 시간. 넘으면 그 요청은 다른 경로로 읽는다.
+         */
+        private final Duration connectionTimeout;
+        /**
+         * 복제본을 읽기 경로에서 빼기까지 연속으로 커넥션을 받지 못한(상태 검사 실패 포함) 횟수.
+         * 풀이 잠깐 가득 찬 것만으로 복제본을 빼지 않도록 1보다 크게 잡는다.
+         */
+        private final int ejectionThreshold;
+        /**
+         * 쓰기를 커밋한 사용자의 읽기를 주 DB로 고정하는 시간. 복제 지연보다 길게 잡는다.
+         */
+        private final Duration readYourWritesWindow;
+        /**
+         * 복제본 목록
+         */
+        private final List<Replica> replicas;
+
+        @RequiredArgsConstructor
+        @Getter
+        @ConstructorBinding
+        public static class Replica {
+            /**
+             * 지표/로그에 쓰는 이름 (route 태그)
+             */
+            private final String name;
+            private final String url;
+            private final String username;
+            private final String password;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.yoon.projectboard.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.yoon.projectboard.domain.constant.CacheRegion;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 사용자 계정/해시태그 엔티티의 2차 캐시(로컬, JCache + Caffeine).
+ * <p>
+ * 영역마다 최대 항목 수와 만료 시간을 두고 미리 만든다. 만들지 않은 영역을 요구하면 기동에 실패하게 해서 설정 누락을 바로 드러낸다.
+ * 적중/실패 수는 영역별 {@code cache.gets{cache=..., result=hit|miss}} 지표로 actuator 에 노출한다.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        // 테스트처럼 한 JVM 에 컨텍스트가 여럿 떠도 캐시를 섞어 쓰지 않도록 컨텍스트마다 따로 만든다
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("board-entity-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        cacheManager.createCache(CacheRegion.USER_ACCOUNT, regionOf(properties.getUserAccountMaximumSize(), properties.getUserAccountTtl()));
+        cacheManager.createCache(CacheRegion.HASHTAG, regionOf(properties.getHashtagMaximumSize(), properties.getHashtagTtl()));
+        cacheManager.createCache(CacheRegion.HASHTAG_NATURAL_ID, regionOf(properties.getHashtagMaximumSize(), properties.getHashtagTtl()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return hibernateProperties -> hibernateProperties.putAll(Map.of(
+                AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+                AvailableSettings.CACHE_REGION_FACTORY, "jcache",
+                ConfigSettings.CACHE_MANAGER, entityCacheManager,
+                ConfigSettings.MISSING_CACHE_STRATEGY, "fail"
+        ));
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> entityCacheManager.getCacheNames().forEach(cacheName ->
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(cacheName)));
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionOf(long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.entity-cache")
+    public static class EntityCacheProperties {
+        /**
+         * 캐시에 두는 최대 사용자 계정 수
+         */
+        private final long userAccountMaximumSize;
+        /**
+         * 사용자 계정을 캐시에 넣은 뒤 만료까지의 시간
+         */
+        private final Duration userAccountTtl;
+        /**
+         * 캐시에 두는 최대 해시태그 수 (이름 -> ID 영역도 같은 크기)
+         */
+        private final long hashtagMaximumSize;
+        /**
+         * 해시태그를 캐시에 넣은 뒤 만료까지의 시간
+         */
+        private final Duration hashtagTtl;
+    }
+}
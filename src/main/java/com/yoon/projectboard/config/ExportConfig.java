@@ -0,0 +1,30 @@
+package com.yoon.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExportConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.export")
+    public static class ExportProperties {
+        /**
+         * 게시글 커서가 DB에서 한 번에 받아 오는 행 수 (JDBC fetch size)
+         */
+        private final int fetchSize;
+        /**
+         * 댓글/해시태그를 한 번에 조회하는 게시글 수
+         */
+        private final int batchSize;
+        /**
+         * 기동 시 내보낼 파일 경로. 지정하면 내보내기만 하고 애플리케이션을 종료한다. (.gz 로 끝나면 gzip 압축)
+         */
+        private final String file;
+    }
+}
@@ -0,0 +1,34 @@
+package com.yoon.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ImportConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.import")
+    public static class ImportProperties {
+        /**
+         * 한 트랜잭션에 쓰는 레코드 수 (게시글 경계에서만 끊으므로 댓글 수만큼 넘을 수 있다)
+         */
+        private final int chunkSize;
+        /**
+         * 해시태그 이름 -> ID 캐시의 최대 항목 수
+         */
+        private final long hashtagCacheSize;
+        /**
+         * 기동 시 가져올 파일 경로. 지정하면 가져오기만 하고 애플리케이션을 종료한다.
+         */
+        private final String file;
+        /**
+         * 파일 가져오기 작업 ID (체크포인트 키). 비우면 파일 이름을 쓴다.
+         */
+        private final String jobId;
+    }
+}
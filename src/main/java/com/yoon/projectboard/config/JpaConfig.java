@@ -1,6 +1,7 @@
 package com.yoon.projectboard.config;
 
 import com.yoon.projectboard.dto.security.BoardPrincipal;
+import com.yoon.projectboard.service.PrincipalCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -15,13 +16,18 @@ import java.util.Optional;
 @Configuration
 public class JpaConfig {
 
+    /**
+     * 인증 주체가 {@link BoardPrincipal}이면 그대로, 아니면(다른 인증 방식) 이름으로 {@link PrincipalCache}에서 찾는다.
+     * 게시판 사용자가 아니면 작성자를 채우지 않는다.
+     */
     @Bean
-    public AuditorAware<String> auditorAware() {
+    public AuditorAware<String> auditorAware(PrincipalCache principalCache) {
         return () -> Optional.ofNullable(SecurityContextHolder.getContext())    //시큐리티에 대한 정보를 들고 있음
                 .map(SecurityContext::getAuthentication)
                 .filter(Authentication::isAuthenticated)
-                .map(Authentication::getPrincipal)
-                .map(BoardPrincipal.class::cast)
+                .flatMap(authentication -> authentication.getPrincipal() instanceof BoardPrincipal boardPrincipal
+                        ? Optional.of(boardPrincipal)
+                        : principalCache.get(authentication.getName()))
                 .map(BoardPrincipal::getUsername);
     }
 }
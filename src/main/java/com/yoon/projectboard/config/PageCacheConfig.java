@@ -0,0 +1,84 @@
+package com.yoon.projectboard.config;
+
+import com.yoon.projectboard.pagecache.PageCache;
+import com.yoon.projectboard.pagecache.PageCacheFilter;
+import com.yoon.projectboard.pagecache.PageCachePurger;
+import com.yoon.projectboard.pagecache.PageCacheTagInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 로그인하지 않은 사용자의 게시판 화면 HTML 캐시. {@code board.page-cache.enabled=true}일 때만 켜진다.
+ */
+@ConditionalOnProperty(name = "board.page-cache.enabled", havingValue = "true")
+@Configuration
+public class PageCacheConfig {
+
+    @Bean
+    public PageCache pageCache(PageCacheProperties properties, MeterRegistry meterRegistry) {
+        return new PageCache(properties.getFreshTtl(), properties.getStaleTtl(), properties.getMaximumSize(), meterRegistry);
+    }
+
+    @Bean
+    public PageCachePurger pageCachePurger(PageCache pageCache, MeterRegistry meterRegistry) {
+        return new PageCachePurger(pageCache, Clock.systemUTC(), meterRegistry);
+    }
+
+    /**
+     * 인증 정보를 보고 캐시 여부를 정하므로 시큐리티 필터 바로 뒤에서 실행한다.
+     */
+    @Bean
+    public FilterRegistrationBean<PageCacheFilter> pageCacheFilter(PageCache pageCache, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<PageCacheFilter> registration = new FilterRegistrationBean<>(
+                new PageCacheFilter(pageCache, Clock.systemUTC(), meterRegistry)
+        );
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    @Bean
+    public WebMvcConfigurer pageCacheTagConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new PageCacheTagInterceptor()).addPathPatterns("/articles", "/articles/**");
+            }
+        };
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.page-cache")
+    public static class PageCacheProperties {
+        /**
+         * 로그인하지 않은 사용자의 게시판 화면을 캐시할지 여부
+         */
+        private final boolean enabled;
+        /**
+         * 렌더링한 페이지를 다시 렌더링하지 않고 그대로 내주는 시간
+         */
+        private final Duration freshTtl;
+        /**
+         * 신선하지 않은(만료/무효화된) 페이지를 한 요청이 다시 렌더링하는 동안 대신 내줄 수 있는 시간
+         */
+        private final Duration staleTtl;
+        /**
+         * 캐시에 두는 최대 페이지 수
+         */
+        private final long maximumSize;
+    }
+}
@@ -0,0 +1,43 @@
+package com.yoon.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class PaginationConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.pagination")
+    public static class PaginationProperties {
+        /**
+         * 목록 페이지의 전체 개수 계산 방식
+         */
+        private final CountStrategy countStrategy;
+        /**
+         * 검색 조건별 전체 개수 캐시 유지 시간
+         */
+        private final Duration countCacheTtl;
+        /**
+         * FIRST_PAGES_EXACT 전략에서 정확한 개수를 계산하는 앞쪽 페이지 수
+         */
+        private final int exactCountPages;
+    }
+
+    public enum CountStrategy {
+        /** 매 요청마다 count 쿼리 실행 */
+        EXACT,
+        /** 검색 조건별 count 결과를 TTL 동안 캐시하고 게시글 변경 시 무효화 */
+        CACHED,
+        /** count 쿼리 없이 다음 페이지 존재 여부만 확인 */
+        SLICE,
+        /** 앞쪽 페이지만 캐시된 정확한 개수를 사용하고, 그 뒤로는 캐시가 없으면 다음 페이지 존재 여부만 확인 */
+        FIRST_PAGES_EXACT
+    }
+}
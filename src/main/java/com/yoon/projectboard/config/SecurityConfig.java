@@ -1,9 +1,13 @@
 package com.yoon.projectboard.config;
 
-import com.yoon.projectboard.dto.security.BoardPrincipal;
 import com.yoon.projectboard.dto.security.KakaoOAuth2Response;
-import com.yoon.projectboard.service.UserAccountService;
+import com.yoon.projectboard.service.OAuthAccountService;
+import com.yoon.projectboard.service.PrincipalCache;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,7 +22,7 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
 
-import java.util.UUID;
+import java.time.Duration;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
@@ -38,6 +42,7 @@ public class SecurityConfig {
                                 HttpMethod.GET,
                                 "/",
                                 "/articles",
+                                "/articles/hot",
                                 "/articles/search-hashtag"
                         ).permitAll()
                         .anyRequest().authenticated()
@@ -61,10 +66,9 @@ public class SecurityConfig {
 //    }
 
     @Bean
-    public UserDetailsService userDetailsService(UserAccountService userAccountService) {
-        return username -> userAccountService
-                .searchUser(username)
-                .map(BoardPrincipal::from)
+    public UserDetailsService userDetailsService(PrincipalCache principalCache) {
+        return username -> principalCache
+                .get(username)
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다. - username: " + username));
 
     }
@@ -77,14 +81,12 @@ public class SecurityConfig {
      * <p>
      * TODO: 카카오 도메인에 결합되어 있는 코드. 확장을 고려하면 별도 인증 처리 서비스 클래스로 분리하는 것이 좋지만, 현재 다른 OAuth 인증 플랫폼을 사용할 예정이 없어 이렇게 마무리한다.
      *
-     * @param userAccountService  게시판 서비스의 사용자 계정을 다루는 서비스 로직
-     * @param passwordEncoder 패스워드 암호화 도구
+     * @param oAuthAccountService OAuth 로그인 사용자의 게시판 계정을 찾거나 만드는 서비스 로직
      * @return {@link OAuth2UserService} OAuth2 인증 사용자 정보를 읽어들이고 처리하는 서비스 인스턴스 반환
      */
     @Bean
     public OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService(
-            UserAccountService userAccountService,
-            PasswordEncoder passwordEncoder
+            OAuthAccountService oAuthAccountService
     ) {
         final DefaultOAuth2UserService delegate = new DefaultOAuth2UserService();
 
@@ -95,21 +97,8 @@ public class SecurityConfig {
             String registrationId = userRequest.getClientRegistration().getRegistrationId();    //"kakao"
             String providerId = String.valueOf(kakaoResponse.id());
             String username = registrationId + "_" + providerId;
-            String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
 
-            return userAccountService.searchUser(username)
-                    .map(BoardPrincipal::from)
-                    .orElseGet(() ->
-                            BoardPrincipal.from(
-                                    userAccountService.saveUser(
-                                            username,
-                                            dummyPassword,
-                                            kakaoResponse.email(),
-                                            kakaoResponse.nickname(),
-                                            null
-                                    )
-                            )
-                    );
+            return oAuthAccountService.provision(username, kakaoResponse.email(), kakaoResponse.nickname());
         };
     }
 
@@ -117,4 +106,19 @@ public class SecurityConfig {
     public PasswordEncoder passwordEncoder() {
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.principal-cache")
+    public static class PrincipalCacheProperties {
+        /**
+         * 캐시한 인증 주체(없는 사용자 포함)를 다시 DB에서 읽기까지의 시간
+         */
+        private final Duration ttl;
+        /**
+         * 캐시에 두는 최대 사용자 수
+         */
+        private final long maximumSize;
+    }
 }
@@ -0,0 +1,40 @@
+package com.yoon.projectboard.config;
+
+import com.yoon.projectboard.service.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight singleFlight(SingleFlightProperties properties, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new SingleFlight(properties, readOnlyTransaction, meterRegistry);
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.single-flight")
+    public static class SingleFlightProperties {
+        /**
+         * 같은 키의 동시 조회를 하나로 합칠지 여부. 끄면 요청마다 직접 조회한다.
+         */
+        private final boolean enabled;
+        /**
+         * 합쳐진 조회를 기다리는 최대 시간. 넘으면 직접 조회한다.
+         */
+        private final Duration maxWait;
+    }
+}
@@ -0,0 +1,40 @@
+package com.yoon.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class TrendingConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.trending")
+    public static class TrendingProperties {
+        /**
+         * 점수를 모으는 시간 구간 하나의 길이
+         */
+        private final Duration bucketSize;
+        /**
+         * 점수에 포함하는 최근 구간 수 (윈도우 길이 = bucketSize * bucketCount)
+         */
+        private final int bucketCount;
+        /**
+         * 메모리에 유지하는 인기 게시글 수
+         */
+        private final int topSize;
+        /**
+         * 상세 조회 한 번의 가중치
+         */
+        private final long viewWeight;
+        /**
+         * 댓글 작성 한 번의 가중치
+         */
+        private final long commentWeight;
+    }
+}
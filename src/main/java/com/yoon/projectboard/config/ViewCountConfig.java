@@ -0,0 +1,28 @@
+package com.yoon.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ViewCountConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.view-count")
+    public static class ViewCountProperties {
+        /**
+         * 메모리에 모은 조회수를 DB에 반영하는 주기
+         */
+        private final Duration flushInterval;
+        /**
+         * 반영을 기다리는 게시글 수의 상한. 넘으면 새 게시글의 조회는 모으지 않고 바로 DB에 반영한다.
+         */
+        private final int maximumSize;
+    }
+}
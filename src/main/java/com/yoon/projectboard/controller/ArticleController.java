@@ -2,23 +2,36 @@ package com.yoon.projectboard.controller;
 
 import com.yoon.projectboard.domain.constant.FormStatus;
 import com.yoon.projectboard.domain.constant.SearchType;
+import com.yoon.projectboard.dto.ArticleCursor;
+import com.yoon.projectboard.dto.ArticleNeighborsDto;
+import com.yoon.projectboard.dto.ArticleVersionDto;
 import com.yoon.projectboard.dto.request.ArticleRequest;
+import com.yoon.projectboard.dto.response.ArticleNeighborsResponse;
 import com.yoon.projectboard.dto.response.ArticleResponse;
+import com.yoon.projectboard.dto.response.ArticleSummaryResponse;
 import com.yoon.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.yoon.projectboard.dto.response.CursorPaginationBar;
 import com.yoon.projectboard.dto.security.BoardPrincipal;
 import com.yoon.projectboard.service.ArticleService;
 import com.yoon.projectboard.service.PaginationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+
+import javax.servlet.http.HttpServletResponse;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
@@ -35,7 +48,7 @@ public class ArticleController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap modelMap
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+        Page<ArticleSummaryResponse> articles = articleService.searchArticleSummaries(searchType, searchValue, pageable).map(ArticleSummaryResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         modelMap.addAttribute("articles", articles);
@@ -46,12 +59,63 @@ public class ArticleController {
         return "articles/index";
     }
 
+    /**
+     * 커서 기반 게시판 목록. {@code cursor} 파라미터가 있으면(빈 값이면 첫 페이지) 이 모드로 동작한다.
+     */
+    @GetMapping(params = "cursor")
+    public String articlesByCursor(
+            @RequestParam(required = false) SearchType searchType,
+            @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            ModelMap modelMap
+    ) {
+        ArticleCursor articleCursor = ArticleCursor.from(cursor);
+        Slice<ArticleSummaryResponse> articles = articleService.searchArticleSummaries(searchType, searchValue, articleCursor, size)
+                .map(ArticleSummaryResponse::from);
+        CursorPaginationBar cursorPaginationBar = paginationService.getCursorPaginationBar(
+                articleCursor,
+                articles,
+                article -> ArticleCursor.after(article.createdAt(), article.id())
+        );
+
+        modelMap.addAttribute("articles", articles);
+        modelMap.addAttribute("cursorPaginationBar", cursorPaginationBar);
+        modelMap.addAttribute("searchTypes", SearchType.values());
+        modelMap.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+
+        return "articles/index";
+    }
+
+    /**
+     * 인기 게시글 목록. 최근 조회/댓글 점수 순이며 한 페이지로만 보여 준다.
+     */
+    @GetMapping("/hot")
+    public String hotArticles(@RequestParam(defaultValue = "10") int size, ModelMap modelMap) {
+        Page<ArticleSummaryResponse> articles = articleService.getHotArticles(size).map(ArticleSummaryResponse::from);
+        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(0, articles.getTotalPages());
+
+        modelMap.addAttribute("articles", articles);
+        modelMap.addAttribute("paginationBarNumbers", barNumbers);
+        modelMap.addAttribute("searchTypes", SearchType.values());
+        modelMap.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+
+        return "articles/index";
+    }
+
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap modelMap) {
+    public String article(@PathVariable Long articleId, ServletWebRequest webRequest, ModelMap modelMap) {
+        ArticleNeighborsDto neighbors = articleService.getArticleNeighbors(articleId);
+        Optional<ArticleVersionDto> version = articleService.getArticleVersion(articleId);
+        if (version.isPresent() && isNotModified(version.get(), neighbors, webRequest)) {
+            articleService.recordArticleView(articleId);
+            return null;
+        }
+
         ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
         modelMap.addAttribute("article", article);
         modelMap.addAttribute("articleComments", article.articleCommentsResponse());
-        modelMap.addAttribute("totalCount", articleService.getArticleCount());
+        modelMap.addAttribute("neighbors", ArticleNeighborsResponse.from(neighbors));
         modelMap.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
         return "articles/detail";
@@ -114,4 +178,25 @@ public class ArticleController {
         articleService.deleteArticle(articleId, boardPrincipal.getUsername());
         return "redirect:/articles";
     }
+
+    /**
+     * 조건부 GET. 게시글/댓글 버전이 그대로면 본문을 읽지 않고 304로 답한다.
+     * 화면에 로그인한 사용자용 버튼과 CSRF 토큰, 이전/다음 게시글 링크가 들어가므로 사용자, 세션, 이웃 게시글도 ETag 에 넣는다.
+     * 조회수는 ETag 에 넣지 않는다(조회할 때마다 바뀌므로 넣으면 304가 나갈 일이 없다).
+     * <p>
+     * 시큐리티 기본 헤더({@code no-store})는 브라우저가 페이지를 저장하지 못하게 하므로, 저장은 하되 매번 확인하도록 {@code no-cache}를 직접 준다.
+     */
+    private static boolean isNotModified(ArticleVersionDto version, ArticleNeighborsDto neighbors, ServletWebRequest webRequest) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        String etag = version.etag(
+                webRequest.getRemoteUser(),
+                webRequest.getSessionId(),
+                neighbors.previousArticleId(),
+                neighbors.nextArticleId()
+        );
+        return webRequest.checkNotModified(etag, version.lastModified());
+    }
 }
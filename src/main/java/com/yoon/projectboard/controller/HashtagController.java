@@ -0,0 +1,32 @@
+package com.yoon.projectboard.controller;
+
+import com.yoon.projectboard.dto.response.HashtagSuggestionResponse;
+import com.yoon.projectboard.service.search.HashtagAutocomplete;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/hashtags")
+@RestController
+public class HashtagController {
+
+    private final HashtagAutocomplete hashtagAutocomplete;
+
+    /**
+     * 해시태그 입력 자동 완성. 자동 완성 트라이가 준비되기 전에는 빈 목록을 반환한다.
+     */
+    @GetMapping("/autocomplete")
+    public List<HashtagSuggestionResponse> autocomplete(
+            @RequestParam(required = false, defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return hashtagAutocomplete.suggest(prefix, size)
+                .map(completions -> completions.stream().map(HashtagSuggestionResponse::from).toList())
+                .orElse(List.of());
+    }
+}
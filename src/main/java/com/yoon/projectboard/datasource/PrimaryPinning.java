@@ -0,0 +1,24 @@
+package com.yoon.projectboard.datasource;
+
+/**
+ * 현재 스레드(요청)의 읽기를 주 DB로 고정하는 표시. 고정되어 있으면 읽기 전용 트랜잭션도 복제본으로 보내지 않는다.
+ */
+public final class PrimaryPinning {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryPinning() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,257 @@
+package com.yoon.projectboard.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 읽기 전용 트랜잭션({@code @Transactional(readOnly = true)})은 복제본으로, 그 밖의 모든 커넥션은 주 DB로 보낸다.
+ * <p>
+ * 트랜잭션 매니저는 읽기 전용 여부를 표시하기 전에 커넥션부터 받으므로, 반드시 {@link LazyConnectionDataSourceProxy}로 감싸서
+ * 첫 쿼리를 실행할 때 커넥션을 고르게 해야 한다.
+ * <p>
+ * 복제본은 {@link ReplicaSelection} 방식으로 고른다. 커넥션을 받지 못하면 그 요청은 다른 복제본으로 다시 시도하고,
+ * 같은 복제본이 {@code ejectionThreshold}번 연속으로 실패하면 뺀다. {@link #checkReplicas()}가 주기적으로 검사해 되살아나면 다시 넣는다.
+ * 정상 복제본이 하나도 없으면 주 DB에서 읽는다.
+ * {@link PrimaryPinning}으로 고정된 요청은 읽기 전용 트랜잭션도 주 DB에서 읽는다.
+ * <p>
+ * 주 DB 커넥션을 쓴 (읽기 전용이 아닌) 트랜잭션이 커밋되면 {@link #setWriteListener 쓰기 리스너}에 알린다.
+ * <p>
+ * 지표: 경로별 커넥션 수/획득 시간 {@code board.datasource.connections{route}}, 복제본 제외 횟수
+ * {@code board.datasource.replica.ejections{route}}, 복제본 상태 {@code board.datasource.replica.healthy{route}}(1/0)와
+ * 사용 중인 커넥션 수 {@code board.datasource.replica.active{route}}
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<ReplicaDataSource> replicas;
+    private final ReplicaSelection selection;
+    private final int ejectionThreshold;
+    private final Duration healthCheckTimeout;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Object writeMark = new Object();
+    private Runnable writeListener;
+
+    private final Timer primaryTimer;
+    private final Map<String, Timer> replicaTimers;
+    private final Map<String, Counter> ejectionCounters;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            List<ReplicaDataSource> replicas,
+            ReplicaSelection selection,
+            int ejectionThreshold,
+            Duration healthCheckTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.ejectionThreshold = Math.max(1, ejectionThreshold);
+        this.healthCheckTimeout = healthCheckTimeout;
+
+        this.primaryTimer = connectionTimer(PRIMARY, meterRegistry);
+        this.replicaTimers = this.replicas.stream().collect(Collectors.toUnmodifiableMap(
+                ReplicaDataSource::getName, replica -> connectionTimer(replica.getName(), meterRegistry)
+        ));
+        this.ejectionCounters = this.replicas.stream().collect(Collectors.toUnmodifiableMap(
+                ReplicaDataSource::getName,
+                replica -> Counter.builder("board.datasource.replica.ejections")
+                        .description("연속으로 커넥션을 받지 못하거나 검사에 실패해 복제본을 뺀 횟수")
+                        .tag("route", replica.getName())
+                        .register(meterRegistry)
+        ));
+        this.replicas.forEach(replica -> {
+            Gauge.builder("board.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .description("복제본이 읽기 경로에 들어가 있는지 (1/0)")
+                    .tag("route", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("board.datasource.replica.active", replica, ReplicaDataSource::activeConnections)
+                    .description("복제본 풀에서 사용 중인 커넥션 수")
+                    .tag("route", replica.getName())
+                    .register(meterRegistry);
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 빠진 복제본은 다시 넣는다. 정상 복제본의 검사 실패는 요청의 커넥션 실패와 같이 센다.
+     */
+    @Scheduled(
+            initialDelayString = "${board.datasource.routing.health-check-interval:PT5S}",
+            fixedDelayString = "${board.datasource.routing.health-check-interval:PT5S}"
+    )
+    public void checkReplicas() {
+        for (ReplicaDataSource replica : replicas) {
+            try (Connection connection = replica.getDataSource().getConnection()) {
+                if (!connection.isValid((int) Math.max(1, healthCheckTimeout.toSeconds()))) {
+                    throw new SQLException("커넥션 검사 실패");
+                }
+                replica.recordSuccess();
+                if (!replica.isHealthy()) {
+                    replica.setHealthy(true);
+                    log.info("복제본을 읽기 경로에 다시 넣습니다. - route: {}", replica.getName());
+                }
+            } catch (SQLException e) {
+                recordFailure(replica, e);
+            }
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋된 뒤, 커밋한 스레드에서 실행한다. (트랜잭션마다 한 번)
+     */
+    public void setWriteListener(Runnable writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    public List<ReplicaDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (ReplicaDataSource replica : replicas) {
+            replica.getDataSource().close();
+        }
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection route(ConnectionSupplier supplier) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite();
+        } else if (!PrimaryPinning.isPinned()) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                ReplicaDataSource replica = select();
+                if (replica == null) {
+                    break;
+                }
+                try {
+                    Connection connection = connect(replicaTimers.get(replica.getName()), replica.getDataSource(), supplier);
+                    replica.recordSuccess();
+                    return connection;
+                } catch (SQLException e) {
+                    recordFailure(replica, e);
+                }
+            }
+        }
+        return connect(primaryTimer, primary, supplier);
+    }
+
+    private void registerWrite() {
+        if (writeListener == null
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(writeMark)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(writeMark, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writeListener.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeMark);
+            }
+        });
+    }
+
+    private ReplicaDataSource select() {
+        List<ReplicaDataSource> healthy = new ArrayList<>(replicas.size());
+        for (ReplicaDataSource replica : replicas) {
+            if (replica.isHealthy()) {
+                healthy.add(replica);
+            }
+        }
+        if (healthy.isEmpty()) {
+            return null;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), healthy.size());
+        if (selection == ReplicaSelection.ROUND_ROBIN) {
+            return healthy.get(start);
+        }
+
+        ReplicaDataSource leastLoaded = healthy.get(start);
+        for (int i = 1; i < healthy.size(); i++) {
+            ReplicaDataSource candidate = healthy.get((start + i) % healthy.size());
+            if (candidate.activeConnections() < leastLoaded.activeConnections()) {
+                leastLoaded = candidate;
+            }
+        }
+        return leastLoaded;
+    }
+
+    private void recordFailure(ReplicaDataSource replica, SQLException e) {
+        int failures = replica.recordFailure();
+        if (failures < ejectionThreshold) {
+            log.debug("복제본 커넥션 실패 - route: {}, 연속 실패: {}/{}, 원인: {}", replica.getName(), failures, ejectionThreshold, e.getMessage());
+            return;
+        }
+        eject(replica, e);
+    }
+
+    private void eject(ReplicaDataSource replica, SQLException e) {
+        if (replica.isHealthy()) {
+            replica.setHealthy(false);
+            ejectionCounters.get(replica.getName()).increment();
+            log.warn("복제본을 읽기 경로에서 뺍니다. - route: {}, 원인: {}", replica.getName(), e.getMessage());
+        }
+    }
+
+    private static Connection connect(Timer timer, DataSource dataSource, ConnectionSupplier supplier) throws SQLException {
+        long startedAt = System.nanoTime();
+        Connection connection = supplier.get(dataSource);
+        timer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        return connection;
+    }
+
+    private static Timer connectionTimer(String route, MeterRegistry meterRegistry) {
+        return Timer.builder("board.datasource.connections")
+                .description("경로별로 내준 커넥션 수와 커넥션을 받는 데 걸린 시간")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+}
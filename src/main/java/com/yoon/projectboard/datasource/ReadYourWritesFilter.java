@@ -0,0 +1,93 @@
+package com.yoon.projectboard.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 자기가 쓴 글은 바로 보이게(read-your-writes) 한다.
+ * <p>
+ * 쓰기 트랜잭션이 커밋되면 {@link #markWritten()}이 응답에 "언제까지 주 DB에서 읽을지"(epoch ms) 쿠키를 남긴다.
+ * 글 작성/수정 뒤의 리다이렉트(POST-redirect-GET)를 포함해, 쿠키가 살아 있는 동안 그 사용자의 요청은
+ * {@link PrimaryPinning}으로 주 DB에서 읽는다. 창({@code board.datasource.routing.read-your-writes-window})은
+ * 복제 지연보다 길게 잡는다. 창이 지나면 쿠키가 만료되어 다시 복제본에서 읽는다.
+ * <p>
+ * 세션 대신 쿠키를 쓰므로 로그인하지 않은 요청이나 여러 서버에 나눠 들어오는 요청에도 그대로 적용되고, 세션을 만들지 않는다.
+ * 쿠키 값은 사용자가 바꿀 수 있으므로, 지금부터 창 길이(+ 서버 간 시계 차이 {@link #CLOCK_SKEW})보다 먼 시각은 위조로 보고 무시한다.
+ * 그래서 쿠키를 고쳐도 한 번에 창 길이보다 오래 주 DB에 고정할 수는 없다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "board-primary-until";
+    static final Duration CLOCK_SKEW = Duration.ofSeconds(1);
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        long pinnedUntil = pinnedUntil(request);
+        if (pinnedUntil > now && pinnedUntil <= now + window.toMillis() + CLOCK_SKEW.toMillis()) {
+            PrimaryPinning.pin();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrimaryPinning.unpin();
+        }
+    }
+
+    /**
+     * 현재 요청이 쓰기를 커밋했다. 이 요청의 남은 읽기와 창이 끝날 때까지의 다음 요청들을 주 DB로 고정한다.
+     * 요청 밖(스케줄러, CLI 등)이거나 응답이 이미 나갔으면 아무것도 하지 않는다.
+     */
+    public void markWritten() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return;
+        }
+        PrimaryPinning.pin();
+
+        HttpServletResponse response = servletAttributes.getResponse();
+        if (response == null || response.isCommitted()
+                || servletAttributes.getAttribute(COOKIE_NAME, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;     // 한 요청에서 여러 번 커밋해도 쿠키는 한 번만
+        }
+        servletAttributes.setAttribute(COOKIE_NAME, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(clock.millis() + window.toMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (window.toMillis() + 999) / 1000));
+        response.addCookie(cookie);
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
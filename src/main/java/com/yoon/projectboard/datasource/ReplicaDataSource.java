@@ -0,0 +1,51 @@
+package com.yoon.projectboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 복제본 하나의 커넥션 풀과 상태. 정상 여부는 {@link ReadWriteRoutingDataSource}가 바꾼다.
+ */
+@Getter
+public class ReplicaDataSource {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile boolean healthy = true;
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    public ReplicaDataSource(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 사용 중인 커넥션 수. 풀이 아직 시작되지 않았으면 0
+     */
+    public int activeConnections() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    void setHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    /**
+     * 연속으로 커넥션을 받지 못한 횟수를 하나 늘려 반환한다.
+     */
+    int recordFailure() {
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    void recordSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.yoon.projectboard.datasource;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 복제본을 고르는 방식
+ */
+public enum ReplicaSelection {
+    /**
+     * 정상 복제본을 차례로 돌아가며 고른다.
+     */
+    ROUND_ROBIN,
+    /**
+     * 사용 중인 커넥션이 가장 적은 복제본을 고른다. (같으면 차례대로)
+     */
+    LEAST_LOADED
+}
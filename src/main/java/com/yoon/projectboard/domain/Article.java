@@ -1,8 +1,10 @@
 package com.yoon.projectboard.domain;
 
+import com.yoon.projectboard.domain.constant.IdAllocation;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.Collection;
@@ -20,8 +22,11 @@ import java.util.Set;
 @Entity
 public class Article extends AuditingFields {
 
+    public static final int EXCERPT_LENGTH = 150;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", initialValue = IdAllocation.INITIAL_VALUE, allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Setter
@@ -33,10 +38,17 @@ public class Article extends AuditingFields {
     @Column(nullable = false)
     private String title;                   //제목
 
-    @Setter
     @Column(nullable = false, length = 10000)
     private String content;                 //본문
 
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;                 //목록용 본문 요약 (본문 저장 시 함께 계산)
+
+    // 조회수는 ViewCountService 가 모아서 update 문으로만 증가시킨다 (엔티티 변경 감지로 덮어쓰지 않도록 insert/update 제외)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long views;                     //조회수
+
     @ToString.Exclude
     @JoinTable(
             name = "article_hashtag",
@@ -57,13 +69,28 @@ public class Article extends AuditingFields {
     private Article(UserAccount userAccount, String title, String content) {
         this.userAccount = userAccount;
         this.title = title;
-        this.content = content;
+        setContent(content);
     }
 
     public static Article of(UserAccount userAccount, String title, String content) {
         return new Article(userAccount, title, content);
     }
 
+    /**
+     * 로그인한 사용자가 없는 곳(가져오기 등)에서 만드는 게시글. 생성자/수정자를 직접 지정한다.
+     */
+    public static Article of(UserAccount userAccount, String title, String content, String createdBy) {
+        Article article = new Article(userAccount, title, content);
+        article.createdBy = createdBy;
+        article.modifiedBy = createdBy;
+        return article;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
     public void addHashtag(Hashtag hashtag) {
         this.getHashtags().add(hashtag);
     }
@@ -72,10 +99,22 @@ public class Article extends AuditingFields {
         this.getHashtags().addAll(hashtags);
     }
 
+    public void removeHashtags(Collection<Hashtag> hashtags) {
+        this.getHashtags().removeAll(hashtags);
+    }
+
     public void clearHashtags() {
         this.getHashtags().clear();
     }
 
+    private static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String flattened = content.strip().replaceAll("\\s+", " ");
+        return flattened.length() <= EXCERPT_LENGTH ? flattened : flattened.substring(0, EXCERPT_LENGTH);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,5 +1,6 @@
 package com.yoon.projectboard.domain;
 
+import com.yoon.projectboard.domain.constant.IdAllocation;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -20,7 +21,8 @@ import java.util.Set;
 public class ArticleComment extends AuditingFields {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_comment_seq")
+    @SequenceGenerator(name = "article_comment_seq", sequenceName = "article_comment_seq", initialValue = IdAllocation.INITIAL_VALUE, allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Setter
@@ -59,6 +61,13 @@ public class ArticleComment extends AuditingFields {
         return new ArticleComment(article, userAccount,null, content);
     }
 
+    public static ArticleComment of(Article article, UserAccount userAccount, String content, String createdBy) {
+        ArticleComment articleComment = new ArticleComment(article, userAccount, null, content);
+        articleComment.createdBy = createdBy;
+        articleComment.modifiedBy = createdBy;
+        return articleComment;
+    }
+
     public void addChildComment(ArticleComment child) {
         child.setParentCommentId(this.getId());
         this.getChildComments().add(child);
@@ -1,8 +1,15 @@
 package com.yoon.projectboard.domain;
 
+import com.yoon.projectboard.domain.constant.CacheRegion;
+import com.yoon.projectboard.domain.constant.IdAllocation;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -13,14 +20,18 @@ import java.util.Set;
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "hashtagName", unique = true),
+        @Index(columnList = "articleCount"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegion.HASHTAG)
+@NaturalIdCache(region = CacheRegion.HASHTAG_NATURAL_ID)      //해시태그 이름 -> ID
 @Entity
 public class Hashtag extends AuditingFields {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hashtag_seq")
+    @SequenceGenerator(name = "hashtag_seq", sequenceName = "hashtag_seq", initialValue = IdAllocation.INITIAL_VALUE, allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @ToString.Exclude
@@ -28,9 +39,16 @@ public class Hashtag extends AuditingFields {
     private Set<Article> articles = new LinkedHashSet<>();
 
     @Setter
+    @NaturalId(mutable = true)
     @Column(nullable = false)
     private String hashtagName;
 
+    // 게시글 수는 해시태그를 붙이고 뗄 때 update 문으로만 증감한다 (엔티티 변경 감지로 덮어쓰지 않도록 insert/update 제외)
+    // 2차 캐시에 든 엔티티의 값은 오래됐을 수 있으므로, 정확한 값은 쿼리(findAllHashtagArticleCounts 등)로 읽는다
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long articleCount;      //이 해시태그가 달린 게시글 수
+
     protected Hashtag() {
     }
 
@@ -42,6 +60,13 @@ public class Hashtag extends AuditingFields {
         return new Hashtag(hashtagName);
     }
 
+    public static Hashtag of(String hashtagName, String createdBy) {
+        Hashtag hashtag = new Hashtag(hashtagName);
+        hashtag.createdBy = createdBy;
+        hashtag.modifiedBy = createdBy;
+        return hashtag;
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this == object) return true;
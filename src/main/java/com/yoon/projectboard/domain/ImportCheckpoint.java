@@ -0,0 +1,74 @@
+package com.yoon.projectboard.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 가져오기 작업의 진행 상황. 청크를 쓰는 트랜잭션에서 함께 갱신하므로, 기록된 레코드 수까지는 DB에 반영되어 있다.
+ * 가져오기는 사용자 요청 밖(CLI)에서도 돌기 때문에 감사 필드({@link AuditingFields})를 쓰지 않는다.
+ */
+@Getter
+@ToString
+@Entity
+public class ImportCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String jobId;
+
+    private long recordsProcessed;      //입력 처음부터 반영을 마친 레코드 수 (다시 시작할 때 건너뛸 수)
+    private long usersImported;
+    private long articlesImported;
+    private long commentsImported;
+    private long recordsSkipped;        //이미 있는 사용자 등 건너뛴 레코드 수
+    private long recordsFailed;         //형식 오류, 작성자 없음 등으로 버린 레코드 수
+    private boolean completed;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ImportCheckpoint() {
+    }
+
+    private ImportCheckpoint(String jobId) {
+        this.jobId = jobId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static ImportCheckpoint of(String jobId) {
+        return new ImportCheckpoint(jobId);
+    }
+
+    public void record(long records, long users, long articles, long comments, long skipped, long failed) {
+        this.recordsProcessed += records;
+        this.usersImported += users;
+        this.articlesImported += articles;
+        this.commentsImported += comments;
+        this.recordsSkipped += skipped;
+        this.recordsFailed += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImportCheckpoint that)) return false;
+        return this.getJobId() != null && this.getJobId().equals(that.getJobId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getJobId());
+    }
+}
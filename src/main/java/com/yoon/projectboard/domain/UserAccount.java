@@ -1,8 +1,11 @@
 package com.yoon.projectboard.domain;
 
+import com.yoon.projectboard.domain.constant.CacheRegion;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.Objects;
@@ -14,6 +17,7 @@ import java.util.Objects;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegion.USER_ACCOUNT)     //로그인/작성자 표시마다 읽는다
 @Entity
 public class UserAccount extends AuditingFields {
 
@@ -0,0 +1,16 @@
+package com.yoon.projectboard.domain.constant;
+
+/**
+ * 2차 캐시(Hibernate second-level cache) 영역 이름.
+ * <p>
+ * 영역은 {@code EntityCacheConfig}에서 크기와 만료 시간을 정해 미리 만들고, 엔티티의 {@code @Cache}/{@code @NaturalIdCache}가 이름으로 가리킨다.
+ */
+public final class CacheRegion {
+
+    public static final String USER_ACCOUNT = "userAccount";
+    public static final String HASHTAG = "hashtag";
+    public static final String HASHTAG_NATURAL_ID = "hashtagNaturalId";
+
+    private CacheRegion() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.yoon.projectboard.domain.constant;
+
+/**
+ * 엔티티 ID 시퀀스 설정.
+ * <p>
+ * 시퀀스에서 {@link #ALLOCATION_SIZE}개씩 ID 구간을 받아(pooled) 메모리에서 나눠 주므로, 저장할 때마다 DB에 ID를 묻지 않고
+ * insert 를 flush 까지 미뤄 JDBC 배치로 보낼 수 있다. 시퀀스를 지원하지 않는 DB(MySQL)에서는 같은 방식의 테이블로 대신한다.
+ * 초기 데이터(data.sql)는 {@link #INITIAL_VALUE}보다 작은 ID를 직접 지정한다.
+ * 기존 데이터가 있는 MySQL DB는 {@code document/migration/mysql-seed-id-sequences.sql}로 시퀀스를 {@code MAX(id)} 뒤에서 시작하게 한다.
+ */
+public final class IdAllocation {
+
+    public static final int INITIAL_VALUE = 1000;
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
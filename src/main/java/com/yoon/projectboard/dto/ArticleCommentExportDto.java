@@ -0,0 +1,23 @@
+package com.yoon.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 댓글 한 줄. 자신이 달린 게시글 줄 바로 뒤에 나온다.
+ */
+public record ArticleCommentExportDto(
+        String type,
+        Long id,
+        Long articleId,
+        Long parentCommentId,
+        String userId,
+        String content,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+    public static ArticleCommentExportDto of(Long id, Long articleId, Long parentCommentId, String userId, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        return new ArticleCommentExportDto("comment", id, articleId, parentCommentId, userId, content, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+}
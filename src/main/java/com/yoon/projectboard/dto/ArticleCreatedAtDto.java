@@ -0,0 +1,15 @@
+package com.yoon.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 ID와 작성일시. 정렬 색인 생성용 투영이다.
+ */
+public record ArticleCreatedAtDto(
+        Long id,
+        LocalDateTime createdAt
+) {
+    public static ArticleCreatedAtDto of(Long id, LocalDateTime createdAt) {
+        return new ArticleCreatedAtDto(id, createdAt);
+    }
+}
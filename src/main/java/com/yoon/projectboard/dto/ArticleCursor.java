@@ -0,0 +1,67 @@
+package com.yoon.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 게시글 목록 커서. 정렬 기준({@code createdAt DESC, id DESC})의 마지막 위치를 가리킨다.
+ * <p>
+ * {@code backward}가 {@code false}면 커서보다 오래된 글(다음 페이지), {@code true}면 커서보다 최신 글(이전 페이지)을 조회한다.
+ * 토큰 형식: {@code (n|p)_<createdAt>_<id>}, 빈 토큰은 첫 페이지를 뜻한다.
+ */
+public record ArticleCursor(
+        LocalDateTime createdAt,
+        Long id,
+        boolean backward
+) {
+    private static final String DELIMITER = "_";
+    private static final String NEXT = "n";
+    private static final String PREVIOUS = "p";
+
+    public static ArticleCursor first() {
+        return new ArticleCursor(null, null, false);
+    }
+
+    public static ArticleCursor after(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id, false);
+    }
+
+    public static ArticleCursor before(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id, true);
+    }
+
+    /**
+     * 잘못된 토큰은 첫 페이지 커서로 취급한다.
+     */
+    public static ArticleCursor from(String token) {
+        if (token == null || token.isBlank()) {
+            return first();
+        }
+
+        String[] parts = token.split(DELIMITER);
+        if (parts.length != 3 || !(NEXT.equals(parts[0]) || PREVIOUS.equals(parts[0]))) {
+            return first();
+        }
+
+        try {
+            return new ArticleCursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]), PREVIOUS.equals(parts[0]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return first();
+        }
+    }
+
+    public boolean isFirst() {
+        return createdAt == null || id == null;
+    }
+
+    public ArticleCursor reverse() {
+        return new ArticleCursor(createdAt, id, !backward);
+    }
+
+    public String toToken() {
+        if (isFirst()) {
+            return "";
+        }
+        return (backward ? PREVIOUS : NEXT) + DELIMITER + createdAt + DELIMITER + id;
+    }
+}
@@ -0,0 +1,14 @@
+package com.yoon.projectboard.dto;
+
+/**
+ * 검색 색인 생성용 게시글 투영. 엔티티 그래프를 읽지 않고 색인에 필요한 컬럼만 조회한다.
+ */
+public record ArticleDocumentDto(
+        Long id,
+        String title,
+        String content
+) {
+    public static ArticleDocumentDto of(Long id, String title, String content) {
+        return new ArticleDocumentDto(id, title, content);
+    }
+}
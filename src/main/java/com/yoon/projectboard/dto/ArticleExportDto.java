@@ -0,0 +1,24 @@
+package com.yoon.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내보내기 게시글 한 줄. {@code type}과 필드 이름이 가져오기 레코드와 같아서 내보낸 파일을 그대로 가져올 수 있다.
+ */
+public record ArticleExportDto(
+        String type,
+        Long id,
+        String userId,
+        String title,
+        String content,
+        List<String> hashtags,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+    public static ArticleExportDto of(Long id, String userId, String title, String content, List<String> hashtags, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        return new ArticleExportDto("article", id, userId, title, content, hashtags, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+}
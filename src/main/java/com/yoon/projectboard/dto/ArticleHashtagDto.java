@@ -0,0 +1,14 @@
+package com.yoon.projectboard.dto;
+
+/**
+ * 게시글-해시태그 연결({@code article_hashtag}) 한 건. 해시태그 색인 생성용 투영이다.
+ */
+public record ArticleHashtagDto(
+        Long articleId,
+        Long hashtagId,
+        String hashtagName
+) {
+    public static ArticleHashtagDto of(Long articleId, Long hashtagId, String hashtagName) {
+        return new ArticleHashtagDto(articleId, hashtagId, hashtagName);
+    }
+}
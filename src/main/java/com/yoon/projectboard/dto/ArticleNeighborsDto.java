@@ -0,0 +1,27 @@
+package com.yoon.projectboard.dto;
+
+/**
+ * 게시글 상세 화면의 이전/다음 게시글 ID. 없으면 {@code null}이다.
+ */
+public record ArticleNeighborsDto(
+        Long articleId,
+        Long previousArticleId,
+        Long nextArticleId
+) {
+    public static ArticleNeighborsDto of(Long articleId, Long previousArticleId, Long nextArticleId) {
+        return new ArticleNeighborsDto(articleId, previousArticleId, nextArticleId);
+    }
+
+    /**
+     * {@code otherId} 게시글이 생기거나 없어졌을 때 이 이웃 정보가 달라지는지 여부
+     */
+    public boolean isAffectedBy(Long otherId) {
+        if (otherId.equals(articleId)) {
+            return true;
+        }
+        if (otherId < articleId) {
+            return previousArticleId == null || otherId >= previousArticleId;
+        }
+        return nextArticleId == null || otherId <= nextArticleId;
+    }
+}
@@ -0,0 +1,38 @@
+package com.yoon.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 한 줄에 필요한 값만 담은 DTO. 본문 대신 목록용 요약({@code excerpt})을 가진다.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String excerpt,
+        Set<String> hashtagNames,
+        LocalDateTime createdAt,
+        String userId,
+        String email,
+        String nickname
+) {
+    public static ArticleSummaryDto of(Long id, String title, String excerpt, Set<String> hashtagNames, LocalDateTime createdAt, String userId, String email, String nickname) {
+        return new ArticleSummaryDto(id, title, excerpt, hashtagNames, createdAt, userId, email, nickname);
+    }
+
+    public static ArticleSummaryDto from(ArticleDto dto) {
+        return new ArticleSummaryDto(
+                dto.id(),
+                dto.title(),
+                null,
+                dto.hashtagDtos().stream()
+                        .map(HashtagDto::hashtagName)
+                        .collect(Collectors.toUnmodifiableSet()),
+                dto.createdAt(),
+                dto.userAccountDto().userId(),
+                dto.userAccountDto().email(),
+                dto.userAccountDto().nickname()
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.yoon.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * 게시글 상세 화면의 버전. 게시글 수정일시, 가장 늦은 댓글 수정일시, 댓글 수로 만든다.
+ * 댓글이 지워지면 수정일시는 그대로일 수 있으므로 댓글 수를 함께 본다.
+ *
+ * @param latestCommentModifiedAt 댓글이 없으면 {@code null}
+ * @param views DB에 반영된 조회수. 상세 화면 ETag 에는 넣지 않는다(조회할 때마다 바뀌므로)
+ */
+public record ArticleVersionDto(
+        Long articleId,
+        LocalDateTime articleModifiedAt,
+        LocalDateTime latestCommentModifiedAt,
+        Long commentCount,
+        long views
+) {
+    public static ArticleVersionDto of(Long articleId, LocalDateTime articleModifiedAt, LocalDateTime latestCommentModifiedAt, Long commentCount, long views) {
+        return new ArticleVersionDto(articleId, articleModifiedAt, latestCommentModifiedAt, commentCount, views);
+    }
+
+    /**
+     * 게시글과 댓글 중 가장 늦은 수정일시(epoch ms)
+     */
+    public long lastModified() {
+        LocalDateTime lastModified = latestCommentModifiedAt == null || articleModifiedAt.isAfter(latestCommentModifiedAt)
+                ? articleModifiedAt
+                : latestCommentModifiedAt;
+        return toEpochMilli(lastModified);
+    }
+
+    /**
+     * 약한(weak) ETag. 화면이 버전 외의 값(보는 사용자, 이전/다음 게시글 등)에 따라서도 달라지면 {@code qualifiers}로 넘긴다.
+     */
+    public String etag(Object... qualifiers) {
+        return "W/\"" + articleId + "-" + Long.toHexString(lastModified()) + "-" + commentCount
+                + "-" + Integer.toHexString(Arrays.hashCode(qualifiers)) + "\"";
+    }
+
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,8 +1,10 @@
 package com.yoon.projectboard.dto;
 
 import com.yoon.projectboard.domain.Article;
+import com.yoon.projectboard.domain.ArticleComment;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -17,17 +19,36 @@ public record ArticleWithCommentsDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long views
 ) {
     public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, 0);
+    }
+
+    public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy, long views) {
+        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, views);
     }
 
     public static ArticleWithCommentsDto from(Article entity) {
+        return from(entity, entity.getArticleComments());
+    }
+
+    /**
+     * 댓글을 게시글 연관관계 대신 따로 조회한 목록으로 채운다. 댓글 작성자까지 미리 읽어 두었다면 추가 쿼리가 없다.
+     */
+    public static ArticleWithCommentsDto from(Article entity, Collection<ArticleComment> articleComments) {
+        return from(entity, articleComments, entity.getViews());
+    }
+
+    /**
+     * @param views 화면에 보여 줄 조회수. DB에 반영된 값에 아직 반영되지 않은 조회수를 더한 값
+     */
+    public static ArticleWithCommentsDto from(Article entity, Collection<ArticleComment> articleComments, long views) {
         return new ArticleWithCommentsDto(
                 entity.getId(),
                 UserAccountDto.from(entity.getUserAccount()),
-                entity.getArticleComments().stream()
+                articleComments.stream()
                         .map(ArticleCommentDto::from)
                         .collect(Collectors.toCollection(LinkedHashSet::new)),
                 entity.getTitle(),
@@ -38,7 +59,15 @@ public record ArticleWithCommentsDto(
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                views
         );
     }
+
+    /**
+     * 조회수만 바꾼 복사본. 여러 요청이 함께 받은 조회 결과에 요청마다의 조회수를 넣을 때 쓴다.
+     */
+    public ArticleWithCommentsDto withViews(long views) {
+        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, views);
+    }
 }
@@ -0,0 +1,13 @@
+package com.yoon.projectboard.dto;
+
+/**
+ * 해시태그 이름과 그 해시태그가 달린 게시글 수
+ */
+public record HashtagArticleCountDto(
+        String hashtagName,
+        Long articleCount
+) {
+    public static HashtagArticleCountDto of(String hashtagName, Long articleCount) {
+        return new HashtagArticleCountDto(hashtagName, articleCount);
+    }
+}
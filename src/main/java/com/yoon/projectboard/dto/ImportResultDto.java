@@ -0,0 +1,35 @@
+package com.yoon.projectboard.dto;
+
+import com.yoon.projectboard.domain.ImportCheckpoint;
+
+import java.time.LocalDateTime;
+
+public record ImportResultDto(
+        String jobId,
+        long recordsProcessed,
+        long usersImported,
+        long articlesImported,
+        long commentsImported,
+        long recordsSkipped,
+        long recordsFailed,
+        boolean completed,
+        LocalDateTime updatedAt
+) {
+    public static ImportResultDto of(String jobId, long recordsProcessed, long usersImported, long articlesImported, long commentsImported, long recordsSkipped, long recordsFailed, boolean completed, LocalDateTime updatedAt) {
+        return new ImportResultDto(jobId, recordsProcessed, usersImported, articlesImported, commentsImported, recordsSkipped, recordsFailed, completed, updatedAt);
+    }
+
+    public static ImportResultDto from(ImportCheckpoint entity) {
+        return new ImportResultDto(
+                entity.getJobId(),
+                entity.getRecordsProcessed(),
+                entity.getUsersImported(),
+                entity.getArticlesImported(),
+                entity.getCommentsImported(),
+                entity.getRecordsSkipped(),
+                entity.getRecordsFailed(),
+                entity.isCompleted(),
+                entity.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.yoon.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 사용자 한 줄. 게시글보다 먼저 나오므로 가져올 때 작성자가 먼저 만들어진다. 비밀번호는 DB에 저장된 인코딩 값 그대로다.
+ */
+public record UserAccountExportDto(
+        String type,
+        String userId,
+        String userPassword,
+        String email,
+        String nickname,
+        String memo,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+    public static UserAccountExportDto of(String userId, String userPassword, String email, String nickname, String memo, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        return new UserAccountExportDto("user", userId, userPassword, email, nickname, memo, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+}
@@ -0,0 +1,14 @@
+package com.yoon.projectboard.dto.event;
+
+/**
+ * 댓글 저장/수정/삭제 이벤트. 커밋 이후 댓글이 달린 게시글을 보여 주는 캐시를 무효화하고, 새 댓글이면 인기 게시글 점수를 더하는 데 사용한다.
+ */
+public record ArticleCommentEvent(Long articleId, boolean newComment) {
+    public static ArticleCommentEvent created(Long articleId) {
+        return new ArticleCommentEvent(articleId, true);
+    }
+
+    public static ArticleCommentEvent changed(Long articleId) {
+        return new ArticleCommentEvent(articleId, false);
+    }
+}
@@ -0,0 +1,58 @@
+package com.yoon.projectboard.dto.event;
+
+import com.yoon.projectboard.domain.Article;
+import com.yoon.projectboard.dto.HashtagDto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 변경 이벤트. 트랜잭션 커밋 이후({@code @TransactionalEventListener}) 인메모리 구조들을 갱신하는 데 사용한다.
+ * {@code previousHashtagDtos}는 수정/삭제 전 게시글에 달려 있던 해시태그다. 삭제 이벤트에는 {@code createdAt}, 제목, 본문이 없다.
+ */
+public record ArticleEvent(
+        EventType eventType,
+        Long articleId,
+        LocalDateTime createdAt,
+        String title,
+        String content,
+        Set<HashtagDto> hashtagDtos,
+        Set<HashtagDto> previousHashtagDtos
+) {
+    public static ArticleEvent created(Article article) {
+        return new ArticleEvent(EventType.CREATED, article.getId(), article.getCreatedAt(), article.getTitle(), article.getContent(), hashtagDtosOf(article), Set.of());
+    }
+
+    /**
+     * 해시태그를 엔티티 컬렉션이 아니라 따로 연결한 경우(가져오기 등) 연결한 해시태그를 직접 넘긴다.
+     */
+    public static ArticleEvent created(Article article, Set<HashtagDto> hashtagDtos) {
+        return new ArticleEvent(EventType.CREATED, article.getId(), article.getCreatedAt(), article.getTitle(), article.getContent(), Set.copyOf(hashtagDtos), Set.of());
+    }
+
+    public static ArticleEvent updated(Article article, Set<HashtagDto> previousHashtagDtos) {
+        return new ArticleEvent(EventType.UPDATED, article.getId(), article.getCreatedAt(), article.getTitle(), article.getContent(), hashtagDtosOf(article), previousHashtagDtos);
+    }
+
+    public static ArticleEvent deleted(Long articleId, Set<HashtagDto> previousHashtagDtos) {
+        return new ArticleEvent(EventType.DELETED, articleId, null, null, null, Set.of(), previousHashtagDtos);
+    }
+
+    public boolean isDeleted() {
+        return eventType == EventType.DELETED;
+    }
+
+    /**
+     * 해시태그 ID가 채워진 상태(저장/flush 이후)에서 호출해야 한다.
+     */
+    private static Set<HashtagDto> hashtagDtosOf(Article article) {
+        return article.getHashtags().stream()
+                .map(HashtagDto::from)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,10 @@
+package com.yoon.projectboard.dto.event;
+
+/**
+ * 사용자 계정 저장/변경 이벤트. 커밋 이후 계정으로 만든 인증 주체 캐시 등을 무효화하는 데 사용한다.
+ */
+public record UserAccountEvent(String userId) {
+    public static UserAccountEvent changed(String userId) {
+        return new UserAccountEvent(userId);
+    }
+}
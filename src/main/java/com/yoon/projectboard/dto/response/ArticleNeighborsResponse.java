@@ -0,0 +1,24 @@
+package com.yoon.projectboard.dto.response;
+
+import com.yoon.projectboard.dto.ArticleNeighborsDto;
+
+public record ArticleNeighborsResponse(
+        Long previousArticleId,
+        Long nextArticleId
+) {
+    public static ArticleNeighborsResponse of(Long previousArticleId, Long nextArticleId) {
+        return new ArticleNeighborsResponse(previousArticleId, nextArticleId);
+    }
+
+    public static ArticleNeighborsResponse from(ArticleNeighborsDto dto) {
+        return new ArticleNeighborsResponse(dto.previousArticleId(), dto.nextArticleId());
+    }
+
+    public boolean hasPrevious() {
+        return previousArticleId != null;
+    }
+
+    public boolean hasNext() {
+        return nextArticleId != null;
+    }
+}
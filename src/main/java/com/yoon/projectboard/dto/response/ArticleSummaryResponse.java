@@ -0,0 +1,37 @@
+package com.yoon.projectboard.dto.response;
+
+import com.yoon.projectboard.dto.ArticleSummaryDto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record ArticleSummaryResponse(
+        Long id,
+        String title,
+        String excerpt,
+        Set<String> hashtags,
+        LocalDateTime createdAt,
+        String email,
+        String nickname
+) {
+    public static ArticleSummaryResponse of(Long id, String title, String excerpt, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname) {
+        return new ArticleSummaryResponse(id, title, excerpt, hashtags, createdAt, email, nickname);
+    }
+
+    public static ArticleSummaryResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleSummaryResponse(
+                dto.id(),
+                dto.title(),
+                dto.excerpt(),
+                dto.hashtagNames(),
+                dto.createdAt(),
+                dto.email(),
+                nickname
+        );
+    }
+}
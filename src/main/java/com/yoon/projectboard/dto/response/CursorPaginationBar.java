@@ -0,0 +1,21 @@
+package com.yoon.projectboard.dto.response;
+
+/**
+ * 커서 기반 목록의 페이지 이동 정보. 이동할 수 없는 방향의 토큰은 {@code null}이다.
+ */
+public record CursorPaginationBar(
+        String previousCursor,
+        String nextCursor
+) {
+    public static CursorPaginationBar of(String previousCursor, String nextCursor) {
+        return new CursorPaginationBar(previousCursor, nextCursor);
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
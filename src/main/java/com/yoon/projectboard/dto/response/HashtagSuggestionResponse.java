@@ -0,0 +1,16 @@
+package com.yoon.projectboard.dto.response;
+
+import com.yoon.projectboard.service.search.HashtagTrie.Completion;
+
+public record HashtagSuggestionResponse(
+        String hashtagName,
+        long articleCount
+) {
+    public static HashtagSuggestionResponse of(String hashtagName, long articleCount) {
+        return new HashtagSuggestionResponse(hashtagName, articleCount);
+    }
+
+    public static HashtagSuggestionResponse from(Completion completion) {
+        return new HashtagSuggestionResponse(completion.hashtagName(), completion.weight());
+    }
+}
@@ -0,0 +1,43 @@
+package com.yoon.projectboard.pagecache;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 렌더링한 HTML 한 장. {@code freshUntil}까지는 그대로 내주고, {@code staleUntil}까지는 누군가 다시 렌더링하는 동안 대신 내준다.
+ * {@code revalidating}은 다시 렌더링을 맡은 요청이 있는지 표시한다. (같은 페이지를 여러 요청이 동시에 다시 렌더링하지 않도록)
+ */
+public record CachedPage(
+        byte[] body,
+        String contentType,
+        Set<String> tags,
+        long freshUntil,
+        long staleUntil,
+        AtomicBoolean revalidating
+) {
+    public static CachedPage of(byte[] body, String contentType, Set<String> tags, long freshUntil, long staleUntil) {
+        return new CachedPage(body, contentType, Set.copyOf(tags), freshUntil, staleUntil, new AtomicBoolean());
+    }
+
+    public boolean isFresh(long now) {
+        return now < freshUntil;
+    }
+
+    public boolean isServable(long now) {
+        return now < staleUntil;
+    }
+
+    /**
+     * 다시 렌더링을 맡는다. 이미 다른 요청이 맡았으면 {@code false}
+     */
+    public boolean tryRevalidate() {
+        return revalidating.compareAndSet(false, true);
+    }
+
+    /**
+     * 태그가 무효화된 페이지. 더 이상 신선하지 않지만 남은 stale 기간 동안은 다시 렌더링하는 사이에 내줄 수 있다.
+     */
+    public CachedPage purged() {
+        return new CachedPage(body, contentType, tags, 0, staleUntil, new AtomicBoolean());
+    }
+}
@@ -0,0 +1,106 @@
+package com.yoon.projectboard.pagecache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 페이지 키(경로 + 정렬한 쿼리) -> 렌더링한 HTML 캐시와, 태그(surrogate key) -> 페이지 키 색인.
+ * <p>
+ * {@link #purge(Collection)}는 태그가 붙은 페이지를 지우지 않고 신선하지 않은 상태로 바꾼다(soft purge).
+ * 그래서 글이 써진 직후 요청이 몰려도 한 요청만 다시 렌더링하고 나머지는 직전 페이지를 받는다.
+ * stale 기간({@code board.page-cache.stale-ttl})까지 다시 렌더링되지 않은 페이지는 내주지 않는다.
+ * <p>
+ * 렌더링하는 사이에 그 페이지의 태그가 무효화되었으면, 렌더링한 내용이 쓰기 이전 데이터일 수 있으므로 신선하지 않은 상태로 넣는다.
+ */
+@Slf4j
+public class PageCache {
+
+    private final Duration freshTtl;
+    private final Duration staleTtl;
+    private final Cache<String, CachedPage> pages;
+    private final Map<String, Set<String>> keysByTag = new ConcurrentHashMap<>();
+    private final Cache<String, Long> purgedAtByTag = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))      // 렌더링 한 번보다 충분히 길게
+            .build();
+
+    public PageCache(Duration freshTtl, Duration staleTtl, long maximumSize, MeterRegistry meterRegistry) {
+        this.freshTtl = freshTtl;
+        this.staleTtl = staleTtl;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(freshTtl.plus(staleTtl))
+                .removalListener((String key, CachedPage page, RemovalCause cause) -> {
+                    if (page != null && cause != RemovalCause.REPLACED) {
+                        unindex(key, page.tags());
+                    }
+                })
+                .build();
+        Gauge.builder("board.page-cache.size", pages, Cache::estimatedSize)
+                .description("캐시에 들어 있는 페이지 수")
+                .register(meterRegistry);
+    }
+
+    public CachedPage get(String key) {
+        return pages.getIfPresent(key);
+    }
+
+    /**
+     * @param renderStartedAt 페이지를 렌더링하기 시작한 시각. 그 뒤에 태그가 무효화되었으면 신선하지 않은 상태로 넣는다.
+     */
+    public void put(String key, byte[] body, String contentType, Set<String> tags, long renderStartedAt, long now) {
+        boolean purgedWhileRendering = tags.stream()
+                .map(purgedAtByTag::getIfPresent)
+                .anyMatch(purgedAt -> purgedAt != null && purgedAt >= renderStartedAt);
+        long freshUntil = purgedWhileRendering ? 0 : now + freshTtl.toMillis();
+
+        CachedPage page = CachedPage.of(body, contentType, tags, freshUntil, now + freshTtl.plus(staleTtl).toMillis());
+        tags.forEach(tag -> keysByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(key));
+        pages.put(key, page);
+    }
+
+    /**
+     * 태그가 하나라도 붙은 페이지를 모두 신선하지 않게 만든다. 무효화한 페이지 수를 반환한다.
+     */
+    public int purge(Collection<String> tags, long now) {
+        int purged = 0;
+        for (String tag : tags) {
+            purgedAtByTag.put(tag, now);
+            Set<String> keys = keysByTag.get(tag);
+            if (keys == null) {
+                continue;
+            }
+            for (String key : keys) {
+                if (pages.asMap().computeIfPresent(key, (k, page) -> page.purged()) != null) {
+                    purged++;
+                }
+            }
+        }
+        if (purged > 0) {
+            log.debug("페이지 캐시 무효화 - 태그: {}, 페이지 수: {}", tags, purged);
+        }
+        return purged;
+    }
+
+    public void clear() {
+        pages.invalidateAll();
+        keysByTag.clear();
+        purgedAtByTag.invalidateAll();
+    }
+
+    private void unindex(String key, Set<String> tags) {
+        tags.forEach(tag -> keysByTag.computeIfPresent(tag, (t, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        }));
+    }
+}
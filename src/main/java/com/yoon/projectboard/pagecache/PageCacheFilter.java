@@ -0,0 +1,153 @@
+package com.yoon.projectboard.pagecache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인하지 않은 사용자의 게시판 화면(GET {@code /}, {@code /articles}, {@code /articles/hot}, {@code /articles/search-hashtag},
+ * {@code /articles/{id}}) HTML 을 통째로 캐시한다. 키는 경로 + 이름순으로 정렬한 쿼리 파라미터다.
+ * <p>
+ * 신선한 페이지는 컨트롤러/DB/템플릿을 거치지 않고 바로 내준다. 신선하지 않은(만료되었거나 무효화된) 페이지는 한 요청만 다시 렌더링하고,
+ * 그동안 들어온 요청에는 직전 페이지를 내준다(stale-while-revalidate). 응답 헤더 {@code X-Page-Cache}: HIT, STALE, MISS
+ * <p>
+ * 로그인한 사용자의 화면(사용자 이름, 글쓰기 버튼 등)은 캐시하지 않는다. 또 200 HTML 이 아니거나 쿠키를 심는 응답
+ * (세션/CSRF 토큰이 새로 생긴 경우)도 캐시하지 않는다. 시큐리티 필터 뒤에서 실행해야 인증 정보를 볼 수 있다.
+ */
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHEABLE_ATTRIBUTE = PageCacheFilter.class.getName() + ".CACHEABLE";
+    public static final String TAGS_ATTRIBUTE = PageCacheFilter.class.getName() + ".TAGS";
+    public static final String CACHE_HEADER = "X-Page-Cache";
+
+    private static final Pattern CACHEABLE_PATH = Pattern.compile("/|/articles|/articles/hot|/articles/search-hashtag|/articles/\\d+");
+
+    private final PageCache pageCache;
+    private final Clock clock;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    public PageCacheFilter(PageCache pageCache, Clock clock, MeterRegistry meterRegistry) {
+        this.pageCache = pageCache;
+        this.clock = clock;
+        this.hits = requestCounter("hit", meterRegistry);
+        this.staleHits = requestCounter("stale", meterRegistry);
+        this.misses = requestCounter("miss", meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !CACHEABLE_PATH.matcher(request.getRequestURI()).matches()
+                || isAuthenticated(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = keyOf(request);
+        long now = clock.millis();
+        CachedPage page = pageCache.get(key);
+
+        if (page != null && page.isFresh(now)) {
+            hits.increment();
+            write(response, page, "HIT");
+            return;
+        }
+        if (page != null && page.isServable(now) && !page.tryRevalidate()) {
+            staleHits.increment();
+            write(response, page, "STALE");     // 다른 요청이 다시 렌더링하는 중
+            return;
+        }
+
+        misses.increment();
+        try {
+            render(request, response, filterChain, key, now);
+        } finally {
+            if (page != null) {
+                page.revalidating().set(false);     // 다시 렌더링한 결과를 넣지 못했으면 다음 요청이 맡는다
+            }
+        }
+    }
+
+    private void render(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain, String key, long startedAt)
+            throws ServletException, IOException {
+        boolean hadSession = request.getSession(false) != null;
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_HEADER, "MISS");
+        request.setAttribute(CACHEABLE_ATTRIBUTE, Boolean.TRUE);
+        try {
+            filterChain.doFilter(request, wrapper);
+
+            @SuppressWarnings("unchecked")
+            Set<String> tags = (Set<String>) request.getAttribute(TAGS_ATTRIBUTE);
+            if (tags != null && isCacheable(wrapper, hadSession)) {
+                pageCache.put(key, wrapper.getContentAsByteArray(), wrapper.getContentType(), tags, startedAt, clock.millis());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 세션이 있던 요청이 렌더링한 페이지에는 그 세션의 CSRF 토큰이 들어갈 수 있으므로 넣지 않는다. (내주기는 한다)
+     */
+    private static boolean isCacheable(ContentCachingResponseWrapper response, boolean hadSession) {
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && !hadSession
+                && response.getContentType() != null
+                && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(response.getContentType()))
+                && response.getHeaders(HttpHeaders.SET_COOKIE).isEmpty();
+    }
+
+    private static void write(HttpServletResponse response, CachedPage page, String result) throws IOException {
+        response.setHeader(CACHE_HEADER, result);
+        response.setContentType(page.contentType());
+        response.setContentLength(page.body().length);
+        response.getOutputStream().write(page.body());
+    }
+
+    static String keyOf(HttpServletRequest request) {
+        Map<String, String[]> parameters = request.getParameterMap();
+        String query = parameters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .flatMap(entry -> Arrays.stream(entry.getValue())
+                        .filter(value -> !value.isEmpty())      // 빈 검색 조건은 조건이 없는 것과 같은 화면
+                        .map(value -> entry.getKey() + "=" + value))
+                .collect(Collectors.joining("&"));
+        return query.isEmpty() ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+
+    private boolean isAuthenticated(Authentication authentication) {
+        return authentication != null && authentication.isAuthenticated() && !trustResolver.isAnonymous(authentication);
+    }
+
+    private static Counter requestCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("board.page-cache.requests")
+                .description("페이지 캐시를 거친 요청 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.yoon.projectboard.pagecache;
+
+import com.yoon.projectboard.dto.event.ArticleCommentEvent;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.Set;
+
+/**
+ * 게시글/댓글 변경이 커밋되면 그 변경이 보이는 페이지({@link PageCacheTags})만 무효화한다.
+ */
+public class PageCachePurger {
+
+    private final PageCache pageCache;
+    private final Clock clock;
+    private final Counter purgedPages;
+
+    public PageCachePurger(PageCache pageCache, Clock clock, MeterRegistry meterRegistry) {
+        this.pageCache = pageCache;
+        this.clock = clock;
+        this.purgedPages = Counter.builder("board.page-cache.purged")
+                .description("게시글/댓글 변경으로 무효화한 페이지 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        purge(PageCacheTags.of(event));
+    }
+
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        purge(PageCacheTags.of(event));
+    }
+
+    private void purge(Set<String> tags) {
+        purgedPages.increment(pageCache.purge(tags, clock.millis()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.yoon.projectboard.pagecache;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 캐시할 요청이면 컨트롤러가 채운 모델로 페이지 태그를 만들어 {@link PageCacheFilter}에 넘긴다.
+ */
+public class PageCacheTagInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || request.getAttribute(PageCacheFilter.CACHEABLE_ATTRIBUTE) == null) {
+            return;
+        }
+        request.setAttribute(
+                PageCacheFilter.TAGS_ATTRIBUTE,
+                PageCacheTags.of(request.getRequestURI(), request.getParameterMap(), modelAndView.getModel())
+        );
+    }
+}
@@ -0,0 +1,139 @@
+package com.yoon.projectboard.pagecache;
+
+import com.yoon.projectboard.dto.HashtagDto;
+import com.yoon.projectboard.dto.event.ArticleCommentEvent;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.dto.response.ArticleNeighborsResponse;
+import com.yoon.projectboard.dto.response.ArticleResponse;
+import com.yoon.projectboard.dto.response.ArticleSummaryResponse;
+import com.yoon.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.yoon.projectboard.service.search.HashtagQuery;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시한 페이지에 붙이는 태그(surrogate key)와, 게시글/댓글 변경이 무효화하는 태그.
+ * <ul>
+ *     <li>{@code article:{id}} - 그 게시글을 보여 주거나(목록 행, 상세) 링크하는(이전/다음) 페이지</li>
+ *     <li>{@code hashtag:{name}} - 검색식에 그 해시태그가 들어간 해시태그 검색 페이지</li>
+ *     <li>{@code article-list} - 검색하지 않은 게시글 목록 (새 글/삭제로 페이지 구성이 밀린다)</li>
+ *     <li>{@code article-search} - 제목/본문 등으로 검색한 목록 (어떤 글이든 결과에 들어오거나 빠질 수 있다)</li>
+ *     <li>{@code article-hot} - 인기 게시글 목록</li>
+ *     <li>{@code article-latest} - 다음 게시글이 없는(가장 최근) 게시글의 상세. 새 글이 생기면 다음 게시글 링크가 생긴다.</li>
+ *     <li>{@code hashtag-list} - 전체 해시태그 목록이 들어간 페이지</li>
+ * </ul>
+ */
+public final class PageCacheTags {
+
+    public static final String ARTICLE_LIST = "article-list";
+    public static final String ARTICLE_SEARCH = "article-search";
+    public static final String ARTICLE_HOT = "article-hot";
+    public static final String ARTICLE_LATEST = "article-latest";
+    public static final String HASHTAG_LIST = "hashtag-list";
+
+    private PageCacheTags() {
+    }
+
+    public static String article(Long articleId) {
+        return "article:" + articleId;
+    }
+
+    public static String hashtag(String hashtagName) {
+        return "hashtag:" + hashtagName;
+    }
+
+    /**
+     * 컨트롤러가 채운 모델과 요청 경로/파라미터로 페이지의 태그를 만든다.
+     */
+    public static Set<String> of(String path, Map<String, String[]> parameters, Map<String, Object> model) {
+        Set<String> tags = new HashSet<>();
+        String searchValue = firstOf(parameters.get("searchValue"));
+        boolean searching = searchValue != null && !searchValue.isBlank();
+
+        switch (path) {
+            case "/articles/hot" -> tags.add(ARTICLE_HOT);
+            case "/articles/search-hashtag" -> {
+                if (searching) {
+                    HashtagQuery query = HashtagQuery.parse(searchValue);
+                    query.includedNames().forEach(name -> tags.add(hashtag(name)));
+                    query.excludedNames().forEach(name -> tags.add(hashtag(name)));
+                }
+            }
+            default -> {
+                if (path.equals("/articles")) {
+                    tags.add(searching ? ARTICLE_SEARCH : ARTICLE_LIST);
+                }
+            }
+        }
+
+        if (model.get("articles") instanceof Iterable<?> articles) {
+            for (Object article : articles) {
+                if (article instanceof ArticleSummaryResponse summary) {
+                    tags.add(article(summary.id()));
+                } else if (article instanceof ArticleResponse response) {
+                    tags.add(article(response.id()));
+                }
+            }
+        }
+        if (model.get("article") instanceof ArticleWithCommentsResponse article) {
+            tags.add(article(article.id()));
+        }
+        if (model.get("neighbors") instanceof ArticleNeighborsResponse neighbors) {
+            if (neighbors.hasPrevious()) {
+                tags.add(article(neighbors.previousArticleId()));
+            }
+            tags.add(neighbors.hasNext() ? article(neighbors.nextArticleId()) : ARTICLE_LATEST);
+        }
+        if (model.containsKey("hashtags")) {
+            tags.add(HASHTAG_LIST);
+        }
+        return tags;
+    }
+
+    public static Set<String> of(ArticleEvent event) {
+        Set<String> current = namesOf(event.hashtagDtos());
+        Set<String> previous = namesOf(event.previousHashtagDtos());
+        Set<String> changedNames = new HashSet<>(current);
+        changedNames.addAll(previous);
+        if (event.eventType() == ArticleEvent.EventType.UPDATED) {
+            changedNames.removeIf(name -> current.contains(name) && previous.contains(name));
+        }
+
+        Set<String> tags = new HashSet<>();
+        tags.add(ARTICLE_SEARCH);
+        switch (event.eventType()) {
+            case CREATED -> {
+                tags.add(ARTICLE_LIST);
+                tags.add(ARTICLE_LATEST);
+            }
+            case UPDATED -> tags.add(article(event.articleId()));
+            case DELETED -> {
+                tags.add(article(event.articleId()));
+                tags.add(ARTICLE_LIST);
+                tags.add(ARTICLE_HOT);
+            }
+        }
+        changedNames.forEach(name -> tags.add(hashtag(name)));
+        if (!changedNames.isEmpty()) {
+            tags.add(HASHTAG_LIST);
+        }
+        return tags;
+    }
+
+    public static Set<String> of(ArticleCommentEvent event) {
+        return Set.of(article(event.articleId()), ARTICLE_HOT);
+    }
+
+    private static Set<String> namesOf(Set<HashtagDto> hashtagDtos) {
+        return hashtagDtos.stream()
+                .map(HashtagDto::hashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static String firstOf(String[] values) {
+        return values == null || values.length == 0 ? null : values[0];
+    }
+}
@@ -4,13 +4,19 @@ import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.yoon.projectboard.domain.ArticleComment;
 import com.yoon.projectboard.domain.QArticleComment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RepositoryRestResource
 public interface ArticleCommentRepository extends
@@ -20,6 +26,15 @@ public interface ArticleCommentRepository extends
 {
     List<ArticleComment> findByArticle_Id(Long articleId);
 
+    // 게시글 상세 화면용: 댓글(대댓글 포함, 평평한 목록)과 작성자를 한 번에 조회
+    @EntityGraph(attributePaths = "userAccount")
+    List<ArticleComment> findWithUserAccountByArticle_IdOrderByCreatedAtDesc(Long articleId);
+
+    // 조건부 GET 용: 댓글 엔티티를 읽지 않고 수정일시만 조회
+    @RestResource(exported = false)
+    @Query("select ac.modifiedAt from ArticleComment ac where ac.id = :articleCommentId")
+    Optional<LocalDateTime> findModifiedAtById(@Param("articleCommentId") Long articleCommentId);
+
     void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
 
     @Override
@@ -7,12 +7,16 @@ import com.yoon.projectboard.domain.QArticle;
 import com.yoon.projectboard.repository.querydsl.ArticleRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
+import java.util.Optional;
+
 @RepositoryRestResource
 public interface ArticleRepository extends
         JpaRepository<Article, Long>,
@@ -20,11 +24,25 @@ public interface ArticleRepository extends
         QuerydslPredicateExecutor<Article>,
         QuerydslBinderCustomizer<QArticle>
 {
-    Page<Article> findByTitleContaining(String title, Pageable pageable);
-    Page<Article> findByContentContaining(String content, Pageable pageable);
     Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
 
+    // count 쿼리 없이 size + 1 건만 조회하는 목록. 전체 개수는 PageCountService 가 전략에 따라 채운다.
+    Slice<Article> findSliceBy(Pageable pageable);
+    Slice<Article> findSliceByTitleContaining(String title, Pageable pageable);
+    Slice<Article> findSliceByContentContaining(String content, Pageable pageable);
+    Slice<Article> findSliceByUserAccount_UserIdContaining(String userId, Pageable pageable);
+    Slice<Article> findSliceByUserAccount_NicknameContaining(String nickname, Pageable pageable);
+
+    long countByTitleContaining(String title);
+    long countByContentContaining(String content);
+    long countByUserAccount_UserIdContaining(String userId);
+    long countByUserAccount_NicknameContaining(String nickname);
+
+    // 게시글 상세 화면용: 게시글, 작성자, 해시태그를 한 번에 조회 (댓글은 ArticleCommentRepository 에서 따로 조회)
+    @EntityGraph(attributePaths = {"userAccount", "hashtags"})
+    Optional<Article> findWithUserAccountAndHashtagsById(Long articleId);
+
     void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
 
     @Override
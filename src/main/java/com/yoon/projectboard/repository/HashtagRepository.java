@@ -3,7 +3,9 @@ package com.yoon.projectboard.repository;
 import com.yoon.projectboard.domain.Hashtag;
 import com.yoon.projectboard.repository.querydsl.HashtagRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +18,13 @@ public interface HashtagRepository extends
 {
     Optional<Hashtag> findByHashtagName(String hashtagName);
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
+
+    /**
+     * {@code afterId} 다음부터 게시글 수가 0인 해시태그 ID를 ID 순으로 최대 {@code limit}개
+     */
+    @Query(
+            value = "select id from hashtag where article_count <= 0 and id > :afterId order by id limit :limit",
+            nativeQuery = true
+    )
+    List<Long> findOrphanIds(@Param("afterId") Long afterId, @Param("limit") int limit);
 }
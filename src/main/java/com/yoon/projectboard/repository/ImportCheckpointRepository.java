@@ -0,0 +1,7 @@
+package com.yoon.projectboard.repository;
+
+import com.yoon.projectboard.domain.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
@@ -3,5 +3,12 @@ package com.yoon.projectboard.repository;
 import com.yoon.projectboard.domain.UserAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface UserAccountRepository extends JpaRepository<UserAccount, String> {
+import java.util.Collection;
+import java.util.List;
+
+public interface UserAccountRepository extends
+        JpaRepository<UserAccount, String>,
+        UserAccountRepositoryCustom
+{
+    List<UserAccount> findByEmailIn(Collection<String> emails);
 }
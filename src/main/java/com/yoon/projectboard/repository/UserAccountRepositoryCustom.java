@@ -0,0 +1,17 @@
+package com.yoon.projectboard.repository;
+
+import com.yoon.projectboard.domain.UserAccount;
+
+public interface UserAccountRepositoryCustom {
+
+    /**
+     * 2차 캐시에서 사용자 계정을 뺀다. 다음 조회는 DB에서 다시 읽는다.
+     */
+    void evictFromCache(String userId);
+
+    /**
+     * 새 사용자 계정을 조회 없이 바로 insert 한다. ({@code save}는 ID가 정해진 엔티티를 merge 하느라 select 를 먼저 한다)
+     * 같은 ID가 이미 있으면 기본 키 제약 조건 위반으로 {@link org.springframework.dao.DataIntegrityViolationException}이 난다.
+     */
+    UserAccount insert(UserAccount userAccount);
+}
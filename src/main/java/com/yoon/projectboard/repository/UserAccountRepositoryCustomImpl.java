@@ -0,0 +1,26 @@
+package com.yoon.projectboard.repository;
+
+import com.yoon.projectboard.domain.UserAccount;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+@RequiredArgsConstructor
+public class UserAccountRepositoryCustomImpl implements UserAccountRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void evictFromCache(String userId) {
+        entityManagerFactory.getCache().evict(UserAccount.class, userId);
+    }
+
+    @Override
+    public UserAccount insert(UserAccount userAccount) {
+        entityManager.persist(userAccount);
+        entityManager.flush();      // 중복 ID를 커밋이 아니라 여기서 알 수 있게 바로 insert 한다
+        return userAccount;
+    }
+}
@@ -1,19 +1,79 @@
 package com.yoon.projectboard.repository.querydsl;
 
+import com.querydsl.core.types.Predicate;
 import com.yoon.projectboard.domain.Article;
-import org.springframework.data.domain.Page;
+import com.yoon.projectboard.dto.ArticleCreatedAtDto;
+import com.yoon.projectboard.dto.ArticleCursor;
+import com.yoon.projectboard.dto.ArticleDocumentDto;
+import com.yoon.projectboard.dto.ArticleHashtagDto;
+import com.yoon.projectboard.dto.ArticleSummaryDto;
+import com.yoon.projectboard.dto.ArticleVersionDto;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
 
     /**
-     * @deprecated 해시태그 도메인을 새로 만들었으므로 이 코드는 더 이상 사용할 필요 없다.
-     * @see HashtagRepositoryCustom#findAllHashtagNames()
+     * 검색 조건에 맞는 게시글을 {@code size + 1}건 조회해 다음 페이지 여부만 판단한다. 전체 개수는 구하지 않는다.
+     *
+     * @param condition 검색 조건, 없으면 {@code null}
      */
-    @Deprecated
-    List<String> findAllDistinctHashtags();
-    Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+    Slice<Article> findSlice(Predicate condition, Pageable pageable);
+
+    /**
+     * {@code lastId} 이후의 게시글을 ID 오름차순으로 {@code limit}개 조회한다. 색인 생성용 청크 조회에 사용한다.
+     */
+    List<ArticleDocumentDto> findDocumentsAfter(Long lastId, long limit);
+
+    /**
+     * {@code lastId} 이후의 게시글 ID를 오름차순으로 {@code limit}개 조회한다.
+     */
+    List<Long> findIdsAfter(Long lastId, long limit);
+
+    /**
+     * {@code lastId} 이후의 게시글 ID와 작성일시를 ID 오름차순으로 {@code limit}개 조회한다. 정렬 색인 생성용 청크 조회에 사용한다.
+     */
+    List<ArticleCreatedAtDto> findCreatedAtsAfter(Long lastId, long limit);
+
+    /**
+     * {@code articleId}보다 작은 ID 중 가장 큰 게시글 ID. PK 인덱스를 한 번 탐색해 찾는다.
+     */
+    Optional<Long> findPreviousId(Long articleId);
+
+    /**
+     * {@code articleId}보다 큰 ID 중 가장 작은 게시글 ID. PK 인덱스를 한 번 탐색해 찾는다.
+     */
+    Optional<Long> findNextId(Long articleId);
+
+    /**
+     * 게시글 상세 화면의 버전. 게시글과 댓글의 수정일시만 집계하므로 엔티티를 읽지 않는다. 게시글이 없으면 {@link Optional#empty()}.
+     */
+    Optional<ArticleVersionDto> findVersionById(Long articleId);
+
+    /**
+     * {@code (articleId, hashtagId)} 이후의 게시글-해시태그 연결을 순서대로 {@code limit}개 조회한다. 해시태그 색인 생성용 청크 조회에 사용한다.
+     */
+    List<ArticleHashtagDto> findArticleHashtagsAfter(Long lastArticleId, Long lastHashtagId, long limit);
+
+    /**
+     * {@code (createdAt, id)} 탐색 조건으로 커서 위치부터 {@code size}개의 목록용 컬럼을 조회한다. OFFSET을 쓰지 않으므로 페이지 깊이와 무관하게 비용이 같다.
+     * <p>
+     * 결과는 항상 {@code createdAt DESC, id DESC} 순서이고, {@link Slice#hasNext()}는 커서 진행 방향으로 더 조회할 글이 있는지를 뜻한다.
+     *
+     * @param condition 검색 조건, 없으면 {@code null}
+     */
+    Slice<ArticleSummaryDto> findSummariesByCursor(Predicate condition, ArticleCursor cursor, int size);
+
+    /**
+     * 목록 화면에 필요한 컬럼(제목, 요약, 작성자, 작성일)만 조회한다. 본문은 읽지 않는다.
+     * 해시태그는 조회한 페이지의 게시글 ID로 한 번에 가져오므로 페이지 크기와 무관하게 쿼리 두 번으로 끝난다.
+     * <p>
+     * 전체 개수는 구하지 않는다({@code size + 1}건 조회로 다음 페이지 여부만 판단).
+     *
+     * @param condition 검색 조건, 없으면 {@code null}
+     */
+    Slice<ArticleSummaryDto> findSummaries(Predicate condition, Pageable pageable);
 }
@@ -1,16 +1,26 @@
 package com.yoon.projectboard.repository.querydsl;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQuery;
 import com.yoon.projectboard.domain.Article;
 import com.yoon.projectboard.domain.QArticle;
+import com.yoon.projectboard.domain.QArticleComment;
 import com.yoon.projectboard.domain.QHashtag;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import com.yoon.projectboard.domain.QUserAccount;
+import com.yoon.projectboard.dto.ArticleCreatedAtDto;
+import com.yoon.projectboard.dto.ArticleCursor;
+import com.yoon.projectboard.dto.ArticleDocumentDto;
+import com.yoon.projectboard.dto.ArticleHashtagDto;
+import com.yoon.projectboard.dto.ArticleSummaryDto;
+import com.yoon.projectboard.dto.ArticleVersionDto;
+import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom{
 
@@ -19,24 +29,204 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
     }
 
     @Override
-    public List<String> findAllDistinctHashtags() {
+    public Slice<Article> findSlice(Predicate condition, Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<Article> query = from(article)
+                .where(condition);
+        getQuerydsl().applySorting(pageable.getSort(), query);
+        List<Article> articles = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = articles.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? articles.subList(0, pageable.getPageSize()) : articles, pageable, hasNext);
+    }
+
+    @Override
+    public List<ArticleDocumentDto> findDocumentsAfter(Long lastId, long limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(Projections.constructor(ArticleDocumentDto.class, article.id, article.title, article.content))
+                .where(article.id.gt(lastId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long lastId, long limit) {
         QArticle article = QArticle.article;
 
         return from(article)
-                .distinct()
-                .select(article.hashtags.any().hashtagName)
+                .select(article.id)
+                .where(article.id.gt(lastId))
+                .orderBy(article.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
     @Override
-    public Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable) {
+    public List<ArticleCreatedAtDto> findCreatedAtsAfter(Long lastId, long limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(Projections.constructor(ArticleCreatedAtDto.class, article.id, article.createdAt))
+                .where(article.id.gt(lastId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<Long> findPreviousId(Long articleId) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .select(article.id)
+                .where(article.id.lt(articleId))
+                .orderBy(article.id.desc())
+                .fetchFirst());
+    }
+
+    @Override
+    public Optional<Long> findNextId(Long articleId) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .select(article.id)
+                .where(article.id.gt(articleId))
+                .orderBy(article.id.asc())
+                .fetchFirst());
+    }
+
+    @Override
+    public Optional<ArticleVersionDto> findVersionById(Long articleId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return Optional.ofNullable(from(article)
+                .leftJoin(article.articleComments, articleComment)
+                .select(Projections.constructor(ArticleVersionDto.class,
+                        article.id, article.modifiedAt, articleComment.modifiedAt.max(), articleComment.count(), article.views))
+                .where(article.id.eq(articleId))
+                .groupBy(article.id, article.modifiedAt, article.views)
+                .fetchOne());
+    }
+
+    @Override
+    public List<ArticleHashtagDto> findArticleHashtagsAfter(Long lastArticleId, Long lastHashtagId, long limit) {
         QHashtag hashtag = QHashtag.hashtag;
         QArticle article = QArticle.article;
 
-        JPQLQuery<Article> query = from(article)
+        return from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .select(Projections.constructor(ArticleHashtagDto.class, article.id, hashtag.id, hashtag.hashtagName))
+                .where(article.id.gt(lastArticleId)
+                        .or(article.id.eq(lastArticleId).and(hashtag.id.gt(lastHashtagId))))
+                .orderBy(article.id.asc(), hashtag.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSummariesByCursor(Predicate condition, ArticleCursor cursor, int size) {
+        QArticle article = QArticle.article;
+
+        BooleanBuilder where = new BooleanBuilder().and(condition);
+        if (!cursor.isFirst()) {
+            where.and(cursor.backward()
+                    ? article.createdAt.gt(cursor.createdAt())
+                            .or(article.createdAt.eq(cursor.createdAt()).and(article.id.gt(cursor.id())))
+                    : article.createdAt.lt(cursor.createdAt())
+                            .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())))
+            );
+        }
+
+        JPQLQuery<Tuple> query = summaryQuery(where);
+        if (cursor.backward()) {
+            query.orderBy(article.createdAt.asc(), article.id.asc());
+        } else {
+            query.orderBy(article.createdAt.desc(), article.id.desc());
+        }
+        List<Tuple> rows = query.limit(size + 1L).fetch();
+
+        boolean hasMore = rows.size() > size;
+        List<Tuple> pageRows = new ArrayList<>(rows.subList(0, Math.min(size, rows.size())));
+        if (cursor.backward()) {
+            Collections.reverse(pageRows);
+        }
+
+        Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        return new SliceImpl<>(toSummaries(pageRows), pageable, hasMore);
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSummaries(Predicate condition, Pageable pageable) {
+        JPQLQuery<Tuple> query = summaryQuery(condition);
+        getQuerydsl().applySorting(pageable.getSort(), query);
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize() + 1L);
+        }
+        List<Tuple> rows = query.fetch();
+
+        boolean hasNext = pageable.isPaged() && rows.size() > pageable.getPageSize();
+        List<Tuple> pageRows = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(toSummaries(pageRows), pageable, hasNext);
+    }
+
+    private JPQLQuery<Tuple> summaryQuery(Predicate condition) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .where(condition)
+                .select(article.id, article.title, article.excerpt, article.createdAt,
+                        userAccount.userId, userAccount.email, userAccount.nickname);
+    }
+
+    private List<ArticleSummaryDto> toSummaries(List<Tuple> rows) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        Map<Long, Set<String>> hashtagNames = findHashtagNamesByArticleIds(
+                rows.stream().map(row -> row.get(article.id)).toList()
+        );
+        return rows.stream()
+                .map(row -> ArticleSummaryDto.of(
+                        row.get(article.id),
+                        row.get(article.title),
+                        row.get(article.excerpt),
+                        hashtagNames.getOrDefault(row.get(article.id), Set.of()),
+                        row.get(article.createdAt),
+                        row.get(userAccount.userId),
+                        row.get(userAccount.email),
+                        row.get(userAccount.nickname)
+                ))
+                .toList();
+    }
+
+    private Map<Long, Set<String>> findHashtagNamesByArticleIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(article)
                 .innerJoin(article.hashtags, hashtag)
-                .where(hashtag.hashtagName.in(hashtagNames));
-        List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
-        return new PageImpl<>(articles, pageable, query.fetchCount());
+                .where(article.id.in(articleIds))
+                .orderBy(hashtag.hashtagName.asc())
+                .select(article.id, hashtag.hashtagName)
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(article.id),
+                        Collectors.mapping(row -> row.get(hashtag.hashtagName), Collectors.toCollection(LinkedHashSet::new))
+                ));
     }
 }
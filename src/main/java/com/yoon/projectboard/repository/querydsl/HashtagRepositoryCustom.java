@@ -1,7 +1,30 @@
 package com.yoon.projectboard.repository.querydsl;
 
+import com.yoon.projectboard.domain.Hashtag;
+import com.yoon.projectboard.dto.HashtagArticleCountDto;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface HashtagRepositoryCustom {
     List<String> findAllHashtagNames();
+    List<HashtagArticleCountDto> findAllHashtagArticleCounts();
+
+    /**
+     * 해시태그 이름(natural id)으로 찾는다. 2차 캐시의 이름 -> ID 영역을 거치므로 캐시에 있으면 쿼리가 나가지 않는다.
+     */
+    Optional<Hashtag> findByNaturalId(String hashtagName);
+    Set<Hashtag> findAllByNaturalIdIn(Collection<String> hashtagNames);
+
+    /**
+     * 게시글 수를 DB에서 바로 증감한다. 동시에 같은 해시태그를 붙이고 떼도 값을 잃지 않는다.
+     */
+    int addArticleCount(Collection<Long> hashtagIds, long delta);
+
+    /**
+     * 주어진 해시태그 중 게시글 수가 0이고 실제로도 어떤 게시글에도 달려 있지 않은 것을 한 번의 삭제 쿼리로 지운다.
+     */
+    int deleteWithoutArticlesByIdIn(Collection<Long> hashtagIds);
 }
@@ -1,13 +1,27 @@
 package com.yoon.projectboard.repository.querydsl;
 
+import com.querydsl.core.types.Projections;
 import com.yoon.projectboard.domain.Hashtag;
 import com.yoon.projectboard.domain.QHashtag;
+import com.yoon.projectboard.dto.HashtagArticleCountDto;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
-import java.util.List;
+import javax.persistence.Cache;
+
+import java.io.Serializable;
+import java.util.*;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
 
+    // 해시태그 update/delete 네이티브 쿼리가 알리는 공간. 어떤 엔티티 테이블과도 겹치지 않아 2차 캐시 영역을 통째로 비우지 않는다.
+    // 대신 바뀐 해시태그만 골라 캐시에서 뺀다.
+    private static final String HASHTAG_UPDATE_SPACE = "hashtag_article_count";
+
     public HashtagRepositoryCustomImpl() {
         super(Hashtag.class);
     }
@@ -20,4 +34,105 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 .select(hashtag.hashtagName)
                 .fetch();
     }
+
+    @Override
+    public List<HashtagArticleCountDto> findAllHashtagArticleCounts() {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(hashtag)
+                .where(hashtag.articleCount.gt(0))
+                .select(Projections.constructor(HashtagArticleCountDto.class, hashtag.hashtagName, hashtag.articleCount))
+                .fetch();
+    }
+
+    @Override
+    public Optional<Hashtag> findByNaturalId(String hashtagName) {
+        return session().bySimpleNaturalId(Hashtag.class).loadOptional(hashtagName);
+    }
+
+    /**
+     * 이름 -> ID 캐시(세션, 2차 캐시)에서 찾은 이름은 ID로 엔티티를 읽고(역시 캐시 우선), 캐시에 없는 이름만 in 쿼리 한 번으로 조회한다.
+     * in 쿼리로 읽은 해시태그는 이름 -> ID 캐시에 올라가므로 다음 조회부터는 쿼리가 없다.
+     */
+    @Override
+    public Set<Hashtag> findAllByNaturalIdIn(Collection<String> hashtagNames) {
+        Set<Hashtag> hashtags = new LinkedHashSet<>();
+        Set<String> missingNames = new LinkedHashSet<>();
+        for (String hashtagName : hashtagNames) {
+            Serializable id = cachedIdOf(hashtagName);
+            Hashtag hashtag = id == null ? null : session().get(Hashtag.class, id);
+            if (hashtag != null) {
+                hashtags.add(hashtag);
+            } else {
+                missingNames.add(hashtagName);
+            }
+        }
+
+        if (!missingNames.isEmpty()) {
+            QHashtag hashtag = QHashtag.hashtag;
+            hashtags.addAll(from(hashtag)
+                    .where(hashtag.hashtagName.in(missingNames))
+                    .fetch());
+        }
+        return hashtags;
+    }
+
+    /**
+     * 게시글 저장/수정/삭제마다 불리므로 해시태그 영역을 통째로 비우지 않고, 게시글 수가 바뀐 해시태그만 캐시에서 뺀다.
+     * 이름 -> ID 는 바뀌지 않으므로 이름 -> ID 영역은 그대로 둔다.
+     */
+    @Override
+    public int addArticleCount(Collection<Long> hashtagIds, long delta) {
+        int updated = nativeQuery("update hashtag set article_count = article_count + :delta where id in (:hashtagIds)")
+                .addSynchronizedQuerySpace(HASHTAG_UPDATE_SPACE)
+                .setParameter("delta", delta)
+                .setParameterList("hashtagIds", hashtagIds)
+                .executeUpdate();
+        evictFromCache(hashtagIds);
+        return updated;
+    }
+
+    /**
+     * 실제로 지운 해시태그가 있을 때만 캐시를 비운다. 지운 해시태그는 ID 로 빼고,
+     * 이름 -> ID 는 이름을 모르므로 그 영역만 비운다(해시태그가 지워지는 일은 드물다).
+     */
+    @Override
+    public int deleteWithoutArticlesByIdIn(Collection<Long> hashtagIds) {
+        int deleted = nativeQuery("delete from hashtag " +
+                "where id in (:hashtagIds) " +
+                "and article_count <= 0 " +
+                "and not exists (select 1 from article_hashtag ah where ah.hashtag_id = hashtag.id)")
+                .addSynchronizedQuerySpace(HASHTAG_UPDATE_SPACE)
+                .setParameterList("hashtagIds", hashtagIds)
+                .executeUpdate();
+        if (deleted > 0) {
+            evictFromCache(hashtagIds);
+            session().getSessionFactory().getCache().evictNaturalIdData(Hashtag.class);
+        }
+        return deleted;
+    }
+
+    /**
+     * 세션, 2차 캐시 순서로 이름 -> ID 를 찾는다. 캐시에 없거나 무효로 표시된 이름이면 {@code null}
+     */
+    private Serializable cachedIdOf(String hashtagName) {
+        SessionImplementor session = session().unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMetamodel().entityPersister(Hashtag.class);
+        Serializable id = session.getPersistenceContextInternal().getNaturalIdHelper()
+                .findCachedNaturalIdResolution(persister, new Object[]{hashtagName});
+        return id == PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE ? null : id;
+    }
+
+    private void evictFromCache(Collection<Long> hashtagIds) {
+        Cache cache = getEntityManager().getEntityManagerFactory().getCache();
+        hashtagIds.forEach(hashtagId -> cache.evict(Hashtag.class, hashtagId));
+    }
+
+    private NativeQuery<?> nativeQuery(String sql) {
+        return session().createNativeQuery(sql);
+    }
+
+    private Session session() {
+        return getEntityManager().unwrap(Session.class);
+    }
 }
@@ -4,16 +4,20 @@ import com.yoon.projectboard.domain.Article;
 import com.yoon.projectboard.domain.ArticleComment;
 import com.yoon.projectboard.domain.UserAccount;
 import com.yoon.projectboard.dto.ArticleCommentDto;
+import com.yoon.projectboard.dto.event.ArticleCommentEvent;
 import com.yoon.projectboard.repository.ArticleCommentRepository;
 import com.yoon.projectboard.repository.ArticleRepository;
 import com.yoon.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -24,6 +28,7 @@ public class ArticleCommentService {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
@@ -33,6 +38,14 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    /**
+     * 댓글 수정일시(조건부 GET 용). 댓글 엔티티를 읽지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getArticleCommentModifiedAt(Long articleCommentId) {
+        return articleCommentRepository.findModifiedAtById(articleCommentId);
+    }
+
     public void saveArticleComment(ArticleCommentDto dto) {
         try {
             Article article = articleRepository.getReferenceById(dto.articleId());
@@ -45,6 +58,7 @@ public class ArticleCommentService {
             } else {
                 articleCommentRepository.save(articleComment);
             }
+            eventPublisher.publishEvent(ArticleCommentEvent.created(dto.articleId()));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - {}" , e.getLocalizedMessage());
         }
@@ -56,12 +70,16 @@ public class ArticleCommentService {
             if (dto.content() != null) {
                 articleComment.setContent(dto.content());
             }
+            eventPublisher.publishEvent(ArticleCommentEvent.changed(dto.articleId()));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 업데이트 실패. 댓글을 찾을 수 없습니다 - dto: {}", dto);
         }
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
+        Optional<Long> articleId = articleCommentRepository.findById(articleCommentId)
+                .map(articleComment -> articleComment.getArticle().getId());
         articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        articleId.ifPresent(id -> eventPublisher.publishEvent(ArticleCommentEvent.changed(id)));
     }
 }
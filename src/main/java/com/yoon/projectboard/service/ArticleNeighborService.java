@@ -0,0 +1,47 @@
+package com.yoon.projectboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yoon.projectboard.config.ArticleNeighborConfig.ArticleNeighborProperties;
+import com.yoon.projectboard.dto.ArticleNeighborsDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.ArticleRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 상세 화면의 이전/다음 게시글. 실제로 존재하는 가장 가까운 ID를 인덱스 탐색으로 구하고 게시글별로 캐시한다.
+ * <p>
+ * 게시글이 생기거나 지워지면 그 ID를 이전/다음으로 가졌거나 그 사이에 끼게 되는 항목만 무효화한다.
+ */
+@Service
+public class ArticleNeighborService {
+
+    private final ArticleRepository articleRepository;
+    private final Cache<Long, ArticleNeighborsDto> neighbors;
+
+    public ArticleNeighborService(ArticleRepository articleRepository, ArticleNeighborProperties properties) {
+        this.articleRepository = articleRepository;
+        this.neighbors = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    public ArticleNeighborsDto getNeighbors(Long articleId) {
+        return neighbors.get(articleId, id -> ArticleNeighborsDto.of(
+                id,
+                articleRepository.findPreviousId(id).orElse(null),
+                articleRepository.findNextId(id).orElse(null)
+        ));
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.eventType() == ArticleEvent.EventType.UPDATED) {
+            return;
+        }
+
+        neighbors.asMap().values().removeIf(cached -> cached.isAffectedBy(event.articleId()));
+    }
+}
@@ -1,25 +1,54 @@
 package com.yoon.projectboard.service;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import com.yoon.projectboard.domain.Article;
+import com.yoon.projectboard.domain.ArticleComment;
 import com.yoon.projectboard.domain.Hashtag;
+import com.yoon.projectboard.domain.QArticle;
 import com.yoon.projectboard.domain.UserAccount;
 import com.yoon.projectboard.domain.constant.SearchType;
+import com.yoon.projectboard.dto.ArticleCursor;
 import com.yoon.projectboard.dto.ArticleDto;
+import com.yoon.projectboard.dto.ArticleNeighborsDto;
+import com.yoon.projectboard.dto.ArticleSummaryDto;
+import com.yoon.projectboard.dto.ArticleVersionDto;
 import com.yoon.projectboard.dto.ArticleWithCommentsDto;
+import com.yoon.projectboard.dto.HashtagDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.ArticleCommentRepository;
 import com.yoon.projectboard.repository.ArticleRepository;
 import com.yoon.projectboard.repository.HashtagRepository;
 import com.yoon.projectboard.repository.UserAccountRepository;
+import com.yoon.projectboard.service.search.ArticleOrderIndex;
+import com.yoon.projectboard.service.search.ArticleSearchIndex;
+import com.yoon.projectboard.service.search.HashtagAutocomplete;
+import com.yoon.projectboard.service.search.HashtagBitmapIndex;
+import com.yoon.projectboard.service.search.HashtagQuery;
+import com.yoon.projectboard.service.trending.TrendingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,37 +57,189 @@ import java.util.stream.Collectors;
 @Service
 public class ArticleService {
 
+    // 커서 목록 한 번에 보여 주는 최대 게시글 수. size 파라미터는 Pageable 의 최대 크기 제한을 받지 않으므로 직접 막는다.
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final HashtagService hashtagService;
     private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleOrderIndex articleOrderIndex;
+    private final HashtagBitmapIndex hashtagBitmapIndex;
+    private final HashtagAutocomplete hashtagAutocomplete;
+    private final PageCountService pageCountService;
+    private final ArticleNeighborService articleNeighborService;
+    private final ViewCountService viewCountService;
+    private final TrendingService trendingService;
+    private final SingleFlight singleFlight;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            return pageCountService.toPage(articleRepository.findSliceBy(pageable), null, null, articleRepository::count)
+                    .map(ArticleDto::from);
         }
 
         return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID ->
-                    articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME ->
-                    articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(
-                            Arrays.stream(searchKeyword.split(" ")).toList(),
-                            pageable
+            case TITLE -> articleSearchIndex.searchTitle(searchKeyword)
+                    .flatMap(articleIds -> articleOrderIndex.page(articleIds, pageable))
+                    .map(this::findArticlesByIdsInOrder)
+                    .orElseGet(() -> pageCountService.toPage(
+                            articleRepository.findSliceByTitleContaining(searchKeyword, pageable),
+                            searchType, searchKeyword,
+                            () -> articleRepository.countByTitleContaining(searchKeyword)
+                    ))
+                    .map(ArticleDto::from);
+            case CONTENT -> articleSearchIndex.searchContent(searchKeyword)
+                    .flatMap(articleIds -> articleOrderIndex.page(articleIds, pageable))
+                    .map(this::findArticlesByIdsInOrder)
+                    .orElseGet(() -> pageCountService.toPage(
+                            articleRepository.findSliceByContentContaining(searchKeyword, pageable),
+                            searchType, searchKeyword,
+                            () -> articleRepository.countByContentContaining(searchKeyword)
+                    ))
+                    .map(ArticleDto::from);
+            case ID -> pageCountService.toPage(
+                            articleRepository.findSliceByUserAccount_UserIdContaining(searchKeyword, pageable),
+                            searchType, searchKeyword,
+                            () -> articleRepository.countByUserAccount_UserIdContaining(searchKeyword)
+                    )
+                    .map(ArticleDto::from);
+            case NICKNAME -> pageCountService.toPage(
+                            articleRepository.findSliceByUserAccount_NicknameContaining(searchKeyword, pageable),
+                            searchType, searchKeyword,
+                            () -> articleRepository.countByUserAccount_NicknameContaining(searchKeyword)
                     )
                     .map(ArticleDto::from);
+            case HASHTAG -> searchArticlesByHashtagQuery(searchKeyword, pageable).map(ArticleDto::from);
         };
     }
 
+    /**
+     * 목록 화면용 게시글 검색. 목록에 필요한 컬럼만 조회하고 해시태그는 페이지 단위로 한 번에 가져온다.
+     * <p>
+     * 해시태그로 정렬하는 경우에는 엔티티 조회({@link #searchArticles(SearchType, String, Pageable)})로 처리한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<ArticleSummaryDto> searchArticleSummaries(SearchType searchType, String searchKeyword, Pageable pageable) {
+        return singleFlight.execute("article-summaries", Arrays.asList(searchType, searchKeyword, pageable),
+                () -> loadArticleSummaries(searchType, searchKeyword, pageable));
+    }
+
+    private Page<ArticleSummaryDto> loadArticleSummaries(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (pageable.getSort().getOrderFor("hashtags") != null) {
+            return searchArticles(searchType, searchKeyword, pageable).map(ArticleSummaryDto::from);
+        }
+
+        boolean searching = searchType != null && searchKeyword != null && !searchKeyword.isBlank();
+        if (searching && (searchType == SearchType.TITLE || searchType == SearchType.CONTENT)) {
+            Optional<Page<ArticleSummaryDto>> page = (searchType == SearchType.TITLE
+                    ? articleSearchIndex.searchTitle(searchKeyword)
+                    : articleSearchIndex.searchContent(searchKeyword))
+                    .flatMap(articleIds -> articleOrderIndex.page(articleIds, pageable))
+                    .map(articleIds -> findSummariesByIdsInOrder(articleIds.getContent(), pageable, articleIds.getTotalElements()));
+            if (page.isPresent()) {
+                return page.get();
+            }
+        }
+        if (searching && searchType == SearchType.HASHTAG) {
+            Optional<Page<ArticleSummaryDto>> page = hashtagBitmapIndex.search(searchKeyword)
+                    .flatMap(matches -> pageIdsOf(matches, pageable))
+                    .map(articleIds -> findSummariesByIdsInOrder(articleIds.getContent(), pageable, articleIds.getTotalElements()));
+            if (page.isPresent()) {
+                return page.get();
+            }
+        }
+
+        Predicate condition = searching ? searchCondition(searchType, searchKeyword) : null;
+        return pageCountService.toPage(
+                articleRepository.findSummaries(condition, pageable),
+                searching ? searchType : null, searchKeyword,
+                () -> condition == null ? articleRepository.count() : articleRepository.count(condition)
+        );
+    }
+
+    /**
+     * 인기 게시글 목록. 순위는 {@link TrendingService}가 메모리에서 정하고, 상위 게시글의 목록용 컬럼만 ID로 읽어 순위대로 놓는다.
+     * {@code size}는 1 이상, 메모리에 유지하는 인기 게시글 수 이하로 맞춘다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<ArticleSummaryDto> getHotArticles(int size) {
+        int pageSize = Math.max(1, Math.min(size, trendingService.maxSize()));
+        return singleFlight.execute("hot-articles", pageSize, () -> loadHotArticles(pageSize));
+    }
+
+    private Page<ArticleSummaryDto> loadHotArticles(int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        List<Long> articleIds = trendingService.topArticleIds(size);
+        if (articleIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<ArticleSummaryDto> summaries = findSummariesInOrder(articleIds);
+        return new PageImpl<>(summaries, pageable, summaries.size());
+    }
+
+    /**
+     * 커서 기반 목록 화면용 게시글 검색. {@code (createdAt, id)} 탐색 조건을 사용하므로 몇 번째 페이지든 첫 페이지와 같은 비용으로 조회한다.
+     * <p>
+     * 제목/본문/해시태그 검색은 색인이 찾은 게시글 ID에 커서 위치와 개수를 메모리에서 먼저 적용하고, 그 ID의 목록용 컬럼만 조회한다.
+     * {@code size}는 1 이상 {@link #MAX_CURSOR_PAGE_SIZE} 이하로 맞춘다.
+     */
     @Transactional(readOnly = true)
+    public Slice<ArticleSummaryDto> searchArticleSummaries(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        boolean searching = searchType != null && searchKeyword != null && !searchKeyword.isBlank();
+        Optional<Slice<ArticleSummaryDto>> indexed = (searching ? indexedArticleIds(searchType, searchKeyword) : Optional.<Collection<Long>>empty())
+                .flatMap(articleIds -> articleOrderIndex.slice(articleIds, cursor, pageSize))
+                .map(articleIds -> new SliceImpl<>(findSummariesInOrder(articleIds.getContent()), articleIds.getPageable(), articleIds.hasNext()));
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        return articleRepository.findSummariesByCursor(searchCondition(searchType, searchKeyword), cursor, pageSize);
+    }
+
+    /**
+     * 게시글 상세 조회. 게시글+작성자+해시태그 한 번, 댓글+작성자 한 번, 모두 두 번의 쿼리로 읽는다.
+     * 같은 게시글의 동시 조회는 {@link SingleFlight}로 합쳐 한 번만 읽는다.
+     * 조회수는 요청마다 하나씩 올리고, 아직 DB에 반영되지 않은 조회수까지 더해 반환한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
+        ArticleWithCommentsDto article = singleFlight.execute("article-detail", articleId, () -> loadArticleWithComments(articleId));
+        recordArticleView(articleId);
+
+        return article.withViews(article.views() + viewCountService.pendingViews(articleId));
+    }
+
+    private ArticleWithCommentsDto loadArticleWithComments(Long articleId) {
+        Article article = articleRepository.findWithUserAccountAndHashtagsById(articleId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+        List<ArticleComment> articleComments = articleCommentRepository.findWithUserAccountByArticle_IdOrderByCreatedAtDesc(articleId);
+
+        return ArticleWithCommentsDto.from(article, articleComments);
+    }
+
+    /**
+     * 게시글 상세 화면의 버전(조건부 GET 용). 게시글과 댓글을 읽지 않고 수정일시와 댓글 수만 집계한다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ArticleVersionDto> getArticleVersion(Long articleId) {
+        return articleRepository.findVersionById(articleId);
+    }
+
+    /**
+     * 게시글 조회수를 하나 올린다. 본문을 다시 보내지 않은(304 Not Modified) 상세 조회도 조회로 센다.
+     * 메모리에만 기록하므로 트랜잭션을 열지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordArticleView(Long articleId) {
+        viewCountService.recordView(articleId);
+        trendingService.recordView(articleId);
     }
 
     @Transactional(readOnly = true)
@@ -75,6 +256,9 @@ public class ArticleService {
         Article article = dto.toEntity(userAccount);
         article.addHashtags(hashtags);
         articleRepository.save(article);
+        articleRepository.flush();      // 게시글/새 해시태그/article_hashtag insert 를 배치로 보낸 뒤 게시글 수를 올린다
+        hashtagService.increaseArticleCount(idsOf(article.getHashtags()));
+        eventPublisher.publishEvent(ArticleEvent.created(article));
     }
 
     public void updateArticle(Long articleId, ArticleDto dto) {
@@ -86,55 +270,224 @@ public class ArticleService {
                 if (dto.title() != null) { article.setTitle(dto.title()); }
                 if (dto.content() != null) { article.setContent(dto.content()); }
 
-                Set<Long> hashtagIds = article.getHashtags().stream()
-                        .map(Hashtag::getId)
+                Set<HashtagDto> previousHashtagDtos = article.getHashtags().stream()
+                        .map(HashtagDto::from)
                         .collect(Collectors.toUnmodifiableSet());
-                article.clearHashtags();
+                HashtagChanges changes = reconcileHashtags(article, hashtagService.parseHashtagNames(dto.content()));
                 articleRepository.flush();
 
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
-
-                Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
-                article.addHashtags(hashtags);
+                hashtagService.increaseArticleCount(idsOf(changes.added()));
+                hashtagService.decreaseArticleCount(idsOf(changes.removed()));
+                eventPublisher.publishEvent(ArticleEvent.updated(article, previousHashtagDtos));
             }
         } catch (EntityNotFoundException e) {
             log.warn("게시글 업데이트 실패. 게시글을 수정하는 데 필요한 정보를 찾을 수 없습니다. - {}", e.getLocalizedMessage());
         }
     }
 
+    /**
+     * 작성자가 아니면 아무 상태도 바꾸지 않는다.
+     */
     public void deleteArticle(Long articleId, String userId) {
         Article article = articleRepository.getReferenceById(articleId);
-        Set<Long> hashtagIds = article.getHashtags().stream()
-                .map(Hashtag::getId)
+        if (!article.getUserAccount().getUserId().equals(userId)) {
+            log.warn("게시글 삭제 실패. 작성자가 아닙니다 - articleId: {}, userId: {}", articleId, userId);
+            return;
+        }
+
+        Set<HashtagDto> previousHashtagDtos = article.getHashtags().stream()
+                .map(HashtagDto::from)
                 .collect(Collectors.toUnmodifiableSet());
+        Set<Long> hashtagIds = idsOf(article.getHashtags());
         article.clearHashtags();
 
         articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
         articleRepository.flush();
 
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        hashtagService.decreaseArticleCount(hashtagIds);
+        eventPublisher.publishEvent(ArticleEvent.deleted(articleId, previousHashtagDtos));
     }
 
-    public long getArticleCount() {
-        return articleRepository.count();
+    /**
+     * 실제로 존재하는 바로 이전/다음 게시글. 중간 게시글이 지워졌어도 없는 게시글로 이동하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public ArticleNeighborsDto getArticleNeighbors(Long articleId) {
+        return articleNeighborService.getNeighbors(articleId);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<ArticleDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
         if (hashtagName == null || hashtagName.isBlank()) {
             return Page.empty(pageable);
         }
 
-        return articleRepository.findByHashtagNames(List.of(hashtagName), pageable)
-                .map(ArticleDto::from);
+        return singleFlight.execute("hashtag-search", Arrays.asList(hashtagName, pageable),
+                () -> searchArticlesByHashtagQuery(hashtagName, pageable).map(ArticleDto::from));
     }
 
+    /**
+     * 자동 완성 트라이가 준비되어 있으면 DB 조회 없이 게시글 수가 많은 순서로 반환한다.
+     * 트라이가 준비되기 전(기동 직후)의 동시 조회는 하나로 합친다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<String> getHashtag() {
-        return hashtagRepository.findAllHashtagNames(); //TODO HashtagService로 이동을 고려
+        return hashtagAutocomplete.allNames()
+                .orElseGet(() -> singleFlight.execute("hashtag-names", "all", hashtagRepository::findAllHashtagNames)); //TODO HashtagService로 이동을 고려
+    }
+
+    /**
+     * 해시태그 검색식({@link HashtagQuery})으로 게시글을 찾는다.
+     * <p>
+     * 비트맵 색인이 준비되어 있으면 AND/OR/NOT 결과 ID를 메모리에서 정렬해 해당 페이지의 ID만 골라 그 게시글만 조회한다.
+     * 메모리에서 정렬할 수 없는 정렬이거나 색인이 없으면 검색식을 {@code EXISTS} 조건으로 바꿔 DB에서 찾는다.
+     * 목록 화면용 검색({@link #searchArticleSummaries(SearchType, String, Pageable)})과 같은 조건으로 개수를 세므로, 캐시된 전체 개수가 어느 경로에서 구한 것이든 같다.
+     */
+    private Page<Article> searchArticlesByHashtagQuery(String expression, Pageable pageable) {
+        Optional<Page<Long>> articleIds = hashtagBitmapIndex.search(expression)
+                .flatMap(matches -> pageIdsOf(matches, pageable));
+        if (articleIds.isPresent()) {
+            return findArticlesByIdsInOrder(articleIds.get());
+        }
+
+        Predicate condition = hashtagCondition(HashtagQuery.parse(expression));
+        return pageCountService.toPage(
+                articleRepository.findSlice(condition, pageable),
+                SearchType.HASHTAG, expression,
+                () -> articleRepository.count(condition)
+        );
+    }
+
+    /**
+     * 비트맵 검색 결과 중 요청한 페이지의 게시글 ID. ID 내림차순은 비트맵에서 바로 고르고, 작성일시 정렬 등은 {@link ArticleOrderIndex}로 정렬한다.
+     */
+    private Optional<Page<Long>> pageIdsOf(HashtagBitmapIndex.Matches matches, Pageable pageable) {
+        if (pageable.isPaged() && isIdDescending(pageable.getSort())) {
+            return Optional.of(new PageImpl<>(matches.pageIdsDescending(pageable), pageable, matches.count()));
+        }
+        return articleOrderIndex.page(matches.allIds(), pageable);
+    }
+
+    private Page<Article> findArticlesByIdsInOrder(Page<Long> articleIds) {
+        return findArticlesByIdsInOrder(articleIds.getContent(), articleIds.getPageable(), articleIds.getTotalElements());
+    }
+
+    private Page<Article> findArticlesByIdsInOrder(List<Long> articleIds, Pageable pageable, long total) {
+        Map<Long, Article> articlesById = articleRepository.findAllById(articleIds).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        List<Article> articles = articleIds.stream()
+                .map(articlesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(articles, pageable, total);
+    }
+
+    private Page<ArticleSummaryDto> findSummariesByIdsInOrder(List<Long> articleIds, Pageable pageable, long total) {
+        return new PageImpl<>(findSummariesInOrder(articleIds), pageable, total);
+    }
+
+    /**
+     * 한 페이지 분량의 게시글 ID로 목록용 컬럼을 읽어 {@code articleIds} 순서대로 놓는다.
+     */
+    private List<ArticleSummaryDto> findSummariesInOrder(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleSummaryDto> summariesById = articleRepository
+                .findSummaries(QArticle.article.id.in(articleIds), PageRequest.of(0, articleIds.size()))
+                .stream()
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+        return articleIds.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 명시적으로 {@code id DESC} 하나로만 정렬한 경우. 작성일시 정렬은 ID 순서와 다를 수 있으므로 포함하지 않는다.
+     */
+    private static boolean isIdDescending(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && orders.get(0).getProperty().equals("id") && orders.get(0).isDescending();
+    }
+
+    /**
+     * 검색 색인이 찾은 게시글 ID 전체. 색인이 없는 검색 유형이거나 색인이 준비되지 않았으면 {@link Optional#empty()}
+     */
+    private Optional<Collection<Long>> indexedArticleIds(SearchType searchType, String searchKeyword) {
+        return switch (searchType) {
+            case TITLE -> articleSearchIndex.searchTitle(searchKeyword).<Collection<Long>>map(Function.identity());
+            case CONTENT -> articleSearchIndex.searchContent(searchKeyword).<Collection<Long>>map(Function.identity());
+            case HASHTAG -> hashtagBitmapIndex.search(searchKeyword).<Collection<Long>>map(HashtagBitmapIndex.Matches::allIds);
+            case ID, NICKNAME -> Optional.empty();
+        };
+    }
+
+    private Predicate searchCondition(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> hashtagCondition(HashtagQuery.parse(searchKeyword));
+        };
+    }
+
+    /**
+     * 해시태그 검색식의 AND/OR/NOT 조건을 게시글별 {@code EXISTS} 서브쿼리로 표현한다. 비트맵 색인 결과 ID를 {@code IN} 조건으로 보내지 않는다.
+     */
+    private static Predicate hashtagCondition(HashtagQuery query) {
+        QArticle article = QArticle.article;
+        BooleanBuilder condition = new BooleanBuilder();
+        if (!query.optionalNames().isEmpty()) {
+            condition.and(article.hashtags.any().hashtagName.in(query.optionalNames()));
+        }
+        query.requiredNames().forEach(name -> condition.and(article.hashtags.any().hashtagName.eq(name)));
+        query.excludedNames().forEach(name -> condition.andNot(article.hashtags.any().hashtagName.eq(name)));
+        return condition;
+    }
+
+    /**
+     * 게시글의 해시태그를 {@code hashtagNames}에 맞춘다. 빠진 해시태그와 새로 생긴 해시태그만 컬렉션에서 빼고 더하므로,
+     * flush 시 {@code article_hashtag}에는 바뀐 행에 대한 delete/insert 만 (배치로) 나간다.
+     * 새로 만든 해시태그의 ID는 flush 이후에 채워진다.
+     */
+    private HashtagChanges reconcileHashtags(Article article, Set<String> hashtagNames) {
+        Set<Hashtag> removedHashtags = article.getHashtags().stream()
+                .filter(hashtag -> !hashtagNames.contains(hashtag.getHashtagName()))
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> currentHashtagNames = article.getHashtags().stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> addedHashtagNames = hashtagNames.stream()
+                .filter(hashtagName -> !currentHashtagNames.contains(hashtagName))
+                .collect(Collectors.toUnmodifiableSet());
+
+        Set<Hashtag> addedHashtags = addedHashtagNames.isEmpty() ? Set.of() : renewHashtags(addedHashtagNames);
+        article.removeHashtags(removedHashtags);
+        article.addHashtags(addedHashtags);
+
+        return new HashtagChanges(addedHashtags, removedHashtags);
+    }
+
+    private static Set<Long> idsOf(Collection<Hashtag> hashtags) {
+        return hashtags.stream()
+                .map(Hashtag::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     private Set<Hashtag> renewHashtagsFromContent(String content) {
-        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
+        return renewHashtags(hashtagService.parseHashtagNames(content));
+    }
+
+    private Set<Hashtag> renewHashtags(Set<String> hashtagNamesInContent) {
         Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
         Set<String> existingHashtagNames = hashtags.stream()
                 .map(Hashtag::getHashtagName)
@@ -147,4 +500,7 @@ public class ArticleService {
         });
         return hashtags;
     }
+
+    private record HashtagChanges(Set<Hashtag> added, Set<Hashtag> removed) {
+    }
 }
@@ -0,0 +1,49 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 게시글이 하나도 없는 해시태그를 주기적으로 지운다.
+ * <p>
+ * 게시글 수정/삭제 요청은 해시태그의 게시글 수만 줄이고, 삭제는 요청 밖에서 이 작업이 모아서 한다.
+ * 게시글 수가 0인 해시태그를 ID 순으로 {@link #BATCH_SIZE}개씩 골라, 배치마다 한 번의 삭제 쿼리(별도 트랜잭션)로 지운다.
+ * 그 사이 다시 게시글이 달린 해시태그는 삭제 쿼리의 조건에서 걸러진다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagOrphanSweeper {
+
+    static final int BATCH_SIZE = 500;
+
+    private final HashtagRepository hashtagRepository;
+    private final HashtagService hashtagService;
+
+    @Scheduled(
+            initialDelayString = "${board.hashtag.orphan-sweep-interval:PT1M}",
+            fixedDelayString = "${board.hashtag.orphan-sweep-interval:PT1M}"
+    )
+    public void sweep() {
+        long deleted = 0;
+        Long lastId = 0L;
+        List<Long> orphanIds;
+        do {
+            orphanIds = hashtagRepository.findOrphanIds(lastId, BATCH_SIZE);
+            if (orphanIds.isEmpty()) {
+                break;
+            }
+            deleted += hashtagService.deleteHashtagsWithoutArticles(orphanIds);
+            lastId = orphanIds.get(orphanIds.size() - 1);
+        } while (orphanIds.size() == BATCH_SIZE);
+
+        if (deleted > 0) {
+            log.debug("게시글 없는 해시태그 정리 - 삭제 수: {}", deleted);
+        }
+    }
+}
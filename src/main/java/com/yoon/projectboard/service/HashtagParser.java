@@ -0,0 +1,66 @@
+package com.yoon.projectboard.service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 본문에서 해시태그 이름을 뽑는다. {@code #} 뒤에 이어지는 해시태그 문자(영문, 숫자, {@code _}, 한글)가 이름이다.
+ * <p>
+ * 본문을 한 번 훑으면서 이름의 시작/끝 위치만 기록하고, 이름 하나당 문자열을 한 번만 만든다.
+ * 정규식 컴파일, {@code strip()}, 매치마다의 {@code replace("#", "")}, 결과 복사 같은 중간 객체가 없다.
+ * {@link #MAX_HASHTAG_LENGTH}보다 긴 이름은 잘라 쓰지 않고 버린다.
+ */
+public final class HashtagParser {
+
+    public static final int MAX_HASHTAG_LENGTH = 50;
+
+    private HashtagParser() {
+    }
+
+    public static Set<String> parse(String content) {
+        if (content == null) {
+            return Set.of();
+        }
+
+        Set<String> names = null;
+        int length = content.length();
+        int i = 0;
+        while (i < length) {
+            if (content.charAt(i++) != '#') {
+                continue;
+            }
+
+            int start = i;
+            while (i < length && isHashtagChar(content.charAt(i))) {
+                i++;
+            }
+
+            int nameLength = i - start;
+            if (nameLength == 0 || nameLength > MAX_HASHTAG_LENGTH) {
+                continue;
+            }
+            if (names == null) {
+                names = new HashSet<>();
+            }
+            names.add(content.substring(start, i));
+        }
+
+        return names == null ? Set.of() : Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * 영문 대소문자, 숫자, {@code _}(정규식 {@code \w}와 같음)와 한글.
+     * 한글은 완성형 음절(가-힣), 호환용 자모(ㄱ-ㆎ), 조합형 자모(NFD로 풀어 쓴 한글) 범위를 포함한다.
+     */
+    static boolean isHashtagChar(char c) {
+        if (c < 0x80) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+        }
+        return (c >= '\uAC00' && c <= '\uD7A3')     // 한글 음절 (가-힣)
+                || (c >= '\u3131' && c <= '\u318E')  // 한글 호환 자모 (ㄱ-ㆎ)
+                || (c >= '\u1100' && c <= '\u11FF')  // 한글 자모
+                || (c >= '\uA960' && c <= '\uA97F')  // 한글 자모 확장 A
+                || (c >= '\uD7B0' && c <= '\uD7FF'); // 한글 자모 확장 B
+    }
+}
@@ -6,10 +6,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Transactional
 @RequiredArgsConstructor
@@ -19,30 +20,45 @@ public class HashtagService {
     private final HashtagRepository hashtagRepository;
 
     public Set<String> parseHashtagNames(String content) {
-        if (content == null) {
-            return Set.of();
-        }
+        return HashtagParser.parse(content);
+    }
 
-        Pattern pattern = Pattern.compile("#[\\w가-핳]+");
-        Matcher matcher = pattern.matcher(content.strip());
-        Set<String> result = new HashSet<>();
+    /**
+     * 이름마다 2차 캐시(이름 -> ID -> 해시태그)를 먼저 보고, 캐시에 없는 이름만 DB에서 찾는다.
+     */
+    @Transactional(readOnly = true)
+    public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
+        return new HashSet<>(hashtagRepository.findAllByNaturalIdIn(hashtagNames));
+    }
 
-        while (matcher.find()) {
-            result.add(matcher.group().replace("#", ""));
+    public void increaseArticleCount(Collection<Long> hashtagIds) {
+        if (!hashtagIds.isEmpty()) {
+            hashtagRepository.addArticleCount(hashtagIds, 1);
         }
+    }
 
-        return Set.copyOf(result);
+    public void decreaseArticleCount(Collection<Long> hashtagIds) {
+        if (!hashtagIds.isEmpty()) {
+            hashtagRepository.addArticleCount(hashtagIds, -1);
+        }
     }
 
-    @Transactional(readOnly = true)
-    public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
-        return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+    /**
+     * 해시태그별로 늘어난 게시글 수를 반영한다. 같은 증가량끼리 묶어 증가량 종류만큼만 update 문을 보낸다.
+     */
+    public void increaseArticleCounts(Map<Long, Long> countsByHashtagId) {
+        countsByHashtagId.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((delta, hashtagIds) -> hashtagRepository.addArticleCount(hashtagIds, delta));
     }
 
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
-        if (hashtag.getArticles().isEmpty()) {
-            hashtagRepository.delete(hashtag);
+    /**
+     * 게시글이 하나도 없는 해시태그를 지운다. 해시태그별 게시글 컬렉션을 읽지 않고 {@code NOT EXISTS} 조건 한 번으로 처리한다.
+     */
+    public int deleteHashtagsWithoutArticles(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return 0;
         }
+        return hashtagRepository.deleteWithoutArticlesByIdIn(hashtagIds);
     }
 }
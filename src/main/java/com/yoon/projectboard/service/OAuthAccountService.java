@@ -0,0 +1,51 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.dto.security.BoardPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * OAuth 로그인 사용자의 게시판 계정을 찾거나, 처음 로그인한 사용자면 만든다.
+ * <p>
+ * 이미 가입한 사용자는 {@link PrincipalCache}에서 바로 돌려준다. 로그인에 쓰지 않는 더미 패스워드는 처음 가입할 때만 만든다.
+ * (bcrypt 해시 한 번이 수십 ms 의 CPU 를 쓰므로, 매 로그인마다 만들면 로그인 처리량이 그만큼 떨어진다)
+ * <p>
+ * 가입은 조회 없이 바로 insert 하고, 같은 사용자의 첫 로그인이 동시에 들어와 기본 키가 겹치면 먼저 저장된 계정을 읽어 돌려준다.
+ * 어느 쪽이 이기든 계정은 하나만 생기고 두 요청 모두 로그인에 성공한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OAuthAccountService {
+
+    private final UserAccountService userAccountService;
+    private final PrincipalCache principalCache;
+    private final PasswordEncoder passwordEncoder;
+
+    public BoardPrincipal provision(String username, String email, String nickname) {
+        return principalCache.get(username)
+                .orElseGet(() -> signUp(username, email, nickname));
+    }
+
+    private BoardPrincipal signUp(String username, String email, String nickname) {
+        String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
+        try {
+            return BoardPrincipal.from(userAccountService.createUser(username, dummyPassword, email, nickname, null));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 첫 로그인이 먼저 저장했다. 캐시에는 아직 '없음'이 남아 있을 수 있으니 DB에서 읽는다.
+            Optional<BoardPrincipal> signedUp = userAccountService.searchUser(username).map(BoardPrincipal::from);
+            if (signedUp.isEmpty()) {
+                throw e;        // 기본 키가 아닌 제약 조건(이메일 중복 등) 위반
+            }
+            log.debug("동시에 가입한 OAuth 계정을 사용 - username: {}", username);
+            principalCache.invalidate(username);
+            return signedUp.get();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.yoon.projectboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yoon.projectboard.config.PaginationConfig.PaginationProperties;
+import com.yoon.projectboard.domain.constant.SearchType;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 페이지의 전체 개수를 설정된 {@link com.yoon.projectboard.config.PaginationConfig.CountStrategy}에 따라 구한다.
+ * <p>
+ * 목록 조회는 {@link Slice}(size + 1 조회)로 하고, 페이지네이션 바에 필요한 전체 개수만 이 서비스가 채워 {@link Page}로 만든다.
+ * 캐시된 개수는 게시글 변경 커밋 시 전부 무효화한다.
+ */
+@Service
+public class PageCountService {
+
+    private final PaginationProperties properties;
+    private final Cache<CountKey, Long> counts;
+
+    public PageCountService(PaginationProperties properties) {
+        this.properties = properties;
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCountCacheTtl())
+                .maximumSize(10_000)
+                .build();
+    }
+
+    public <T> Page<T> toPage(Slice<T> slice, SearchType searchType, String searchKeyword, LongSupplier countQuery) {
+        Pageable pageable = slice.getPageable();
+        CountKey key = CountKey.of(searchType, searchKeyword);
+
+        return switch (properties.getCountStrategy()) {
+            case EXACT -> new PageImpl<>(slice.getContent(), pageable, countQuery.getAsLong());
+            case CACHED -> new PageImpl<>(slice.getContent(), pageable, cachedCount(key, countQuery));
+            case SLICE -> new PageImpl<>(slice.getContent(), pageable, probedCount(slice));
+            case FIRST_PAGES_EXACT -> {
+                Long cached = counts.getIfPresent(key);
+                if (cached != null) {
+                    yield new PageImpl<>(slice.getContent(), pageable, cached);
+                }
+                yield pageable.getPageNumber() < properties.getExactCountPages()
+                        ? new PageImpl<>(slice.getContent(), pageable, cachedCount(key, countQuery))
+                        : new PageImpl<>(slice.getContent(), pageable, probedCount(slice));
+            }
+        };
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        counts.invalidateAll();
+    }
+
+    private long cachedCount(CountKey key, LongSupplier countQuery) {
+        return counts.get(key, k -> countQuery.getAsLong());
+    }
+
+    /**
+     * 다음 페이지가 있으면 한 건 더 있다고 보고 전체 개수를 추정한다. 페이지네이션 바는 다음 페이지까지만 표시된다.
+     */
+    private long probedCount(Slice<?> slice) {
+        long seen = (slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0) + slice.getNumberOfElements();
+        return slice.hasNext() ? seen + 1 : seen;
+    }
+
+    private record CountKey(SearchType searchType, String searchKeyword) {
+        static CountKey of(SearchType searchType, String searchKeyword) {
+            if (searchKeyword == null || searchKeyword.isBlank()) {
+                return new CountKey(null, "");
+            }
+            return new CountKey(searchType, searchKeyword);
+        }
+    }
+}
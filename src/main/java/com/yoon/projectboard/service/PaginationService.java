@@ -1,8 +1,12 @@
 package com.yoon.projectboard.service;
 
+import com.yoon.projectboard.dto.ArticleCursor;
+import com.yoon.projectboard.dto.response.CursorPaginationBar;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 @Service
@@ -17,6 +21,35 @@ public class PaginationService {
         return IntStream.range(startNumber, endNumber).boxed().toList();
     }
 
+    /**
+     * 커서 기반 목록의 이전/다음 커서를 만든다.
+     *
+     * @param cursor     현재 페이지를 조회할 때 사용한 커서
+     * @param slice      화면 표시 순서의 목록. {@link Slice#hasNext()}는 커서 진행 방향으로 더 조회할 글이 있는지를 뜻한다.
+     * @param positionOf 목록 항목의 정렬 위치({@code createdAt}, {@code id})를 구하는 함수
+     */
+    public <T> CursorPaginationBar getCursorPaginationBar(ArticleCursor cursor, Slice<T> slice, Function<T, ArticleCursor> positionOf) {
+        List<T> content = slice.getContent();
+        if (content.isEmpty()) {
+            if (cursor.isFirst()) {
+                return CursorPaginationBar.of(null, null);
+            }
+            return cursor.backward()
+                    ? CursorPaginationBar.of(null, cursor.reverse().toToken())
+                    : CursorPaginationBar.of(cursor.reverse().toToken(), null);
+        }
+
+        ArticleCursor firstRow = positionOf.apply(content.get(0));
+        ArticleCursor lastRow = positionOf.apply(content.get(content.size() - 1));
+        String previousCursor = ArticleCursor.before(firstRow.createdAt(), firstRow.id()).toToken();
+        String nextCursor = ArticleCursor.after(lastRow.createdAt(), lastRow.id()).toToken();
+
+        if (cursor.backward()) {
+            return CursorPaginationBar.of(slice.hasNext() ? previousCursor : null, nextCursor);
+        }
+        return CursorPaginationBar.of(cursor.isFirst() ? null : previousCursor, slice.hasNext() ? nextCursor : null);
+    }
+
     public int currentBarLength() {
         return BAR_LENGTH;
     }
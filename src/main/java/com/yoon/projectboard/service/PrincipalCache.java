@@ -0,0 +1,46 @@
+package com.yoon.projectboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yoon.projectboard.config.SecurityConfig.PrincipalCacheProperties;
+import com.yoon.projectboard.dto.event.UserAccountEvent;
+import com.yoon.projectboard.dto.security.BoardPrincipal;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * 사용자 이름 -> 인증 주체({@link BoardPrincipal}) 캐시.
+ * <p>
+ * 폼 로그인({@code UserDetailsService}), OAuth 로그인, 감사 필드의 작성자 확인이 모두 이 캐시를 거치므로,
+ * 로그인이 몰려도 같은 사용자에 대해서는 만료 시간({@code board.principal-cache.ttl})마다 한 번만 DB를 읽는다.
+ * 없는 사용자도 같은 시간 동안 기억한다. 계정이 저장/변경되면 커밋 이후 그 사용자 항목을 바로 지운다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserAccountService userAccountService;
+    private final Cache<String, Optional<BoardPrincipal>> principals;
+
+    public PrincipalCache(PrincipalCacheProperties properties, UserAccountService userAccountService) {
+        this.userAccountService = userAccountService;
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaximumSize())
+                .build();
+    }
+
+    public Optional<BoardPrincipal> get(String username) {
+        return principals.get(username, key -> userAccountService.searchUser(key).map(BoardPrincipal::from));
+    }
+
+    public void invalidate(String username) {
+        principals.invalidate(username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountEvent(UserAccountEvent event) {
+        invalidate(event.userId());
+    }
+}
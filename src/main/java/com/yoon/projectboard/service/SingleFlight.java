@@ -0,0 +1,110 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.config.SingleFlightConfig.SingleFlightProperties;
+import com.yoon.projectboard.datasource.PrimaryPinning;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합친다(single-flight). 먼저 들어온 요청(leader)만 조회하고, 그동안 같은 키로 들어온 요청(follower)은
+ * 그 결과를 함께 받는다. DB 부하가 동시 요청 수가 아니라 서로 다른 키 수에 비례한다.
+ * <p>
+ * leader 는 자기 읽기 전용 트랜잭션 안에서 조회하고, follower 는 트랜잭션 없이 기다리므로 커넥션을 잡지 않는다.
+ * 그래서 이 클래스로 감싸는 서비스 메서드는 트랜잭션을 열지 않는다({@code Propagation.SUPPORTS}).
+ * follower 는 {@code board.single-flight.max-wait}까지만 기다리고, 넘으면 직접 조회한다. leader 의 예외는 follower 에게도 그대로 던진다.
+ * <p>
+ * 결과는 조회가 끝나면 바로 버린다(캐시가 아니다). 결과 객체를 여러 요청이 함께 쓰므로 불변 DTO 만 반환해야 한다.
+ * 자기가 쓴 글을 읽어야 하는 요청({@link PrimaryPinning})은 복제본에서 읽는 다른 요청의 결과를 받으면 안 되므로 합치지 않는다.
+ * <p>
+ * 지표: {@code board.single-flight.calls{name, result}} - leader(직접 조회), coalesced(합쳐짐), timeout(기다리다 직접 조회), bypass(합치지 않음)
+ */
+@Slf4j
+public class SingleFlight {
+
+    private final boolean enabled;
+    private final long maxWaitMillis;
+    private final TransactionOperations readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Map<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(SingleFlightProperties properties, TransactionOperations readOnlyTransaction, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.maxWaitMillis = properties.getMaxWait().toMillis();
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeMapSize("board.single-flight.in-flight", Tags.empty(), inFlight);
+    }
+
+    /**
+     * {@code name}(조회 종류)과 {@code key}가 같은 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 {@code loader}로 직접 조회한다.
+     *
+     * @param key {@code equals}/{@code hashCode}가 조회 조건 전체를 나타내는 값
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String name, Object key, Supplier<V> loader) {
+        if (!enabled || PrimaryPinning.isPinned()) {
+            count(name, "bypass");
+            return load(loader);
+        }
+
+        Flight flight = new Flight(name, key);
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flight, leader);
+        if (existing == null) {
+            count(name, "leader");
+            try {
+                V value = load(loader);
+                leader.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                leader.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(flight, leader);
+            }
+        }
+
+        try {
+            V value = (V) existing.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+            count(name, "coalesced");
+            return value;
+        } catch (TimeoutException e) {
+            count(name, "timeout");
+            log.debug("합쳐진 조회 대기 시간 초과, 직접 조회 - name: {}, key: {}", name, key);
+            return load(loader);
+        } catch (ExecutionException e) {
+            count(name, "coalesced");
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합쳐진 조회를 기다리는 중 인터럽트 - name: " + name, e);
+        }
+    }
+
+    private <V> V load(Supplier<V> loader) {
+        return readOnlyTransaction.execute(status -> loader.get());
+    }
+
+    private void count(String name, String result) {
+        meterRegistry.counter("board.single-flight.calls", "name", name, "result", result).increment();
+    }
+
+    private record Flight(String name, Object key) {
+    }
+}
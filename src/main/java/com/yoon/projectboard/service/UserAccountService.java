@@ -2,9 +2,12 @@ package com.yoon.projectboard.service;
 
 import com.yoon.projectboard.domain.UserAccount;
 import com.yoon.projectboard.dto.UserAccountDto;
+import com.yoon.projectboard.dto.event.UserAccountEvent;
 import com.yoon.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -15,6 +18,7 @@ import java.util.Optional;
 public class UserAccountService {
 
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Optional<UserAccountDto> searchUser(String username) {
@@ -22,11 +26,28 @@ public class UserAccountService {
                 .map(UserAccountDto::from);
     }
 
+    /**
+     * 저장한 계정은 2차 캐시에서 빼고 변경 이벤트를 알려서, 이전 값이 캐시에 남아 있었더라도 다음 조회가 새 값을 읽게 한다.
+     */
     public UserAccountDto saveUser(String username, String password, String email, String nickname, String memo) {
-        return UserAccountDto.from(
-                userAccountRepository.save(
-                        UserAccount.of(username, password, email, nickname, memo, username)
-                )
+        UserAccount userAccount = userAccountRepository.save(
+                UserAccount.of(username, password, email, nickname, memo, username)
         );
+        userAccountRepository.evictFromCache(username);
+        eventPublisher.publishEvent(UserAccountEvent.changed(username));
+        return UserAccountDto.from(userAccount);
+    }
+
+    /**
+     * 새 계정을 insert 한다. 이미 같은 ID의 계정이 있으면 {@link org.springframework.dao.DataIntegrityViolationException}이 나고
+     * 이 트랜잭션만 롤백된다. (호출한 쪽의 트랜잭션에는 영향을 주지 않는다)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserAccountDto createUser(String username, String password, String email, String nickname, String memo) {
+        UserAccount userAccount = userAccountRepository.insert(
+                UserAccount.of(username, password, email, nickname, memo, username)
+        );
+        eventPublisher.publishEvent(UserAccountEvent.changed(username));
+        return UserAccountDto.from(userAccount);
     }
 }
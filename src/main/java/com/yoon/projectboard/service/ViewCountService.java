@@ -0,0 +1,121 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.config.ViewCountConfig.ViewCountProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수. 조회는 게시글별 메모리 카운터({@link LongAdder})에 모으고,
+ * 주기적으로 쌓인 증가분만 {@code update article set views = views + ?} 배치로 DB에 반영한다(write-behind).
+ * <p>
+ * 인기 글에 조회가 몰려도 요청마다 같은 행을 갱신하지 않으므로 행 잠금 경합이 없고, 카운터는 스레드별로 나눠 더하므로 메모리에서도 한 곳에 줄 서지 않는다.
+ * 반영할 때 카운터를 맵에서 통째로 떼어 내므로({@link Map#remove(Object)}), 그 뒤의 조회는 새 카운터에 쌓이고 잃어버리지 않는다.
+ * 떼어 내기 직전에 카운터를 잡은 조회가 늦게 더한 값은 DB 반영 뒤에 확인해 다음 주기로 넘긴다.
+ * 한 번의 반영은 한 트랜잭션이라 실패하면 전부 롤백되고, 떼어 낸 증가분을 다시 더해 다음 주기에 그대로 다시 보낸다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ViewCountService {
+
+    private static final String FLUSH_SQL = "update article set views = views + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ViewCountProperties properties;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> flushing = new ConcurrentHashMap<>();
+
+    /**
+     * 반영을 기다리는 게시글 수가 상한에 이르면, 아직 카운터가 없는 게시글의 조회는 바로 DB에 반영한다.
+     */
+    public void recordView(Long articleId) {
+        if (pending.size() >= properties.getMaximumSize() && !pending.containsKey(articleId)) {
+            try {
+                jdbcTemplate.update(FLUSH_SQL, 1L, articleId);
+            } catch (DataAccessException e) {
+                log.warn("조회수 즉시 반영 실패 - articleId: {}", articleId, e);
+            }
+            return;
+        }
+        counterOf(articleId).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (반영 중인 것 포함).
+     * 카운터는 한쪽 맵에서 빠진 뒤에 다른 쪽에 들어가므로 같은 조회를 두 번 세지 않는다(옮기는 순간에는 잠깐 덜 셀 수 있다).
+     */
+    public long pendingViews(Long articleId) {
+        return sumOf(pending.get(articleId)) + sumOf(flushing.get(articleId));
+    }
+
+    @PreDestroy
+    @Scheduled(
+            initialDelayString = "${board.view-count.flush-interval:PT10S}",
+            fixedDelayString = "${board.view-count.flush-interval:PT10S}"
+    )
+    public synchronized void flush() {
+        for (Long articleId : List.copyOf(pending.keySet())) {
+            LongAdder counter = pending.remove(articleId);
+            if (counter != null) {
+                flushing.put(articleId, counter);
+            }
+        }
+        if (flushing.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> sent = new HashMap<>(flushing.size());
+        List<Object[]> batchArgs = new ArrayList<>(flushing.size());
+        flushing.forEach((articleId, counter) -> {
+            long views = counter.sum();
+            sent.put(articleId, views);
+            batchArgs.add(new Object[]{views, articleId});
+        });
+        try {
+            transactionOperations.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("조회수 반영 실패 - 다음 주기에 다시 시도, 게시글 수: {}", batchArgs.size(), e);
+            sent.keySet().forEach(articleId -> giveBack(articleId, 0L));
+            return;
+        }
+
+        sent.forEach(this::giveBack);
+        log.debug("조회수 반영 - 게시글 수: {}", batchArgs.size());
+    }
+
+    private LongAdder counterOf(Long articleId) {
+        LongAdder counter = pending.get(articleId);
+        return counter != null ? counter : pending.computeIfAbsent(articleId, id -> new LongAdder());
+    }
+
+    /**
+     * 반영 중인 카운터를 빼고, DB에 보내지 못한 나머지(실패했거나 늦게 더해진 조회)를 대기 중인 카운터로 돌려놓는다.
+     */
+    private void giveBack(Long articleId, long sentViews) {
+        LongAdder counter = flushing.remove(articleId);
+        long remaining = counter.sum() - sentViews;
+        if (remaining > 0) {
+            counterOf(articleId).add(remaining);
+        }
+    }
+
+    private static long sumOf(LongAdder counter) {
+        return counter == null ? 0L : counter.sum();
+    }
+}
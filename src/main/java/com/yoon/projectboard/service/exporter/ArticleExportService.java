@@ -0,0 +1,172 @@
+package com.yoon.projectboard.service.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoon.projectboard.config.ExportConfig.ExportProperties;
+import com.yoon.projectboard.dto.ArticleCommentExportDto;
+import com.yoon.projectboard.dto.ArticleExportDto;
+import com.yoon.projectboard.dto.UserAccountExportDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시판 전체(사용자 + 게시글 + 댓글 + 해시태그)를 NDJSON 으로 내보낸다. 사용자 줄이 먼저 나오고, 게시글 한 줄 뒤에 그 게시글의 댓글 줄이 이어진다.
+ * 줄 형식이 가져오기 레코드({@code ImportRecord})와 같아서 내보낸 파일을 그대로 가져오면 같은 게시판(해시태그, 대댓글 포함)이 만들어진다.
+ * <p>
+ * 게시글은 상태 없는 세션({@link StatelessSession})의 전진 전용 커서로 fetch size 만큼씩 읽는다.
+ * 엔티티가 아니라 컬럼 값만 조회하므로 영속성 컨텍스트에 쌓이는 것이 없다.
+ * 댓글과 해시태그는 게시글 {@code board.export.batch-size}개마다 두 번째 세션에서 in 쿼리로 가져온다.
+ * (커서가 열린 커넥션에서는 MySQL 이 다른 쿼리를 받지 않으므로 커넥션을 나눈다)
+ * 메모리에는 게시글 한 배치 분량만 올라가므로 내보내는 양과 무관하게 힙 사용량이 일정하다.
+ * <p>
+ * MySQL 에서 fetch size 대로 나눠 받으려면 접속 URL 에 {@code useCursorFetch=true}가 필요하다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleExportService {
+
+    private static final String USER_QUERY =
+            "select u.userId, u.userPassword, u.email, u.nickname, u.memo, u.createdAt, u.createdBy, u.modifiedAt, u.modifiedBy " +
+            "from UserAccount u order by u.userId";
+    private static final String ARTICLE_QUERY =
+            "select a.id, a.userAccount.userId, a.title, a.content, a.createdAt, a.createdBy, a.modifiedAt, a.modifiedBy " +
+            "from Article a order by a.id";
+    private static final String HASHTAG_QUERY =
+            "select a.id, h.hashtagName from Article a join a.hashtags h where a.id in (:articleIds) order by h.hashtagName";
+    private static final String COMMENT_QUERY =
+            "select c.article.id, c.id, c.parentCommentId, c.userAccount.userId, c.content, c.createdAt, c.createdBy, c.modifiedAt, c.modifiedBy " +
+            "from ArticleComment c where c.article.id in (:articleIds) order by c.id";
+
+    private final ExportProperties properties;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보낸 게시글 수를 반환한다. {@code gzip}이면 gzip 으로 압축해서 쓴다. 출력 스트림은 닫지 않는다.
+     */
+    public long exportArticles(OutputStream outputStream, boolean gzip) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long exported;
+        if (gzip) {
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 64 * 1024);
+            exported = exportArticles(gzipOutputStream);
+            gzipOutputStream.finish();
+        } else {
+            exported = exportArticles(outputStream);
+        }
+        outputStream.flush();
+
+        log.info("게시글 내보내기 완료 - 게시글 수: {}, 소요 시간: {}ms", exported, System.currentTimeMillis() - startedAt);
+        return exported;
+    }
+
+    private long exportArticles(OutputStream outputStream) throws IOException {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        long exported = 0;
+
+        try (StatelessSession articleSession = sessionFactory.openStatelessSession();
+             StatelessSession detailSession = sessionFactory.openStatelessSession();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .setRootValueSeparator(null)) {        // 줄 구분은 writeLine 에서 직접 한다
+            Transaction transaction = articleSession.beginTransaction();     // PostgreSQL 은 트랜잭션 안에서만 커서로 나눠 받는다
+            try {
+                writeUsers(articleSession, generator);
+                try (ScrollableResults articles = articleSession.createQuery(ARTICLE_QUERY)
+                        .setReadOnly(true)
+                        .setFetchSize(properties.getFetchSize())
+                        .scroll(ScrollMode.FORWARD_ONLY)) {
+                    List<Object[]> batch = new ArrayList<>(properties.getBatchSize());
+                    while (articles.next()) {
+                        batch.add(articles.get());
+                        if (batch.size() == properties.getBatchSize()) {
+                            exported += writeBatch(detailSession, generator, batch);
+                            batch.clear();
+                        }
+                    }
+                    exported += writeBatch(detailSession, generator, batch);
+                }
+            } finally {
+                transaction.rollback();     // 읽기만 했으므로 되돌려도 같다
+            }
+        }
+        return exported;
+    }
+
+    private void writeUsers(StatelessSession session, JsonGenerator generator) throws IOException {
+        try (ScrollableResults users = session.createQuery(USER_QUERY)
+                .setReadOnly(true)
+                .setFetchSize(properties.getFetchSize())
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (users.next()) {
+                Object[] row = users.get();
+                writeLine(generator, UserAccountExportDto.of(
+                        (String) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                        (LocalDateTime) row[5], (String) row[6], (LocalDateTime) row[7], (String) row[8]
+                ));
+            }
+        }
+        generator.flush();
+    }
+
+    private int writeBatch(StatelessSession session, JsonGenerator generator, List<Object[]> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> articleIds = batch.stream().map(row -> (Long) row[0]).toList();
+        Map<Long, List<String>> hashtagsByArticleId = new HashMap<>();
+        for (Object[] row : session.createQuery(HASHTAG_QUERY, Object[].class)
+                .setParameterList("articleIds", articleIds)
+                .setReadOnly(true)
+                .getResultList()) {
+            hashtagsByArticleId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        Map<Long, List<ArticleCommentExportDto>> commentsByArticleId = new HashMap<>();
+        for (Object[] row : session.createQuery(COMMENT_QUERY, Object[].class)
+                .setParameterList("articleIds", articleIds)
+                .setReadOnly(true)
+                .getResultList()) {
+            commentsByArticleId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(ArticleCommentExportDto.of(
+                    (Long) row[1], (Long) row[0], (Long) row[2], (String) row[3], (String) row[4],
+                    (LocalDateTime) row[5], (String) row[6], (LocalDateTime) row[7], (String) row[8]
+            ));
+        }
+
+        for (Object[] row : batch) {
+            Long articleId = (Long) row[0];
+            writeLine(generator, ArticleExportDto.of(
+                    articleId, (String) row[1], (String) row[2], (String) row[3],
+                    hashtagsByArticleId.getOrDefault(articleId, List.of()),
+                    (LocalDateTime) row[4], (String) row[5], (LocalDateTime) row[6], (String) row[7]
+            ));
+            for (ArticleCommentExportDto comment : commentsByArticleId.getOrDefault(articleId, List.of())) {
+                writeLine(generator, comment);
+            }
+        }
+        generator.flush();
+        return batch.size();
+    }
+
+    private static void writeLine(JsonGenerator generator, Object value) throws IOException {
+        generator.writeObject(value);
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,448 @@
+package com.yoon.projectboard.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yoon.projectboard.config.ImportConfig.ImportProperties;
+import com.yoon.projectboard.domain.Article;
+import com.yoon.projectboard.domain.ArticleComment;
+import com.yoon.projectboard.domain.Hashtag;
+import com.yoon.projectboard.domain.ImportCheckpoint;
+import com.yoon.projectboard.domain.UserAccount;
+import com.yoon.projectboard.dto.HashtagDto;
+import com.yoon.projectboard.dto.ImportResultDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.HashtagRepository;
+import com.yoon.projectboard.repository.ImportCheckpointRepository;
+import com.yoon.projectboard.repository.UserAccountRepository;
+import com.yoon.projectboard.service.HashtagService;
+import com.yoon.projectboard.service.importer.ImportRecord.RecordType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판 데이터(사용자/게시글/댓글) 대량 가져오기.
+ * <p>
+ * 입력(NDJSON/CSV, 내보내기 파일 포함)을 한 레코드씩 읽어 {@code board.import.chunk-size}개씩 모으고, 청크마다 한 트랜잭션으로 쓴다.
+ * 엔티티는 시퀀스 ID를 미리 받아 flush 한 번에 JDBC 배치로 넣고, 게시글-해시태그 연결은 ID만으로 배치 insert 한다.
+ * 댓글 레코드는 바로 앞의 게시글에 달리므로 청크는 댓글이 아닌 레코드 앞에서만 끊는다.
+ * <p>
+ * 청크와 같은 트랜잭션에서 {@link ImportCheckpoint}에 처리한 레코드 수를 남긴다.
+ * 중간에 실패해도 같은 작업 ID로 같은 입력을 다시 넣으면 반영된 레코드는 건너뛰고 이어서 쓴다.
+ * <p>
+ * 해시태그 이름 -> ID는 크기가 제한된 캐시에 두고, 캐시에 없는 이름만 청크당 한 번의 in 쿼리로 찾는다.
+ * 캐시에 있던 해시태그가 그 사이 지워져 청크가 실패하면 캐시를 비우고 한 번 더 시도한다.
+ * 가져온 데이터의 생성자는 가져오기를 실행한 사용자가 아니라 원래 작성자로 남긴다.
+ * 작성자를 입력이 정하므로 HTTP 로는 열지 않고 운영자가 기동 옵션({@code board.import.file})으로만 실행한다.
+ */
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    private static final int USER_ID_MAX_LENGTH = 50;
+    private static final int TITLE_MAX_LENGTH = 255;
+    private static final int CONTENT_MAX_LENGTH = 10000;
+    private static final int COMMENT_MAX_LENGTH = 500;
+    private static final Pattern ENCODED_PASSWORD = Pattern.compile("^\\{(bcrypt|pbkdf2|scrypt|argon2)}.+");
+
+    private final ImportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final HashtagService hashtagService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<String, Long> hashtagIds;
+    private final Timer chunkTimer;
+
+    public ArticleImportService(
+            ImportProperties properties,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            UserAccountRepository userAccountRepository,
+            HashtagRepository hashtagRepository,
+            ImportCheckpointRepository importCheckpointRepository,
+            HashtagService hashtagService,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userAccountRepository = userAccountRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.importCheckpointRepository = importCheckpointRepository;
+        this.hashtagService = hashtagService;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.hashtagIds = Caffeine.newBuilder()
+                .maximumSize(properties.getHashtagCacheSize())
+                .build();
+        this.chunkTimer = Timer.builder("board.import.chunk")
+                .description("가져오기 청크 하나를 쓰는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입력을 끝까지 가져오고 작업의 최종 진행 상황을 반환한다. 이미 끝난 작업 ID면 아무것도 쓰지 않는다.
+     */
+    public ImportResultDto importRecords(String jobId, ImportFormat format, InputStream inputStream) throws IOException {
+        Optional<ImportCheckpoint> saved = importCheckpointRepository.findById(jobId);
+        if (saved.filter(ImportCheckpoint::isCompleted).isPresent()) {
+            log.info("이미 끝난 가져오기 작업입니다. - jobId: {}", jobId);
+            return ImportResultDto.from(saved.get());
+        }
+
+        ImportCheckpoint checkpoint = saved.orElseGet(() -> ImportCheckpoint.of(jobId));
+        try (ImportRecordReader reader = format.open(inputStream, objectMapper)) {
+            long recordsToSkip = checkpoint.getRecordsProcessed();
+            if (recordsToSkip > 0) {
+                log.info("체크포인트부터 이어서 가져옵니다. - jobId: {}, 건너뛸 레코드 수: {}", jobId, recordsToSkip);
+                skip(reader, recordsToSkip);
+            }
+
+            Chunk chunk = new Chunk();
+            ImportRecord record;
+            while (true) {
+                try {
+                    record = reader.read();
+                } catch (IllegalArgumentException e) {
+                    log.warn("가져오기 레코드를 읽을 수 없습니다. - jobId: {}, {}", jobId, e.getMessage());
+                    chunk.addMalformed();
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                if (record.type() != RecordType.COMMENT && chunk.size() >= properties.getChunkSize()) {
+                    checkpoint = write(jobId, chunk, false);
+                    chunk = new Chunk();
+                }
+                chunk.add(record);
+            }
+            checkpoint = write(jobId, chunk, true);
+        }
+
+        log.info("가져오기 완료 - {}", checkpoint);
+        return ImportResultDto.from(checkpoint);
+    }
+
+    private void skip(ImportRecordReader reader, long count) throws IOException {
+        for (long i = 0; i < count; i++) {
+            try {
+                if (reader.read() == null) {
+                    return;
+                }
+            } catch (IllegalArgumentException e) {
+                // 형식이 잘못된 레코드도 처리한 레코드 수에 들어 있다
+            }
+        }
+    }
+
+    private ImportCheckpoint write(String jobId, Chunk chunk, boolean last) {
+        try {
+            return writeOnce(jobId, chunk, last);
+        } catch (RuntimeException e) {
+            log.warn("가져오기 청크 쓰기 실패. 해시태그 캐시를 비우고 한 번 더 시도합니다. - jobId: {}, {}", jobId, e.getMessage());
+            hashtagIds.invalidateAll();
+            return writeOnce(jobId, chunk, last);
+        }
+    }
+
+    private ImportCheckpoint writeOnce(String jobId, Chunk chunk, boolean last) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        SecurityContextHolder.clearContext();       // 감사 필드가 실행한 사용자로 덮어쓰지 않도록
+        try {
+            ChunkResult result = transactionTemplate.execute(status -> writeChunk(jobId, chunk, last));
+            hashtagIds.putAll(result.hashtagIds());     // 커밋된 ID만 캐시에 올린다
+            result.stats().forEach((outcome, count) -> meterRegistry
+                    .counter("board.import.records", "type", outcome.type(), "result", outcome.result())
+                    .increment(count));
+            log.debug("가져오기 청크 반영 - jobId: {}, 누적 레코드 수: {}", jobId, result.checkpoint().getRecordsProcessed());
+            return result.checkpoint();
+        } finally {
+            SecurityContextHolder.setContext(securityContext);
+            sample.stop(chunkTimer);
+        }
+    }
+
+    private ChunkResult writeChunk(String jobId, Chunk chunk, boolean last) {
+        Map<Outcome, Long> stats = new HashMap<>();
+        if (chunk.malformed() > 0) {
+            stats.put(Outcome.failed(null), (long) chunk.malformed());
+        }
+
+        Map<String, UserAccount> users = importUsers(chunk.records(), stats);
+        Set<String> authorIds = chunk.records().stream()
+                .filter(record -> record.type() != RecordType.USER)
+                .map(ImportRecord::userId)
+                .filter(userId -> userId != null && !users.containsKey(userId))
+                .collect(Collectors.toSet());
+        userAccountRepository.findAllById(authorIds).forEach(userAccount -> users.put(userAccount.getUserId(), userAccount));
+
+        List<ImportedArticle> articles = importArticles(chunk.records(), users, stats);
+        Map<String, Long> createdHashtagIds = linkHashtags(articles);
+
+        // 연결된 해시태그의 게시글 수 반영과 인메모리 색인 갱신 이벤트
+        Map<Long, Long> articleCounts = new HashMap<>();
+        articles.forEach(imported -> {
+            imported.hashtags().forEach(hashtag -> articleCounts.merge(hashtag.id(), 1L, Long::sum));
+            eventPublisher.publishEvent(ArticleEvent.created(imported.article(), imported.hashtags()));
+        });
+        hashtagService.increaseArticleCounts(articleCounts);
+
+        ImportCheckpoint checkpoint = importCheckpointRepository.findById(jobId).orElseGet(() -> ImportCheckpoint.of(jobId));
+        checkpoint.record(
+                chunk.size(),
+                countOf(stats, RecordType.USER, Outcome.IMPORTED),
+                countOf(stats, RecordType.ARTICLE, Outcome.IMPORTED),
+                countOf(stats, RecordType.COMMENT, Outcome.IMPORTED),
+                stats.entrySet().stream().filter(entry -> entry.getKey().result().equals(Outcome.SKIPPED)).mapToLong(Map.Entry::getValue).sum(),
+                stats.entrySet().stream().filter(entry -> entry.getKey().result().equals(Outcome.FAILED)).mapToLong(Map.Entry::getValue).sum()
+        );
+        if (last) {
+            checkpoint.complete();
+        }
+        importCheckpointRepository.save(checkpoint);
+
+        return new ChunkResult(checkpoint, createdHashtagIds, stats);
+    }
+
+    /**
+     * 새 사용자를 저장하고 사용자 ID -> 계정을 반환한다. 이미 있는 사용자는 (비밀번호와 무관하게) 건너뛰고, 이미 쓰는 이메일이면 실패로 센다.
+     * 비밀번호는 해시로 인코딩된 값({@code {bcrypt}...} 등)만 받는다. 평문({@code {noop}...}, 접두어 없음)이면 실패로 센다.
+     */
+    private Map<String, UserAccount> importUsers(List<ImportRecord> records, Map<Outcome, Long> stats) {
+        List<ImportRecord> userRecords = records.stream().filter(record -> record.type() == RecordType.USER).toList();
+        Map<String, UserAccount> users = new HashMap<>();
+        if (userRecords.isEmpty()) {
+            return users;
+        }
+
+        Set<String> existingUserIds = userAccountRepository.findAllById(userRecords.stream()
+                        .map(ImportRecord::userId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .map(UserAccount::getUserId)
+                .collect(Collectors.toSet());
+        Set<String> emails = userRecords.stream()
+                .map(ImportRecord::email)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> takenEmails = emails.isEmpty() ? new HashSet<>() : userAccountRepository.findByEmailIn(emails).stream()
+                .map(UserAccount::getEmail)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        for (ImportRecord record : userRecords) {
+            if (isBlank(record.userId()) || record.userId().length() > USER_ID_MAX_LENGTH) {
+                stats.merge(Outcome.failed(RecordType.USER), 1L, Long::sum);
+            } else if (existingUserIds.contains(record.userId()) || users.containsKey(record.userId())) {
+                stats.merge(Outcome.skipped(RecordType.USER), 1L, Long::sum);
+            } else if (!isEncodedPassword(record.userPassword())) {
+                stats.merge(Outcome.failed(RecordType.USER), 1L, Long::sum);
+            } else if (record.email() != null && !takenEmails.add(record.email())) {
+                stats.merge(Outcome.failed(RecordType.USER), 1L, Long::sum);
+            } else {
+                UserAccount userAccount = UserAccount.of(record.userId(), record.userPassword(), record.email(), record.nickname(), record.memo(), record.userId());
+                entityManager.persist(userAccount);     // 할당 ID라 save()는 merge 전에 select 를 한 번 더 한다
+                users.put(record.userId(), userAccount);
+                stats.merge(Outcome.imported(RecordType.USER), 1L, Long::sum);
+            }
+        }
+        return users;
+    }
+
+    /**
+     * 게시글과 댓글을 저장한다. 대댓글은 같은 게시글에서 먼저 저장한 댓글(원본 ID 기준)에 달고, 부모를 찾지 못하면 실패로 센다.
+     */
+    private List<ImportedArticle> importArticles(List<ImportRecord> records, Map<String, UserAccount> users, Map<Outcome, Long> stats) {
+        List<ImportedArticle> articles = new ArrayList<>();
+        Article current = null;
+        Map<Long, ArticleComment> currentComments = new HashMap<>();
+        for (ImportRecord record : records) {
+            if (record.type() == RecordType.ARTICLE) {
+                currentComments.clear();
+                UserAccount author = record.userId() == null ? null : users.get(record.userId());
+                if (author == null || isBlank(record.title()) || record.title().length() > TITLE_MAX_LENGTH
+                        || isBlank(record.content()) || record.content().length() > CONTENT_MAX_LENGTH) {
+                    current = null;
+                    stats.merge(Outcome.failed(RecordType.ARTICLE), 1L, Long::sum);
+                    continue;
+                }
+                current = Article.of(author, record.title(), record.content(), author.getUserId());
+                entityManager.persist(current);
+                articles.add(new ImportedArticle(current, hashtagNamesOf(record), new HashSet<>()));
+                stats.merge(Outcome.imported(RecordType.ARTICLE), 1L, Long::sum);
+            } else if (record.type() == RecordType.COMMENT) {
+                UserAccount author = record.userId() == null ? null : users.get(record.userId());
+                ArticleComment parent = record.parentCommentId() == null ? null : currentComments.get(record.parentCommentId());
+                if (current == null || author == null || isBlank(record.content()) || record.content().length() > COMMENT_MAX_LENGTH
+                        || (record.parentCommentId() != null && parent == null)) {
+                    stats.merge(Outcome.failed(RecordType.COMMENT), 1L, Long::sum);
+                    continue;
+                }
+                ArticleComment comment = ArticleComment.of(current, author, record.content(), author.getUserId());
+                if (parent != null) {
+                    comment.setParentCommentId(parent.getId());     // 시퀀스 ID라 부모는 persist 때 이미 ID가 있다
+                }
+                entityManager.persist(comment);
+                if (record.id() != null) {
+                    currentComments.put(record.id(), comment);
+                }
+                stats.merge(Outcome.imported(RecordType.COMMENT), 1L, Long::sum);
+            } else if (record.type() == null) {
+                stats.merge(Outcome.failed(null), 1L, Long::sum);
+            }
+        }
+        return articles;
+    }
+
+    /**
+     * 레코드에 해시태그 목록이 있으면(내보낸 파일) 그대로 쓰고, 없으면 본문에서 찾는다.
+     */
+    private Set<String> hashtagNamesOf(ImportRecord record) {
+        if (record.hashtags() == null) {
+            return hashtagService.parseHashtagNames(record.content());
+        }
+        return record.hashtags().stream()
+                .filter(name -> !isBlank(name))
+                .map(String::strip)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 게시글에 해시태그를 연결하고, 이번 청크에서 새로 만든 해시태그 이름 -> ID를 반환한다.
+     * 캐시에 있는 해시태그는 엔티티를 읽지 않고 ID만 쓴다.
+     */
+    private Map<String, Long> linkHashtags(List<ImportedArticle> articles) {
+        Set<String> names = articles.stream()
+                .flatMap(imported -> imported.hashtagNames().stream())
+                .collect(Collectors.toSet());
+        Map<String, Long> ids = new HashMap<>(hashtagIds.getAllPresent(names));
+
+        Set<String> missingNames = names.stream().filter(name -> !ids.containsKey(name)).collect(Collectors.toSet());
+        if (!missingNames.isEmpty()) {
+            hashtagRepository.findByHashtagNameIn(missingNames).forEach(hashtag -> ids.put(hashtag.getHashtagName(), hashtag.getId()));
+        }
+
+        Map<String, Hashtag> createdHashtags = new HashMap<>();
+        for (ImportedArticle imported : articles) {
+            for (String name : imported.hashtagNames()) {
+                if (!ids.containsKey(name) && !createdHashtags.containsKey(name)) {
+                    Hashtag hashtag = Hashtag.of(name, imported.article().getCreatedBy());
+                    entityManager.persist(hashtag);
+                    createdHashtags.put(name, hashtag);
+                }
+            }
+        }
+        entityManager.flush();      // 사용자/게시글/댓글/새 해시태그 insert 를 배치로 보낸다
+
+        Map<String, Long> createdHashtagIds = new HashMap<>();
+        createdHashtags.forEach((name, hashtag) -> createdHashtagIds.put(name, hashtag.getId()));
+        ids.putAll(createdHashtagIds);
+
+        List<Object[]> links = new ArrayList<>();
+        for (ImportedArticle imported : articles) {
+            for (String name : imported.hashtagNames()) {
+                Long hashtagId = ids.get(name);
+                links.add(new Object[]{imported.article().getId(), hashtagId});
+                imported.hashtags().add(HashtagDto.of(hashtagId, name, null, null, null, null));
+            }
+        }
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into article_hashtag (article_id, hashtag_id) values (?, ?)", links);
+        }
+        return createdHashtagIds;
+    }
+
+    private static long countOf(Map<Outcome, Long> stats, RecordType type, String result) {
+        return stats.getOrDefault(new Outcome(type.name().toLowerCase(), result), 0L);
+    }
+
+    private static boolean isEncodedPassword(String password) {
+        return password != null && ENCODED_PASSWORD.matcher(password).matches();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 한 트랜잭션에 쓸 레코드. {@link #size()}는 형식이 잘못되어 버린 레코드까지 센 입력 레코드 수다.
+     */
+    private static class Chunk {
+        private final List<ImportRecord> records = new ArrayList<>();
+        private int malformed = 0;
+
+        private void add(ImportRecord record) {
+            records.add(record);
+        }
+
+        private void addMalformed() {
+            malformed++;
+        }
+
+        private List<ImportRecord> records() {
+            return records;
+        }
+
+        private int malformed() {
+            return malformed;
+        }
+
+        private int size() {
+            return records.size() + malformed;
+        }
+    }
+
+    private record ImportedArticle(Article article, Set<String> hashtagNames, Set<HashtagDto> hashtags) {
+    }
+
+    private record ChunkResult(ImportCheckpoint checkpoint, Map<String, Long> hashtagIds, Map<Outcome, Long> stats) {
+    }
+
+    /**
+     * 레코드 처리 결과 지표의 태그 (type: user/article/comment/unknown, result: imported/skipped/failed)
+     */
+    private record Outcome(String type, String result) {
+        private static final String IMPORTED = "imported";
+        private static final String SKIPPED = "skipped";
+        private static final String FAILED = "failed";
+
+        private static Outcome imported(RecordType type) {
+            return new Outcome(type.name().toLowerCase(), IMPORTED);
+        }
+
+        private static Outcome skipped(RecordType type) {
+            return new Outcome(type.name().toLowerCase(), SKIPPED);
+        }
+
+        private static Outcome failed(RecordType type) {
+            return new Outcome(type == null ? "unknown" : type.name().toLowerCase(), FAILED);
+        }
+    }
+}
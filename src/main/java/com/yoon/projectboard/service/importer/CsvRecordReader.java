@@ -0,0 +1,134 @@
+package com.yoon.projectboard.service.importer;
+
+import com.yoon.projectboard.service.importer.ImportRecord.RecordType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첫 행이 헤더인 CSV(RFC 4180). 열은 헤더 이름({@link ImportRecord}의 필드 이름)으로 찾으므로 순서와 생략은 자유롭다.
+ * 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 두 번 쓴 큰따옴표({@code ""})를 지원한다. 빈 행은 건너뛰고, 빈 필드는 {@code null}이다.
+ * {@code hashtags} 열은 공백으로 구분한 해시태그 이름들이다.
+ */
+public class CsvRecordReader implements ImportRecordReader {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    public CsvRecordReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        List<String> header = readRow();
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).strip(), i);
+        }
+        if (!columns.containsKey("type")) {
+            throw new IllegalArgumentException("CSV 헤더에 type 열이 없습니다. - header: " + header);
+        }
+    }
+
+    @Override
+    public ImportRecord read() throws IOException {
+        List<String> row;
+        do {
+            row = readRow();
+            if (row == null) {
+                return null;
+            }
+        } while (row.size() == 1 && row.get(0).isEmpty());
+
+        String hashtags = field(row, "hashtags");
+        return ImportRecord.of(
+                RecordType.from(field(row, "type")),
+                longField(row, "id"),
+                field(row, "userId"),
+                field(row, "userPassword"),
+                field(row, "email"),
+                field(row, "nickname"),
+                field(row, "memo"),
+                field(row, "title"),
+                field(row, "content"),
+                hashtags == null ? null : List.of(hashtags.strip().split("\\s+")),
+                longField(row, "parentCommentId")
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String field(List<String> row, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.size() || row.get(index).isEmpty()) {
+            return null;
+        }
+        return row.get(index);
+    }
+
+    /**
+     * 숫자가 아니면 {@link NumberFormatException}({@link IllegalArgumentException})으로 그 행만 버리게 한다.
+     */
+    private Long longField(List<String> row, String column) {
+        String value = field(row, column);
+        return value == null ? null : Long.valueOf(value.strip());
+    }
+
+    /**
+     * 다음 행의 필드 목록. 입력이 끝났으면 {@code null}
+     */
+    private List<String> readRow() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            char ch = (char) c;
+            if (quoted) {
+                if (ch != '"') {
+                    field.append(ch);
+                    continue;
+                }
+                reader.mark(1);
+                int next = reader.read();
+                if (next == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    if (next != -1) {
+                        reader.reset();
+                    }
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("CSV 큰따옴표가 닫히지 않은 채로 입력이 끝났습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,25 @@
+package com.yoon.projectboard.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+public enum ImportFormat {
+    NDJSON, CSV;
+
+    public static ImportFormat fromFileName(String fileName) {
+        return fileName.toLowerCase().endsWith(".csv") ? CSV : NDJSON;
+    }
+
+    public ImportRecordReader open(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return switch (this) {
+            case NDJSON -> new NdjsonRecordReader(reader, objectMapper);
+            case CSV -> new CsvRecordReader(reader);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.yoon.projectboard.service.importer;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.List;
+
+/**
+ * 가져오기 입력의 레코드 한 건. 종류에 따라 쓰는 필드가 다르다.
+ * <ul>
+ *     <li>{@code USER}: userId, userPassword(해시로 인코딩된 값, 예: {@code {bcrypt}...}), email, nickname, memo</li>
+ *     <li>{@code ARTICLE}: userId(작성자), title, content, hashtags(없으면 본문에서 찾는다)</li>
+ *     <li>{@code COMMENT}: id, userId(작성자), content, parentCommentId - 바로 앞의 게시글 레코드에 달린다</li>
+ * </ul>
+ * {@code id}, {@code parentCommentId}는 입력 안에서만 쓰는 원본 ID다. 대댓글은 같은 게시글에서 먼저 나온 댓글의 원본 ID로 부모를 찾는다.
+ */
+public record ImportRecord(
+        RecordType type,
+        Long id,
+        String userId,
+        String userPassword,
+        String email,
+        String nickname,
+        String memo,
+        String title,
+        String content,
+        List<String> hashtags,
+        Long parentCommentId
+) {
+    public static ImportRecord of(RecordType type, Long id, String userId, String userPassword, String email, String nickname, String memo, String title, String content, List<String> hashtags, Long parentCommentId) {
+        return new ImportRecord(type, id, userId, userPassword, email, nickname, memo, title, content, hashtags, parentCommentId);
+    }
+
+    public enum RecordType {
+        USER, ARTICLE, COMMENT;
+
+        @JsonCreator
+        public static RecordType from(String value) {
+            if (value == null) {
+                return null;
+            }
+            for (RecordType type : values()) {
+                if (type.name().equalsIgnoreCase(value.strip())) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 레코드 종류입니다. - type: " + value);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.yoon.projectboard.service.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 가져오기 입력을 앞에서부터 한 레코드씩 읽는다. 입력 전체를 메모리에 올리지 않는다.
+ */
+public interface ImportRecordReader extends Closeable {
+
+    /**
+     * 다음 레코드. 입력이 끝나면 {@code null}을 반환한다.
+     * 레코드 하나의 형식이 잘못되었으면 {@link IllegalArgumentException}을 던지며, 다음 호출은 그 다음 레코드부터 읽는다.
+     */
+    ImportRecord read() throws IOException;
+}
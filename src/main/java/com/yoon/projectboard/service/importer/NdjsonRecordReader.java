@@ -0,0 +1,43 @@
+package com.yoon.projectboard.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * 한 줄에 JSON 객체 하나(NDJSON). 빈 줄은 건너뛴다.
+ */
+public class NdjsonRecordReader implements ImportRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonRecordReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRecord read() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        try {
+            return objectMapper.readValue(line, ImportRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("NDJSON 레코드 형식이 잘못되었습니다. - " + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,162 @@
+package com.yoon.projectboard.service.search;
+
+import com.yoon.projectboard.dto.ArticleCreatedAtDto;
+import com.yoon.projectboard.dto.ArticleCursor;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 ID -> 작성일시 인메모리 색인. 검색 색인들이 구한 게시글 ID 집합을 DB 없이 정렬하고 페이지 단위로 자르는 데 쓴다.
+ * <p>
+ * 검색 결과 ID 전체를 {@code IN} 조건으로 DB에 보내지 않고, 정렬/페이지 계산은 메모리에서 끝낸 뒤 해당 페이지의 ID만 조회하게 한다.
+ * {@code id}, {@code createdAt} 정렬만 처리할 수 있으며, 그 밖의 정렬이거나 색인이 준비되지 않았으면 {@link Optional#empty()}를 반환한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleOrderIndex {
+
+    private static final int BUILD_CHUNK_SIZE = 5000;
+    private static final String ID = "id";
+    private static final String CREATED_AT = "createdAt";
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Order.desc(CREATED_AT), Sort.Order.desc(ID));
+
+    private final ArticleRepository articleRepository;
+
+    private final Map<Long, LocalDateTime> createdAtById = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    /**
+     * 이벤트로 이미 들어온 게시글은 덮어쓰지 않는다. 삭제된 게시글이 남더라도 검색 색인 결과에 나오지 않으므로 정렬에 영향이 없다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+
+        Long lastId = 0L;
+        List<ArticleCreatedAtDto> chunk;
+        do {
+            chunk = articleRepository.findCreatedAtsAfter(lastId, BUILD_CHUNK_SIZE);
+            for (ArticleCreatedAtDto article : chunk) {
+                createdAtById.putIfAbsent(article.id(), article.createdAt());
+                lastId = article.id();
+            }
+        } while (chunk.size() == BUILD_CHUNK_SIZE);
+
+        ready = true;
+        log.info("게시글 정렬 색인 생성 완료 - 게시글 수: {}, 소요 시간: {}ms", createdAtById.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 작성일시는 DB 컬럼 정밀도(마이크로초)에 맞춰 저장한다. 그래야 DB에서 읽은 값과 순서가 같다.
+     */
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.isDeleted()) {
+            createdAtById.remove(event.articleId());
+        } else if (event.createdAt() != null) {
+            createdAtById.put(event.articleId(), event.createdAt().truncatedTo(ChronoUnit.MICROS));
+        }
+    }
+
+    /**
+     * {@code articleIds}를 {@code pageable}의 정렬로 늘어놓았을 때 요청한 페이지에 해당하는 게시글 ID. 전체 개수는 {@code articleIds}의 크기다.
+     */
+    public Optional<Page<Long>> page(Collection<Long> articleIds, Pageable pageable) {
+        if (!ready || pageable.isUnpaged() || !supports(pageable.getSort())) {
+            return Optional.empty();
+        }
+
+        List<Long> content = articleIds.stream()
+                .sorted(comparatorOf(pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return Optional.of(new PageImpl<>(content, pageable, articleIds.size()));
+    }
+
+    /**
+     * {@code articleIds} 중 커서 위치부터 {@code size}개의 게시글 ID. DB의 커서 조회와 같이 결과는 항상 {@code createdAt DESC, id DESC} 순서이고,
+     * {@link Slice#hasNext()}는 커서 진행 방향으로 더 있는지를 뜻한다.
+     */
+    public Optional<Slice<Long>> slice(Collection<Long> articleIds, ArticleCursor cursor, int size) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        Comparator<Long> newestFirst = comparatorOf(CURSOR_SORT);
+        List<Long> rows = articleIds.stream()
+                .filter(articleId -> cursor.isFirst() || isBeyond(articleId, cursor))
+                .sorted(cursor.backward() ? newestFirst.reversed() : newestFirst)
+                .limit(size + 1L)
+                .toList();
+
+        boolean hasMore = rows.size() > size;
+        List<Long> content = new ArrayList<>(rows.subList(0, Math.min(size, rows.size())));
+        if (cursor.backward()) {
+            Collections.reverse(content);
+        }
+        return Optional.of(new SliceImpl<>(content, PageRequest.of(0, size, CURSOR_SORT), hasMore));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private static boolean supports(Sort sort) {
+        return sort.stream().allMatch(order -> order.getProperty().equals(ID) || order.getProperty().equals(CREATED_AT));
+    }
+
+    /**
+     * 정렬 조건 뒤에 ID 내림차순을 붙여 순서를 하나로 정한다. 정렬이 없으면 ID 내림차순이다.
+     */
+    private Comparator<Long> comparatorOf(Sort sort) {
+        Comparator<Long> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Long> next = order.getProperty().equals(CREATED_AT)
+                    ? Comparator.<Long, LocalDateTime>comparing(this::createdAtOf)
+                    : Comparator.<Long>naturalOrder();
+            next = order.isDescending() ? next.reversed() : next;
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        Comparator<Long> byIdDescending = Comparator.<Long>naturalOrder().reversed();
+        return comparator == null ? byIdDescending : comparator.thenComparing(byIdDescending);
+    }
+
+    /**
+     * 커서 진행 방향으로 커서 위치보다 뒤에 있는 게시글인지
+     */
+    private boolean isBeyond(Long articleId, ArticleCursor cursor) {
+        int compared = createdAtOf(articleId).compareTo(cursor.createdAt());
+        if (compared == 0) {
+            compared = articleId.compareTo(cursor.id());
+        }
+        return cursor.backward() ? compared > 0 : compared < 0;
+    }
+
+    /**
+     * 커밋 이벤트보다 검색 색인에 먼저 들어온 새 글은 작성일시를 모르므로 가장 최신 글로 취급한다.
+     */
+    private LocalDateTime createdAtOf(Long articleId) {
+        return createdAtById.getOrDefault(articleId, LocalDateTime.MAX);
+    }
+}
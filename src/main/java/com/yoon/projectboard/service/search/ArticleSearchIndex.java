@@ -0,0 +1,147 @@
+package com.yoon.projectboard.service.search;
+
+import com.yoon.projectboard.dto.ArticleDocumentDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 검색용 인메모리 역색인. 검색어의 단어가 순서대로 이어진 게시글을 찾는다({@link InvertedIndex}).
+ * <p>
+ * 애플리케이션 기동 후 전체 게시글로 색인을 만들고, 이후에는 게시글 저장/수정/삭제 커밋 이벤트로 증분 갱신한다.
+ * 색인이 준비되지 않았거나 검색어에 단어가 없으면 {@link Optional#empty()}를 반환하여 DB 검색으로 대체하게 한다.
+ * 결과는 게시글 ID 전체이므로 페이지 단위로 잘라 조회하는 것은 {@link ArticleOrderIndex}로 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+
+    private static final int BUILD_CHUNK_SIZE = 1000;
+
+    private final ArticleRepository articleRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ArticleEvent> eventsDuringBuild = new ArrayList<>();
+    private volatile Indexes indexes = new Indexes();
+    private boolean building = false;
+    private volatile boolean ready = false;
+
+    /**
+     * DB를 읽는 동안에는 락을 잡지 않고 새 색인을 만든 뒤, 락 안에서 그동안 들어온 변경 이벤트를 반영하고 교체한다.
+     * 그래서 다시 만드는 중에 지워진 게시글이 새 색인에 남지 않고, 그동안에도 기존 색인으로 검색할 수 있다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            building = true;
+            eventsDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Indexes built = new Indexes();
+        try {
+            Long lastId = 0L;
+            List<ArticleDocumentDto> chunk;
+            do {
+                chunk = articleRepository.findDocumentsAfter(lastId, BUILD_CHUNK_SIZE);
+                for (ArticleDocumentDto document : chunk) {
+                    built.index(document.id(), document.title(), document.content());
+                    lastId = document.id();
+                }
+            } while (chunk.size() == BUILD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                building = false;
+                eventsDuringBuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            eventsDuringBuild.forEach(built::apply);
+            eventsDuringBuild.clear();
+            indexes = built;
+            building = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ready = true;
+        log.info("게시글 검색 색인 생성 완료 - 게시글 수: {}, 소요 시간: {}ms", built.title.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        lock.writeLock().lock();
+        try {
+            indexes.apply(event);
+            if (building) {
+                eventsDuringBuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<List<Long>> searchTitle(String keyword) {
+        return search(indexes.title, keyword);
+    }
+
+    public Optional<List<Long>> searchContent(String keyword) {
+        return search(indexes.content, keyword);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private Optional<List<Long>> search(InvertedIndex index, String keyword) {
+        if (!ready || InvertedIndex.tokenize(keyword).isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.search(keyword));
+    }
+
+    /**
+     * 제목/본문 색인 한 벌. 락 밖에서 새로 만든 뒤 통째로 교체한다.
+     */
+    private static class Indexes {
+
+        private final InvertedIndex title = new InvertedIndex();
+        private final InvertedIndex content = new InvertedIndex();
+
+        private void apply(ArticleEvent event) {
+            if (event.isDeleted()) {
+                title.remove(event.articleId());
+                content.remove(event.articleId());
+            } else {
+                index(event.articleId(), event.title(), event.content());
+            }
+        }
+
+        private void index(Long articleId, String title, String content) {
+            this.title.add(articleId, title);
+            this.content.add(articleId, content);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.yoon.projectboard.service.search;
+
+import com.yoon.projectboard.dto.HashtagDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.HashtagRepository;
+import com.yoon.projectboard.service.search.HashtagTrie.Completion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 해시태그 자동 완성. 해시태그 이름을 게시글 수로 가중치를 준 {@link HashtagTrie}에 올려 두고 접두어 검색에 답한다.
+ * <p>
+ * 애플리케이션 기동 후 한 번 만들고, 게시글 커밋 이벤트로 늘어나거나 줄어든 해시태그의 게시글 수만 반영한다.
+ * 게시글 수가 0이 된 해시태그(= {@code HashtagOrphanSweeper}가 지우는 해시태그)는 트라이에서도 빠진다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagAutocomplete {
+
+    public static final int MAX_SUGGESTIONS = 50;
+
+    private final HashtagRepository hashtagRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ArticleEvent> eventsDuringBuild = new ArrayList<>();
+    private HashtagTrie trie = new HashtagTrie();
+    private boolean building = false;
+    private volatile List<String> sortedNames;      // allNames() 결과. 트라이가 바뀌면 null 로 두고 다음 조회 때 다시 만든다
+    private volatile boolean ready = false;
+
+    /**
+     * DB를 읽는 동안에는 락을 잡지 않고 새 트라이를 만든 뒤, 락 안에서 그동안 들어온 변경 이벤트를 반영하고 교체한다.
+     * 그래서 집계 쿼리와 교체 사이에 커밋된 게시글의 해시태그 수도 빠지지 않는다.
+     * (게시글 수는 증감으로 반영하므로, 집계 쿼리 직전에 커밋되고 이벤트는 그 뒤에 온 게시글은 한 번 더 셀 수 있다. 커밋과 이벤트 사이만큼의 짧은 틈이다.)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            building = true;
+            eventsDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        HashtagTrie built = new HashtagTrie();
+        try {
+            hashtagRepository.findAllHashtagArticleCounts()
+                    .forEach(count -> built.put(count.hashtagName(), count.articleCount()));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                building = false;
+                eventsDuringBuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            eventsDuringBuild.forEach(event -> apply(built, event));
+            eventsDuringBuild.clear();
+            trie = built;
+            sortedNames = null;
+            building = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ready = true;
+        log.info("해시태그 자동 완성 트라이 생성 완료 - 해시태그 수: {}, 소요 시간: {}ms", built.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (apply(trie, event)) {
+                sortedNames = null;
+            }
+            if (building) {
+                eventsDuringBuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 해시태그를 게시글 수가 많은 순서로 최대 {@code size}개({@link #MAX_SUGGESTIONS} 이하) 반환한다.
+     * 트라이가 아직 준비되지 않았으면 {@link Optional#empty()}를 반환한다.
+     */
+    public Optional<List<Completion>> suggest(String prefix, int size) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String normalized = prefix == null ? "" : prefix.strip().replaceFirst("^#+", "");
+        lock.readLock().lock();
+        try {
+            return Optional.of(List.copyOf(trie.topK(normalized, Math.min(size, MAX_SUGGESTIONS))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 수가 많은 순서의 해시태그 이름 전체. 트라이가 아직 준비되지 않았으면 {@link Optional#empty()}를 반환한다.
+     * 트라이 전체를 도는 정렬은 트라이가 바뀐 뒤 처음 조회할 때만 하고, 그 뒤로는 만들어 둔 목록을 그대로 준다.
+     */
+    public Optional<List<String>> allNames() {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        List<String> names = sortedNames;
+        if (names != null) {
+            return Optional.of(names);
+        }
+
+        lock.readLock().lock();
+        try {
+            names = trie.topK("", trie.size()).stream().map(Completion::hashtagName).toList();
+            sortedNames = names;        // 읽기 락 안이므로 그 사이에 트라이가 바뀌어 null 로 되돌린 것을 덮어쓰지 않는다
+            return Optional.of(names);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 이벤트 전후로 빠지거나 새로 붙은 해시태그의 게시글 수만 바꾼다. 바뀐 해시태그가 있으면 {@code true}
+     */
+    private static boolean apply(HashtagTrie trie, ArticleEvent event) {
+        Set<String> previousNames = namesOf(event.previousHashtagDtos());
+        Set<String> currentNames = namesOf(event.hashtagDtos());
+
+        boolean changed = false;
+        for (String name : previousNames) {
+            if (!currentNames.contains(name)) {
+                trie.add(name, -1);
+                changed = true;
+            }
+        }
+        for (String name : currentNames) {
+            if (!previousNames.contains(name)) {
+                trie.add(name, 1);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static Set<String> namesOf(Set<HashtagDto> hashtagDtos) {
+        return hashtagDtos.stream()
+                .map(HashtagDto::hashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
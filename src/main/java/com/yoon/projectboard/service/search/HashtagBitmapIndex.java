@@ -0,0 +1,258 @@
+package com.yoon.projectboard.service.search;
+
+import com.yoon.projectboard.dto.ArticleHashtagDto;
+import com.yoon.projectboard.dto.HashtagDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그 ID -> 게시글 ID 압축 비트맵(Roaring) 색인.
+ * <p>
+ * {@link HashtagQuery}의 AND/OR/NOT 조합을 비트맵 연산으로 계산하므로 조인 없이, 중복 없이 결과 게시글 ID를 구한다.
+ * 애플리케이션 기동 후 {@code article_hashtag} 전체로 만들고, 게시글 저장/수정/삭제 커밋 이벤트로 증분 갱신한다.
+ * 게시글 ID는 {@code int} 범위라고 가정한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagBitmapIndex {
+
+    private static final int BUILD_CHUNK_SIZE = 5000;
+
+    private final ArticleRepository articleRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ArticleEvent> eventsDuringBuild = new ArrayList<>();
+    private Postings postings = new Postings();
+    private boolean building = false;
+    private volatile boolean ready = false;
+
+    /**
+     * DB를 읽는 동안에는 락을 잡지 않고 새 색인을 만든 뒤, 락 안에서 그동안 들어온 변경 이벤트를 반영하고 교체한다.
+     * 그래서 색인을 다시 만드는 중에도 검색과 이벤트 반영이 막히지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            building = true;
+            eventsDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Postings built = new Postings();
+        try {
+            Long lastId = 0L;
+            List<Long> articleIds;
+            do {
+                articleIds = articleRepository.findIdsAfter(lastId, BUILD_CHUNK_SIZE);
+                articleIds.forEach(articleId -> built.allArticles.add(toInt(articleId)));
+                lastId = articleIds.isEmpty() ? lastId : articleIds.get(articleIds.size() - 1);
+            } while (articleIds.size() == BUILD_CHUNK_SIZE);
+
+            Map<Long, List<Long>> pending = new HashMap<>();
+            Long lastArticleId = 0L;
+            Long lastHashtagId = 0L;
+            List<ArticleHashtagDto> chunk;
+            do {
+                chunk = articleRepository.findArticleHashtagsAfter(lastArticleId, lastHashtagId, BUILD_CHUNK_SIZE);
+                for (ArticleHashtagDto link : chunk) {
+                    built.registerHashtag(link.hashtagId(), link.hashtagName());
+                    built.articlesByHashtagId.get(link.hashtagId()).add(toInt(link.articleId()));
+                    pending.computeIfAbsent(link.articleId(), id -> new ArrayList<>()).add(link.hashtagId());
+                    lastArticleId = link.articleId();
+                    lastHashtagId = link.hashtagId();
+                }
+            } while (chunk.size() == BUILD_CHUNK_SIZE);
+
+            pending.forEach((articleId, hashtagIds) ->
+                    built.hashtagIdsByArticleId.put(articleId, hashtagIds.stream().mapToLong(Long::longValue).toArray()));
+            built.articlesByHashtagId.values().forEach(RoaringBitmap::runOptimize);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                building = false;
+                eventsDuringBuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            eventsDuringBuild.forEach(built::apply);
+            eventsDuringBuild.clear();
+            postings = built;
+            building = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ready = true;
+        log.info("해시태그 비트맵 색인 생성 완료 - 해시태그 수: {}, 소요 시간: {}ms", built.articlesByHashtagId.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        lock.writeLock().lock();
+        try {
+            postings.apply(event);
+            if (building) {
+                eventsDuringBuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색식에 맞는 게시글을 찾는다. 색인이 준비되지 않았거나 검색식이 비어 있으면 {@link Optional#empty()}를 반환한다.
+     */
+    public Optional<Matches> search(String expression) {
+        HashtagQuery query = HashtagQuery.parse(expression);
+        if (!ready || query.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = query.optionalNames().isEmpty()
+                    ? postings.allArticles.clone()
+                    : RoaringBitmap.or(query.optionalNames().stream().map(postings::articlesOf).iterator());
+
+            for (String requiredName : query.requiredNames()) {
+                result.and(postings.articlesOf(requiredName));
+            }
+            for (String excludedName : query.excludedNames()) {
+                result.andNot(postings.articlesOf(excludedName));
+            }
+            return Optional.of(new Matches(result));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private static int toInt(Long articleId) {
+        return Math.toIntExact(articleId);
+    }
+
+    /**
+     * 색인 한 벌. 락 밖에서 새로 만든 뒤 통째로 교체한다.
+     */
+    private static class Postings {
+
+        private final Map<Long, RoaringBitmap> articlesByHashtagId = new HashMap<>();
+        private final Map<String, Long> hashtagIdsByName = new HashMap<>();
+        private final Map<Long, String> hashtagNamesById = new HashMap<>();
+        private final Map<Long, long[]> hashtagIdsByArticleId = new HashMap<>();
+        private final RoaringBitmap allArticles = new RoaringBitmap();
+
+        private void apply(ArticleEvent event) {
+            detach(event.articleId());
+            if (event.isDeleted()) {
+                allArticles.remove(toInt(event.articleId()));
+                return;
+            }
+
+            allArticles.add(toInt(event.articleId()));
+            List<Long> hashtagIds = new ArrayList<>();
+            for (HashtagDto hashtagDto : event.hashtagDtos()) {
+                if (hashtagDto.id() == null) {
+                    continue;
+                }
+                registerHashtag(hashtagDto.id(), hashtagDto.hashtagName());
+                articlesByHashtagId.get(hashtagDto.id()).add(toInt(event.articleId()));
+                hashtagIds.add(hashtagDto.id());
+            }
+            hashtagIdsByArticleId.put(event.articleId(), hashtagIds.stream().mapToLong(Long::longValue).toArray());
+        }
+
+        private RoaringBitmap articlesOf(String hashtagName) {
+            Long hashtagId = hashtagIdsByName.get(hashtagName);
+            RoaringBitmap articles = hashtagId == null ? null : articlesByHashtagId.get(hashtagId);
+            return articles == null ? new RoaringBitmap() : articles;
+        }
+
+        private void registerHashtag(Long hashtagId, String hashtagName) {
+            articlesByHashtagId.computeIfAbsent(hashtagId, id -> new RoaringBitmap());
+            hashtagIdsByName.put(hashtagName, hashtagId);
+            hashtagNamesById.put(hashtagId, hashtagName);
+        }
+
+        private void detach(Long articleId) {
+            long[] hashtagIds = hashtagIdsByArticleId.remove(articleId);
+            if (hashtagIds == null) {
+                return;
+            }
+
+            for (long hashtagId : hashtagIds) {
+                RoaringBitmap articles = articlesByHashtagId.get(hashtagId);
+                if (articles == null) {
+                    continue;
+                }
+                articles.remove(toInt(articleId));
+                if (articles.isEmpty()) {
+                    articlesByHashtagId.remove(hashtagId);
+                    hashtagIdsByName.remove(hashtagNamesById.remove(hashtagId));
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색 결과 게시글 ID 집합. 검색 시점의 복사본이므로 색인 갱신과 무관하게 읽을 수 있다.
+     */
+    public static class Matches {
+
+        private final RoaringBitmap articleIds;
+
+        private Matches(RoaringBitmap articleIds) {
+            this.articleIds = articleIds;
+        }
+
+        public long count() {
+            return articleIds.getLongCardinality();
+        }
+
+        /**
+         * ID 내림차순(최신 글 우선)으로 정렬했을 때 요청한 페이지에 해당하는 게시글 ID
+         */
+        public List<Long> pageIdsDescending(Pageable pageable) {
+            int cardinality = articleIds.getCardinality();
+            long offset = pageable.getOffset();
+            if (offset >= cardinality) {
+                return List.of();
+            }
+
+            int end = (int) Math.min(cardinality, offset + pageable.getPageSize());
+            List<Long> ids = new ArrayList<>(end - (int) offset);
+            for (int rank = (int) offset; rank < end; rank++) {
+                ids.add((long) articleIds.select(cardinality - 1 - rank));
+            }
+            return ids;
+        }
+
+        public List<Long> allIds() {
+            return Arrays.stream(articleIds.toArray()).mapToObj(Long::valueOf).toList();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.yoon.projectboard.service.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 해시태그 검색식. 공백으로 구분한 해시태그 중
+ * {@code +태그}는 반드시 포함(AND), {@code -태그}는 제외(NOT), 나머지는 하나 이상 포함(OR)을 뜻한다.
+ * 앞에 붙은 {@code #}은 무시한다.
+ * <p>
+ * 예: {@code java spring +boot -legacy} => (java OR spring) AND boot AND NOT legacy
+ */
+public record HashtagQuery(
+        Set<String> requiredNames,
+        Set<String> optionalNames,
+        Set<String> excludedNames
+) {
+    public static HashtagQuery parse(String expression) {
+        Set<String> required = new LinkedHashSet<>();
+        Set<String> optional = new LinkedHashSet<>();
+        Set<String> excluded = new LinkedHashSet<>();
+        if (expression == null) {
+            return new HashtagQuery(Set.of(), Set.of(), Set.of());
+        }
+
+        for (String term : expression.strip().split("\\s+")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+
+            char operator = term.charAt(0);
+            String name = stripHash(operator == '+' || operator == '-' ? term.substring(1) : term);
+            if (name.isEmpty()) {
+                continue;
+            }
+
+            switch (operator) {
+                case '+' -> required.add(name);
+                case '-' -> excluded.add(name);
+                default -> optional.add(name);
+            }
+        }
+
+        return new HashtagQuery(Set.copyOf(required), Set.copyOf(optional), Set.copyOf(excluded));
+    }
+
+    public boolean isEmpty() {
+        return requiredNames.isEmpty() && optionalNames.isEmpty() && excludedNames.isEmpty();
+    }
+
+    /**
+     * 검색 결과에 포함되어야 하는 해시태그 이름. 색인을 쓸 수 없을 때 OR 검색으로 대체하는 데 사용한다.
+     */
+    public Set<String> includedNames() {
+        Set<String> names = new LinkedHashSet<>(requiredNames);
+        names.addAll(optionalNames);
+        return names;
+    }
+
+    private static String stripHash(String name) {
+        int start = 0;
+        while (start < name.length() && name.charAt(start) == '#') {
+            start++;
+        }
+        return name.substring(start);
+    }
+}
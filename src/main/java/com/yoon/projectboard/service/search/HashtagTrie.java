@@ -0,0 +1,176 @@
+package com.yoon.projectboard.service.search;
+
+import java.util.*;
+
+/**
+ * 해시태그 이름 접두어 트라이. 각 해시태그는 가중치(게시글 수)를 가진다.
+ * <p>
+ * 모든 노드가 자기 하위 트리에서 가중치가 가장 큰 {@link #CACHED_TOP_K}개를 미리 계산해 두므로,
+ * 그 이하의 자동 완성 요청은 접두어 길이만큼 내려가는 것으로 끝난다.
+ * 추가/변경/삭제 시에는 해당 경로의 노드들만 다시 계산한다. 동기화는 호출하는 쪽에서 한다.
+ */
+public class HashtagTrie {
+
+    public static final int CACHED_TOP_K = 10;
+
+    private static final Comparator<Completion> BY_WEIGHT = Comparator.comparingLong(Completion::weight).reversed()
+            .thenComparing(Completion::hashtagName);
+
+    private final Node root = new Node();
+    private int size = 0;
+
+    /**
+     * 해시태그의 가중치를 설정한다. 가중치가 0 이하면 트라이에서 제거한다.
+     */
+    public void put(String hashtagName, long weight) {
+        if (hashtagName == null || hashtagName.isEmpty()) {
+            return;
+        }
+        if (weight <= 0) {
+            remove(hashtagName);
+            return;
+        }
+
+        Deque<Node> path = new ArrayDeque<>(hashtagName.length() + 1);
+        Node node = root;
+        path.push(node);
+        for (int i = 0; i < hashtagName.length(); i++) {
+            node = node.children.computeIfAbsent(hashtagName.charAt(i), c -> new Node());
+            path.push(node);
+        }
+
+        if (node.hashtagName == null) {
+            size++;
+        }
+        node.hashtagName = hashtagName;
+        node.weight = weight;
+        path.forEach(Node::recompute);
+    }
+
+    /**
+     * 가중치를 {@code delta}만큼 바꾸고 바뀐 가중치를 반환한다.
+     */
+    public long add(String hashtagName, long delta) {
+        long weight = weightOf(hashtagName) + delta;
+        put(hashtagName, weight);
+        return Math.max(weight, 0);
+    }
+
+    public void remove(String hashtagName) {
+        if (hashtagName == null || hashtagName.isEmpty()) {
+            return;
+        }
+
+        Deque<Node> path = new ArrayDeque<>(hashtagName.length() + 1);
+        Node node = root;
+        path.push(node);
+        for (int i = 0; i < hashtagName.length(); i++) {
+            node = node.children.get(hashtagName.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path.push(node);
+        }
+        if (node.hashtagName == null) {
+            return;
+        }
+
+        node.hashtagName = null;
+        node.weight = 0;
+        size--;
+
+        // 끝 노드부터 올라가며 비게 된 노드는 떼어 내고, 남은 노드의 상위 K개를 다시 계산한다.
+        int depth = hashtagName.length();
+        Node child = path.pop();
+        while (!path.isEmpty()) {
+            Node parent = path.pop();
+            depth--;
+            if (child.isEmpty()) {
+                parent.children.remove(hashtagName.charAt(depth));
+            } else {
+                child.recompute();
+            }
+            child = parent;
+        }
+        root.recompute();
+    }
+
+    public long weightOf(String hashtagName) {
+        Node node = find(hashtagName);
+        return node == null || node.hashtagName == null ? 0 : node.weight;
+    }
+
+    /**
+     * 접두어로 시작하는 해시태그 중 가중치가 큰 순서(같으면 이름 순)로 최대 {@code k}개
+     */
+    public List<Completion> topK(String prefix, int k) {
+        Node node = find(prefix == null ? "" : prefix);
+        if (node == null || k <= 0) {
+            return List.of();
+        }
+        if (k <= CACHED_TOP_K) {
+            return node.top.size() <= k ? node.top : node.top.subList(0, k);
+        }
+
+        // 캐시보다 많이 요청하면 하위 트리를 훑으며 크기 k의 최소 힙으로 고른다.
+        PriorityQueue<Completion> heap = new PriorityQueue<>(k + 1, BY_WEIGHT.reversed());
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (current.hashtagName != null) {
+                heap.offer(new Completion(current.hashtagName, current.weight));
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+            }
+            current.children.values().forEach(stack::push);
+        }
+
+        List<Completion> result = new ArrayList<>(heap);
+        result.sort(BY_WEIGHT);
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root.children.clear();
+        root.top = List.of();
+        size = 0;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    public record Completion(String hashtagName, long weight) {
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private String hashtagName;
+        private long weight;
+        private List<Completion> top = List.of();
+
+        private boolean isEmpty() {
+            return hashtagName == null && children.isEmpty();
+        }
+
+        private void recompute() {
+            List<Completion> candidates = new ArrayList<>();
+            if (hashtagName != null) {
+                candidates.add(new Completion(hashtagName, weight));
+            }
+            children.values().forEach(child -> candidates.addAll(child.top));
+            candidates.sort(BY_WEIGHT);
+            top = List.copyOf(candidates.size() <= CACHED_TOP_K ? candidates : candidates.subList(0, CACHED_TOP_K));
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.yoon.projectboard.service.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 단어 -> (문서 ID 비트맵, 문서별 단어 위치) 역색인.
+ * <p>
+ * 문서를 글자/숫자가 이어진 단어로 나눠 소문자로 색인한다. 검색어가 여러 단어면 모든 단어가 들어 있는 문서를 비트맵 교집합으로 고른 뒤,
+ * 단어 위치가 검색어 순서대로 이어지는지 확인한다. 검색어의 마지막 단어는 앞부분만 같아도 맞는 것으로 보므로,
+ * 조사가 붙은 한글({@code 게시판에서})도 {@code 게시판}으로 찾을 수 있다.
+ * <p>
+ * 본문은 보관하지 않는다. 위치는 문서별로 차이값을 가변 길이 바이트로 줄여 저장한다. 문서 ID는 {@code int} 범위라고 가정한다.
+ */
+public class InvertedIndex {
+
+    private final NavigableMap<String, TermPostings> postings = new TreeMap<>();
+    private final Map<Long, String[]> termsByDocument = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(Long documentId, String text) {
+        Map<String, List<Integer>> positionsByTerm = new LinkedHashMap<>();
+        List<String> tokens = tokenize(text);
+        for (int position = 0; position < tokens.size(); position++) {
+            positionsByTerm.computeIfAbsent(tokens.get(position), term -> new ArrayList<>()).add(position);
+        }
+
+        int document = toInt(documentId);
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+            String[] terms = new String[positionsByTerm.size()];
+            int i = 0;
+            for (Map.Entry<String, List<Integer>> entry : positionsByTerm.entrySet()) {
+                TermPostings termPostings = postings.computeIfAbsent(entry.getKey(), TermPostings::new);
+                termPostings.documents.add(document);
+                termPostings.positions.put(document, encode(entry.getValue()));
+                terms[i++] = termPostings.term;       // 단어 문자열은 사전의 것을 같이 쓴다
+            }
+            termsByDocument.put(documentId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 단어가 순서대로 이어서 나오는 문서 ID를 오름차순으로 반환한다.
+     */
+    public List<Long> search(String keyword) {
+        List<String> terms = tokenize(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Collection<TermPostings>> matched = new ArrayList<>(terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                Collection<TermPostings> termPostings = i == terms.size() - 1
+                        ? prefixMatches(terms.get(i))
+                        : exactMatches(terms.get(i));
+                if (termPostings.isEmpty()) {
+                    return List.of();
+                }
+                matched.add(termPostings);
+            }
+
+            RoaringBitmap candidates = null;
+            for (Collection<TermPostings> termPostings : matched) {
+                RoaringBitmap documents = RoaringBitmap.or(termPostings.stream().map(TermPostings::documents).iterator());
+                candidates = candidates == null ? documents : RoaringBitmap.and(candidates, documents);
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Long> result = new ArrayList<>(candidates.getCardinality());
+            for (int document : candidates) {
+                if (matched.size() == 1 || containsPhrase(document, matched)) {
+                    result.add((long) document);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByDocument.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 글자/숫자가 이어진 부분을 소문자 단어로 나눈다.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordCharacter && start < 0) {
+                start = i;
+            } else if (!wordCharacter && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private Collection<TermPostings> exactMatches(String term) {
+        TermPostings termPostings = postings.get(term);
+        return termPostings == null ? List.of() : List.of(termPostings);
+    }
+
+    private Collection<TermPostings> prefixMatches(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+    }
+
+    /**
+     * 첫 단어 위치 p에 대해 i번째 단어가 p + i 위치에 있는지 본다.
+     */
+    private static boolean containsPhrase(int document, List<Collection<TermPostings>> matched) {
+        BitSet[] positions = new BitSet[matched.size()];
+        for (int i = 0; i < matched.size(); i++) {
+            positions[i] = new BitSet();
+            for (TermPostings termPostings : matched.get(i)) {
+                byte[] encoded = termPostings.positions.get(document);
+                if (encoded != null) {
+                    decode(encoded, positions[i]);
+                }
+            }
+        }
+
+        for (int start = positions[0].nextSetBit(0); start >= 0; start = positions[0].nextSetBit(start + 1)) {
+            int i = 1;
+            while (i < positions.length && positions[i].get(start + i)) {
+                i++;
+            }
+            if (i == positions.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeInternal(Long documentId) {
+        String[] terms = termsByDocument.remove(documentId);
+        if (terms == null) {
+            return;
+        }
+
+        int document = toInt(documentId);
+        for (String term : terms) {
+            TermPostings termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.documents.remove(document);
+                termPostings.positions.remove(document);
+                if (termPostings.documents.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 오름차순 위치를 차이값 가변 길이(7비트씩) 바이트로 줄인다.
+     */
+    private static byte[] encode(List<Integer> positions) {
+        byte[] buffer = new byte[positions.size() * 5];
+        int length = 0;
+        int previous = 0;
+        for (int position : positions) {
+            int delta = position - previous;
+            previous = position;
+            while ((delta & ~0x7F) != 0) {
+                buffer[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            buffer[length++] = (byte) delta;
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private static void decode(byte[] encoded, BitSet into) {
+        int position = 0;
+        int i = 0;
+        while (i < encoded.length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = encoded[i++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            position += delta;
+            into.set(position);
+        }
+    }
+
+    private static int toInt(Long documentId) {
+        return Math.toIntExact(documentId);
+    }
+
+    private record TermPostings(String term, RoaringBitmap documents, Map<Integer, byte[]> positions) {
+        private TermPostings(String term) {
+            this(term, new RoaringBitmap(), new HashMap<>());
+        }
+    }
+}
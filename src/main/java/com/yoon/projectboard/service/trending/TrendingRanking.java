@@ -0,0 +1,145 @@
+package com.yoon.projectboard.service.trending;
+
+import java.util.*;
+
+/**
+ * 시간 구간(bucket)으로 나눈 슬라이딩 윈도우 점수와 상위 N개 힙.
+ * <p>
+ * 점수는 최근 {@code bucketCount}개 구간에 들어온 가중치의 합이다. 구간별 증가분을 따로 들고 있다가
+ * 구간이 윈도우 밖으로 밀려나면 그만큼 빼므로, 전체 점수를 다시 합산하지 않는다.
+ * 점수가 오르면 상위 N개 최소 힙을 그 자리에서 고치고, 점수가 내려가는 경우(구간 만료)에만 힙을 다시 만든다.
+ * <p>
+ * 시간은 호출하는 쪽이 구간 번호로 넘긴다. 동기화는 호출하는 쪽에서 한다.
+ */
+public class TrendingRanking {
+
+    private static final Comparator<Ranked> BY_SCORE = Comparator.comparingLong(Ranked::score)
+            .thenComparing(Ranked::articleId, Comparator.reverseOrder());
+
+    private final int bucketCount;
+    private final int topSize;
+
+    private final long[] bucketNumbers;
+    private final List<Map<Long, Long>> buckets;
+    private final Map<Long, Long> scores = new HashMap<>();
+
+    private final PriorityQueue<Ranked> top;
+    private final Map<Long, Ranked> rankedById = new HashMap<>();
+    private long currentBucketNumber = Long.MIN_VALUE;
+
+    public TrendingRanking(int bucketCount, int topSize) {
+        this.bucketCount = bucketCount;
+        this.topSize = topSize;
+        this.bucketNumbers = new long[bucketCount];
+        Arrays.fill(bucketNumbers, -1);
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new HashMap<>());
+        }
+        this.top = new PriorityQueue<>(topSize + 1, BY_SCORE);
+    }
+
+    public void add(Long articleId, long weight, long bucketNumber) {
+        advance(bucketNumber);
+
+        int slot = slotOf(currentBucketNumber);     // 늦게 도착한 기록은 현재 구간에 넣는다
+        buckets.get(slot).merge(articleId, weight, Long::sum);
+        long score = scores.merge(articleId, weight, Long::sum);
+        offer(articleId, score);
+    }
+
+    /**
+     * {@code bucketNumber} 기준으로 윈도우를 벗어난 구간을 비우고 그 점수를 뺀다.
+     */
+    public void advance(long bucketNumber) {
+        if (bucketNumber <= currentBucketNumber) {
+            return;
+        }
+
+        boolean expired = false;
+        long from = currentBucketNumber == Long.MIN_VALUE
+                ? bucketNumber - bucketCount + 1
+                : Math.max(currentBucketNumber + 1, bucketNumber - bucketCount + 1);
+        for (long number = from; number <= bucketNumber; number++) {
+            int slot = slotOf(number);
+            if (bucketNumbers[slot] == number) {
+                continue;
+            }
+            expired |= expire(slot);
+            bucketNumbers[slot] = number;
+        }
+        currentBucketNumber = bucketNumber;
+
+        if (expired) {
+            rebuildTop();
+        }
+    }
+
+    public void remove(Long articleId) {
+        if (scores.remove(articleId) == null) {
+            return;
+        }
+        buckets.forEach(bucket -> bucket.remove(articleId));
+        if (rankedById.containsKey(articleId)) {
+            rebuildTop();
+        }
+    }
+
+    /**
+     * 점수가 높은 순서(같으면 최신 게시글 먼저)의 게시글 ID
+     */
+    public List<Long> top(int limit) {
+        return top.stream()
+                .sorted(BY_SCORE.reversed())
+                .limit(limit)
+                .map(Ranked::articleId)
+                .toList();
+    }
+
+    public long scoreOf(Long articleId) {
+        return scores.getOrDefault(articleId, 0L);
+    }
+
+    private void offer(Long articleId, long score) {
+        Ranked previous = rankedById.remove(articleId);
+        if (previous != null) {
+            top.remove(previous);
+        } else if (top.size() >= topSize && BY_SCORE.compare(new Ranked(articleId, score), top.peek()) <= 0) {
+            return;
+        }
+
+        Ranked ranked = new Ranked(articleId, score);
+        top.add(ranked);
+        rankedById.put(articleId, ranked);
+        if (top.size() > topSize) {
+            rankedById.remove(top.poll().articleId());
+        }
+    }
+
+    private boolean expire(int slot) {
+        Map<Long, Long> bucket = buckets.get(slot);
+        if (bucket.isEmpty()) {
+            return false;
+        }
+
+        bucket.forEach((articleId, weight) -> scores.computeIfPresent(articleId, (id, score) -> {
+            long remaining = score - weight;
+            return remaining > 0 ? remaining : null;
+        }));
+        bucket.clear();
+        return true;
+    }
+
+    private void rebuildTop() {
+        top.clear();
+        rankedById.clear();
+        scores.forEach(this::offer);
+    }
+
+    private int slotOf(long bucketNumber) {
+        return (int) Math.floorMod(bucketNumber, (long) bucketCount);
+    }
+
+    private record Ranked(Long articleId, long score) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.yoon.projectboard.service.trending;
+
+import com.yoon.projectboard.config.TrendingConfig.TrendingProperties;
+import com.yoon.projectboard.dto.event.ArticleCommentEvent;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기 게시글 순위. 상세 조회와 댓글 작성을 가중치로 최근 윈도우 점수에 더하고, 상위 게시글 ID를 메모리에서 바로 답한다.
+ * <p>
+ * 점수와 상위 N개는 {@link TrendingRanking}이 증분으로 유지하므로 인기 글 목록에 집계 정렬 쿼리가 필요 없다.
+ * 조회/댓글 기록은 잠금 없이 게시글별 대기 가중치({@link ConcurrentHashMap#merge})에만 더하고,
+ * 순위 조회와 윈도우 이동 때 대기 가중치를 원자적으로 떼어 내 순위에 반영한다. 반영된 구간은 기록 시점보다 최대 한 구간 늦을 수 있다.
+ * 메모리에만 있으므로 재기동하면 처음부터 다시 모은다.
+ */
+@Service
+public class TrendingService {
+
+    private final TrendingProperties properties;
+    private final TrendingRanking ranking;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public TrendingService(TrendingProperties properties) {
+        this.properties = properties;
+        this.ranking = new TrendingRanking(properties.getBucketCount(), properties.getTopSize());
+    }
+
+    public void recordView(Long articleId) {
+        pending.merge(articleId, properties.getViewWeight(), Long::sum);
+    }
+
+    public void recordComment(Long articleId) {
+        pending.merge(articleId, properties.getCommentWeight(), Long::sum);
+    }
+
+    /**
+     * 점수가 높은 순서의 게시글 ID를 최대 {@code size}개 반환한다.
+     */
+    public synchronized List<Long> topArticleIds(int size) {
+        long bucket = currentBucket();
+        drain(bucket);
+        ranking.advance(bucket);
+        return ranking.top(size);
+    }
+
+    /**
+     * 한 번에 조회할 수 있는 인기 게시글 수의 상한
+     */
+    public int maxSize() {
+        return properties.getTopSize();
+    }
+
+    /**
+     * 댓글이 커밋된 뒤에만 점수를 더한다. 롤백된 댓글은 점수에 들어가지 않는다.
+     */
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        if (event.newComment()) {
+            recordComment(event.articleId());
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArticleEvent(ArticleEvent event) {
+        if (event.isDeleted()) {
+            pending.remove(event.articleId());
+            ranking.remove(event.articleId());
+        }
+    }
+
+    /**
+     * 조회/댓글이 없는 동안에도 윈도우를 밀어 오래된 점수를 뺀다.
+     */
+    @Scheduled(
+            initialDelayString = "${board.trending.bucket-size:PT1M}",
+            fixedDelayString = "${board.trending.bucket-size:PT1M}"
+    )
+    public synchronized void advance() {
+        long bucket = currentBucket();
+        drain(bucket);
+        ranking.advance(bucket);
+    }
+
+    /**
+     * 게시글별 대기 가중치를 맵에서 원자적으로 떼어 내 순위에 더한다. 떼어 낸 뒤의 기록은 새 항목에 쌓이므로 잃어버리지 않는다.
+     */
+    private void drain(long bucket) {
+        for (Long articleId : List.copyOf(pending.keySet())) {
+            pending.computeIfPresent(articleId, (id, weight) -> {
+                ranking.add(id, weight, bucket);
+                return null;
+            });
+        }
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / properties.getBucketSize().toMillis();
+    }
+}
@@ -0,0 +1,102 @@
+package com.yoon.projectboard.conditional;
+
+import com.yoon.projectboard.dto.ArticleVersionDto;
+import com.yoon.projectboard.service.ArticleCommentService;
+import com.yoon.projectboard.service.ArticleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("조건부 GET - Data REST 단건 조회")
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetFilterTest {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ConditionalGetFilter sut;
+
+    @Mock
+    private ArticleService articleService;
+    @Mock
+    private ArticleCommentService articleCommentService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ConditionalGetFilter(articleService, articleCommentService, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("게시글 조회수가 바뀌면, 수정일시가 같아도 ETag 가 달라져 새 본문을 돌려준다.")
+    @Test
+    void givenViewsChanged_whenRequestingArticleWithOldEtag_thenPassesThroughWithNewEtag() throws Exception {
+        //given
+        given(articleService.getArticleVersion(1L)).willReturn(
+                Optional.of(ArticleVersionDto.of(1L, MODIFIED_AT, null, 0L, 3L)),
+                Optional.of(ArticleVersionDto.of(1L, MODIFIED_AT, null, 0L, 4L))
+        );
+        String oldEtag = filter(get("/api/articles/1")).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest request = get("/api/articles/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, oldEtag);
+
+        //when
+        MockHttpServletResponse response = filter(request);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(oldEtag);
+    }
+
+    @DisplayName("게시글은 Last-Modified 를 주지 않으므로, If-Modified-Since 만으로는 304를 돌려주지 않는다.")
+    @Test
+    void givenOnlyIfModifiedSince_whenRequestingArticle_thenPassesThrough() throws Exception {
+        //given
+        given(articleService.getArticleVersion(1L)).willReturn(Optional.of(ArticleVersionDto.of(1L, MODIFIED_AT, null, 0L, 3L)));
+        MockHttpServletRequest request = get("/api/articles/1");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, ArticleVersionDto.toEpochMilli(MODIFIED_AT.plusDays(1)));
+
+        //when
+        MockHttpServletResponse response = filter(request);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNull();
+    }
+
+    @DisplayName("댓글이 그대로면, If-Modified-Since 로도 304를 돌려준다.")
+    @Test
+    void givenUnmodifiedComment_whenRequestingWithIfModifiedSince_thenReturnsNotModified() throws Exception {
+        //given
+        given(articleCommentService.getArticleCommentModifiedAt(1L)).willReturn(Optional.of(MODIFIED_AT));
+        MockHttpServletRequest request = get("/api/articleComments/1");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, ArticleVersionDto.toEpochMilli(MODIFIED_AT));
+
+        //when
+        MockHttpServletResponse response = filter(request);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -1,6 +1,9 @@
 package com.yoon.projectboard.config;
 
 import com.yoon.projectboard.dto.UserAccountDto;
+import com.yoon.projectboard.dto.security.BoardPrincipal;
+import com.yoon.projectboard.service.OAuthAccountService;
+import com.yoon.projectboard.service.PrincipalCache;
 import com.yoon.projectboard.service.UserAccountService;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
@@ -17,10 +20,17 @@ public class TestSecurityConfig {
     @MockBean
     private UserAccountService userAccountService;
 
+    @MockBean
+    private PrincipalCache principalCache;
+
+    @MockBean
+    private OAuthAccountService oAuthAccountService;
+
     @BeforeTestMethod
     public void securitySetup() {
         String userId = "yoonSecurity";
         given(userAccountService.searchUser(userId)).willReturn(Optional.of(createUserAccountDto()));
+        given(principalCache.get(userId)).willReturn(Optional.of(BoardPrincipal.from(createUserAccountDto())));
         given(userAccountService.saveUser(anyString(), anyString(), anyString(), anyString(), anyString()))
                 .willReturn(createUserAccountDto());
     }
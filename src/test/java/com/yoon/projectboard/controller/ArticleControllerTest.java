@@ -3,12 +3,17 @@ package com.yoon.projectboard.controller;
 import com.yoon.projectboard.config.TestSecurityConfig;
 import com.yoon.projectboard.domain.constant.FormStatus;
 import com.yoon.projectboard.domain.constant.SearchType;
+import com.yoon.projectboard.dto.ArticleCursor;
 import com.yoon.projectboard.dto.ArticleDto;
+import com.yoon.projectboard.dto.ArticleNeighborsDto;
+import com.yoon.projectboard.dto.ArticleVersionDto;
 import com.yoon.projectboard.dto.ArticleWithCommentsDto;
 import com.yoon.projectboard.dto.HashtagDto;
 import com.yoon.projectboard.dto.UserAccountDto;
 import com.yoon.projectboard.dto.request.ArticleRequest;
+import com.yoon.projectboard.dto.response.ArticleNeighborsResponse;
 import com.yoon.projectboard.dto.response.ArticleResponse;
+import com.yoon.projectboard.dto.response.CursorPaginationBar;
 import com.yoon.projectboard.service.ArticleService;
 import com.yoon.projectboard.service.PaginationService;
 import com.yoon.projectboard.util.FormDataEncoder;
@@ -22,8 +27,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
@@ -31,6 +39,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -62,7 +71,7 @@ class ArticleControllerTest {
     @Test
     void givenNoting_whenRequestingArticlesView_thenReturnsArticlesView() throws Exception {
         //given
-        given(articleService.searchArticles(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticleSummaries(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         //when & then
@@ -74,10 +83,28 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attributeExists("searchTypes"))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
-        then(articleService).should().searchArticles(eq(null), eq(null), any(Pageable.class));
+        then(articleService).should().searchArticleSummaries(eq(null), eq(null), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view] [GET] 인기 게시글 리스트 페이지 - 정상 호출")
+    @Test
+    void givenNothing_whenRequestingHotArticlesView_thenReturnsArticlesView() throws Exception {
+        //given
+        given(articleService.getHotArticles(10)).willReturn(Page.empty());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0));
+
+        //when & then
+        mockMvc.perform(get("/articles/hot"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attributeExists("paginationBarNumbers"));
+        then(articleService).should().getHotArticles(10);
+        then(articleService).should(never()).searchArticleSummaries(any(), any(), any(Pageable.class));
+    }
+
     @DisplayName("[view] [GET] 게시글 리스트 (게시판) 페이지 - 검색어와 함께 호출")
     @Test
     void givenSearchKeyword_whenSearchingArticlesView_thenReturnsArticlesView() throws Exception {
@@ -85,7 +112,7 @@ class ArticleControllerTest {
         SearchType searchType = SearchType.TITLE;
         String searchValue = "title";
 
-        given(articleService.searchArticles(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticleSummaries(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         //when & then
@@ -98,7 +125,7 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/index"))
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attributeExists("searchTypes"));
-        then(articleService).should().searchArticles(eq(searchType), eq(searchValue), any(Pageable.class));
+        then(articleService).should().searchArticleSummaries(eq(searchType), eq(searchValue), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -113,7 +140,7 @@ class ArticleControllerTest {
 
         Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc(sortName)));
         List<Integer> barNumbers = List.of(1, 2, 3, 4, 5);
-        given(articleService.searchArticles(null, null, pageable)).willReturn(Page.empty());
+        given(articleService.searchArticleSummaries(null, null, pageable)).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages())).willReturn(barNumbers);
 
         //when & then
@@ -129,10 +156,29 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/index"))
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attribute("paginationBarNumbers", barNumbers));
-        then(articleService).should().searchArticles(null, null, pageable);
+        then(articleService).should().searchArticleSummaries(null, null, pageable);
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view] [GET] 게시글 리스트 (게시판) 페이지 - 커서 기반 호출")
+    @Test
+    void givenCursor_whenRequestingArticlesView_thenReturnsArticlesViewWithCursorPagination() throws Exception {
+        //given
+        CursorPaginationBar cursorPaginationBar = CursorPaginationBar.of(null, null);
+        given(articleService.searchArticleSummaries(eq(null), eq(null), any(ArticleCursor.class), eq(10))).willReturn(new SliceImpl<>(List.of()));
+        given(paginationService.getCursorPaginationBar(any(ArticleCursor.class), any(), any())).willReturn(cursorPaginationBar);
+
+        //when & then
+        mockMvc.perform(get("/articles").queryParam("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorPaginationBar", cursorPaginationBar));
+        then(articleService).should().searchArticleSummaries(eq(null), eq(null), eq(ArticleCursor.first()), eq(10));
+        then(paginationService).should(never()).getPaginationBarNumbers(anyInt(), anyInt());
+    }
+
     @DisplayName("[view] [GET] 게시글 페이지 - 인증 없을 땐 로그인 페이지로 이동")
     @Test
     void givenNothing_whenRequestingArticleView_thenRedirectsToLoginView() throws Exception {
@@ -152,9 +198,9 @@ class ArticleControllerTest {
     void givenNoting_whenRequestingArticleView_thenReturnsArticleView() throws Exception {
         //given
         Long articleId = 1L;
-        Long totalCount = 1L;
+        ArticleNeighborsDto neighbors = ArticleNeighborsDto.of(articleId, null, 3L);
         given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithArticleCommentDto());
-        given(articleService.getArticleCount()).willReturn(totalCount);
+        given(articleService.getArticleNeighbors(articleId)).willReturn(neighbors);
 
         //when & then
         mockMvc.perform(get("/articles/1"))
@@ -163,10 +209,36 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("articleComments"))
-                .andExpect(model().attribute("totalCount", totalCount))
+                .andExpect(model().attribute("neighbors", ArticleNeighborsResponse.of(null, 3L)))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
         then(articleService).should().getArticleWithComments(articleId);
-        then(articleService).should().getArticleCount();
+        then(articleService).should().getArticleNeighbors(articleId);
+    }
+
+    @WithMockUser
+    @DisplayName("[view] [GET] 게시글 페이지 - 바뀌지 않은 게시글을 다시 조회하면 본문을 읽지 않고 304")
+    @Test
+    void givenUnchangedArticle_whenRevalidatingArticleView_thenReturnsNotModified() throws Exception {
+        //given
+        Long articleId = 1L;
+        MockHttpSession session = new MockHttpSession();
+        ArticleVersionDto version = ArticleVersionDto.of(articleId, LocalDateTime.of(2024, 1, 1, 0, 0), null, 0L, 0L);
+        given(articleService.getArticleNeighbors(articleId)).willReturn(ArticleNeighborsDto.of(articleId, null, 3L));
+        given(articleService.getArticleVersion(articleId)).willReturn(Optional.of(version));
+        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithArticleCommentDto());
+        String etag = mockMvc.perform(get("/articles/" + articleId).session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        //when & then
+        mockMvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        then(articleService).should(times(1)).getArticleWithComments(articleId);
+        then(articleService).should().recordArticleView(articleId);
     }
 
     @Disabled("구현 삭제")
@@ -0,0 +1,105 @@
+package com.yoon.projectboard.controller;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * 게시글 상세 화면 한 번에 실행되는 SQL 문 수를 Hibernate 통계로 확인한다.
+ * 댓글 수와 무관하게 일정해야 하므로, 댓글이 많은 게시글과 없는 게시글 모두 같은 상한으로 검사한다.
+ */
+@DisplayName("쿼리 수 테스트 - 게시글 상세")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ArticleDetailQueryCountTest {
+
+    // 게시글 버전(조건부 GET), 게시글+작성자+해시태그, 댓글+작성자, 이전/다음 게시글 ID 탐색 2회 (이웃은 캐시되면 생략)
+    private static final long MAX_STATEMENTS = 5;
+    // 본문이 그대로면(304) 게시글 버전만 조회한다
+    private static final long MAX_NOT_MODIFIED_STATEMENTS = 1;
+
+    private final MockMvc mockMvc;
+    private final Statistics statistics;
+
+    public ArticleDetailQueryCountTest(@Autowired MockMvc mockMvc, @Autowired EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics.clear();
+    }
+
+    @DisplayName("[view] [GET] 댓글이 있는 게시글 상세 페이지 - SQL 문 수 상한")
+    @WithMockUser
+    @Test
+    void givenArticleWithComments_whenRequestingArticleView_thenExecutesBoundedStatements() throws Exception {
+        //given
+        long articleId = 1L;
+
+        //when
+        mockMvc.perform(get("/articles/" + articleId))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"));
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @DisplayName("[view] [GET] 게시글 상세 페이지를 여러 번 조회해도 - 요청마다 SQL 문 수가 같다")
+    @WithMockUser
+    @Test
+    void givenSeveralArticles_whenRequestingArticleViews_thenExecutesSameStatementsPerRequest() throws Exception {
+        //given
+        long[] articleIds = {1L, 2L, 3L, 4L, 5L};
+
+        //when
+        for (long articleId : articleIds) {
+            mockMvc.perform(get("/articles/" + articleId)).andExpect(status().isOk());
+        }
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS * articleIds.length);
+    }
+
+    @DisplayName("[view] [GET] 바뀌지 않은 게시글 상세 페이지를 다시 조회하면 - 버전만 조회하고 304로 답한다")
+    @WithMockUser
+    @Test
+    void givenUnchangedArticle_whenRevalidatingArticleView_thenReturnsNotModifiedWithoutLoadingArticle() throws Exception {
+        //given
+        long articleId = 1L;
+        MockHttpSession session = new MockHttpSession();
+        String etag = mockMvc.perform(get("/articles/" + articleId).session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        statistics.clear();
+
+        //when
+        mockMvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_NOT_MODIFIED_STATEMENTS);
+    }
+}
@@ -0,0 +1,64 @@
+package com.yoon.projectboard.controller;
+
+import com.yoon.projectboard.config.TestSecurityConfig;
+import com.yoon.projectboard.service.search.HashtagAutocomplete;
+import com.yoon.projectboard.service.search.HashtagTrie.Completion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 해시태그")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(HashtagController.class)
+class HashtagControllerTest {
+
+    private final MockMvc mockMvc;
+
+    @MockBean
+    private HashtagAutocomplete hashtagAutocomplete;
+
+    public HashtagControllerTest(@Autowired MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @DisplayName("[api] [GET] 해시태그 자동 완성 - 정상 호출")
+    @Test
+    void givenPrefix_whenRequestingAutocomplete_thenReturnsSuggestions() throws Exception {
+        //given
+        given(hashtagAutocomplete.suggest("ja", 5))
+                .willReturn(Optional.of(List.of(new Completion("java", 3), new Completion("jack", 1))));
+
+        //when & then
+        mockMvc.perform(get("/api/hashtags/autocomplete").queryParam("prefix", "ja").queryParam("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].hashtagName").value("java"))
+                .andExpect(jsonPath("$[0].articleCount").value(3))
+                .andExpect(jsonPath("$[1].hashtagName").value("jack"));
+        then(hashtagAutocomplete).should().suggest("ja", 5);
+    }
+
+    @DisplayName("[api] [GET] 해시태그 자동 완성 - 트라이 준비 전이면 빈 목록")
+    @Test
+    void givenNotReadyAutocomplete_whenRequestingAutocomplete_thenReturnsEmptyList() throws Exception {
+        //given
+        given(hashtagAutocomplete.suggest("ja", 10)).willReturn(Optional.empty());
+
+        //when & then
+        mockMvc.perform(get("/api/hashtags/autocomplete").queryParam("prefix", "ja"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+}
@@ -0,0 +1,249 @@
+package com.yoon.projectboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 내장 H2 DB를 주 DB/복제본으로 띄우고, 각 DB의 {@code route} 테이블에 자기 이름을 넣어 어느 쪽에서 읽었는지 확인한다.
+ */
+@DisplayName("읽기/쓰기 라우팅 데이터 소스")
+class ReadWriteRoutingDataSourceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReadWriteRoutingDataSource sut;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sut.close();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본을 돌아가며 읽고, 쓰기 트랜잭션은 주 DB를 쓴다.")
+    @Test
+    void givenReadOnlyAndWriteTransactions_whenQuerying_thenRoutesByTransactionType() {
+        //given
+        sut = routingDataSource(ReplicaSelection.ROUND_ROBIN, replica("replica-1"), replica("replica-2"));
+
+        //when
+        String written = query(false);
+        List<String> read = List.of(query(true), query(true), query(true));
+
+        //then
+        assertThat(written).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+        assertThat(read).containsExactly("replica-1", "replica-2", "replica-1");
+        assertThat(connections(ReadWriteRoutingDataSource.PRIMARY)).isEqualTo(1);
+        assertThat(connections("replica-1")).isEqualTo(2);
+        assertThat(connections("replica-2")).isEqualTo(1);
+    }
+
+    @DisplayName("사용 중인 커넥션이 가장 적은 복제본을 고르는 방식이면, 커넥션을 잡고 있는 복제본을 피한다.")
+    @Test
+    void givenLeastLoadedSelection_whenReplicaIsBusy_thenReadsFromIdleReplica() throws Exception {
+        //given
+        ReplicaDataSource busy = replica("replica-1");
+        sut = routingDataSource(ReplicaSelection.LEAST_LOADED, busy, replica("replica-2"));
+
+        //when
+        List<String> read;
+        try (Connection held = busy.getDataSource().getConnection()) {
+            read = List.of(query(true), query(true));
+        }
+
+        //then
+        assertThat(read).containsOnly("replica-2");
+    }
+
+    @DisplayName("커넥션을 받지 못한 복제본은 빼고 다른 복제본에서 읽는다.")
+    @Test
+    void givenUnavailableReplica_whenReading_thenEjectsReplicaAndReadsFromOther() {
+        //given
+        ReplicaDataSource unavailable = unavailableReplica("replica-1");
+        sut = routingDataSource(ReplicaSelection.ROUND_ROBIN, unavailable, replica("replica-2"));
+
+        //when
+        List<String> read = List.of(query(true), query(true));
+
+        //then
+        assertThat(read).containsOnly("replica-2");
+        assertThat(unavailable.isHealthy()).isFalse();
+        assertThat(meterRegistry.get("board.datasource.replica.ejections").tag("route", "replica-1").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.datasource.replica.healthy").tag("route", "replica-1").gauge().value()).isZero();
+    }
+
+    @DisplayName("연속 실패가 기준 횟수에 못 미치면, 그 요청만 다른 복제본에서 읽고 복제본은 빼지 않는다.")
+    @Test
+    void givenFailuresBelowThreshold_whenReading_thenKeepsReplicaUntilThresholdReached() {
+        //given
+        ReplicaDataSource unavailable = unavailableReplica("replica-1");
+        sut = routingDataSource(ReplicaSelection.ROUND_ROBIN, 2, unavailable, replica("replica-2"));
+
+        //when
+        String first = query(true);
+        boolean healthyAfterFirstFailure = unavailable.isHealthy();
+        String second = query(true);
+
+        //then
+        assertThat(first).isEqualTo("replica-2");
+        assertThat(second).isEqualTo("replica-2");
+        assertThat(healthyAfterFirstFailure).isTrue();
+        assertThat(unavailable.isHealthy()).isFalse();
+        assertThat(meterRegistry.get("board.datasource.replica.ejections").tag("route", "replica-1").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("정상 복제본이 없으면, 읽기 전용 트랜잭션도 주 DB에서 읽는다.")
+    @Test
+    void givenNoHealthyReplica_whenReading_thenFallsBackToPrimary() {
+        //given
+        sut = routingDataSource(ReplicaSelection.ROUND_ROBIN, unavailableReplica("replica-1"));
+
+        //when
+        String read = query(true);
+
+        //then
+        assertThat(read).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @DisplayName("상태 검사에서 다시 커넥션을 받으면, 뺐던 복제본을 읽기 경로에 다시 넣는다.")
+    @Test
+    void givenEjectedReplica_whenCheckSucceeds_thenRestoresReplica() {
+        //given
+        ReplicaDataSource replica = replica("replica-1");
+        sut = routingDataSource(ReplicaSelection.ROUND_ROBIN, replica);
+        replica.setHealthy(false);
+
+        //when
+        sut.checkReplicas();
+
+        //then
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(query(true)).isEqualTo("replica-1");
+    }
+
+    @DisplayName("요청이 주 DB로 고정되어 있으면, 읽기 전용 트랜잭션도 주 DB에서 읽는다.")
+    @Test
+    void givenPinnedToPrimary_whenReading_thenReadsFromPrimary() {
+        //given
+        sut = routingDataSource(ReplicaSelection.ROUND_ROBIN, replica("replica-1"));
+        PrimaryPinning.pin();
+
+        //when
+        String read;
+        try {
+            read = query(true);
+        } finally {
+            PrimaryPinning.unpin();
+        }
+
+        //then
+        assertThat(read).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @DisplayName("쓰기 트랜잭션이 커밋되면 쓰기 리스너를 한 번 부르고, 롤백되거나 읽기 전용이면 부르지 않는다.")
+    @Test
+    void givenTransactions_whenCompleted_thenNotifiesOnlyCommittedWrites() {
+        //given
+        sut = routingDataSource(ReplicaSelection.ROUND_ROBIN, replica("replica-1"));
+        AtomicInteger writes = new AtomicInteger();
+        sut.setWriteListener(writes::incrementAndGet);
+
+        //when
+        write(false);
+        write(true);
+        query(true);
+
+        //then
+        assertThat(writes).hasValue(1);
+    }
+
+    private ReadWriteRoutingDataSource routingDataSource(ReplicaSelection selection, ReplicaDataSource... replicas) {
+        return routingDataSource(selection, 1, replicas);
+    }
+
+    private ReadWriteRoutingDataSource routingDataSource(ReplicaSelection selection, int ejectionThreshold, ReplicaDataSource... replicas) {
+        return new ReadWriteRoutingDataSource(
+                pool(ReadWriteRoutingDataSource.PRIMARY, databaseOf(ReadWriteRoutingDataSource.PRIMARY)),
+                List.of(replicas), selection, ejectionThreshold, Duration.ofSeconds(1), meterRegistry
+        );
+    }
+
+    private String query(boolean readOnly) {
+        DataSource dataSource = lazy(sut);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from route", String.class));
+    }
+
+    private void write(boolean rollback) {
+        DataSource dataSource = lazy(sut);
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+            new JdbcTemplate(dataSource).update("update route set name = name");
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    /**
+     * 기본값을 정해 두어 프록시가 처음에 커넥션을 받아 보지 않게 한다. (커넥션 수 지표가 흐트러지지 않도록)
+     */
+    private static DataSource lazy(DataSource target) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(target);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private long connections(String route) {
+        return meterRegistry.get("board.datasource.connections").tag("route", route).timer().count();
+    }
+
+    private static ReplicaDataSource replica(String name) {
+        return new ReplicaDataSource(name, pool(name, databaseOf(name)));
+    }
+
+    private static ReplicaDataSource unavailableReplica(String name) {
+        return new ReplicaDataSource(name, pool(name, "jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE"));
+    }
+
+    /**
+     * 자기 이름이 든 {@code route} 테이블을 가진 새 내장 H2 DB
+     */
+    private static String databaseOf(String name) {
+        String url = "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        jdbcTemplate.execute("create table route (name varchar(50))");
+        jdbcTemplate.update("insert into route values (?)", name);
+        return url;
+    }
+
+    private static HikariDataSource pool(String name, String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setConnectionTimeout(250);
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
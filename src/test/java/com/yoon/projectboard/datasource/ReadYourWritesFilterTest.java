@@ -0,0 +1,111 @@
+package com.yoon.projectboard.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽기/쓰기 라우팅 - 자기가 쓴 글 바로 읽기")
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2023-10-01T00:00:00Z");
+
+    private final ReadYourWritesFilter sut = new ReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        PrimaryPinning.unpin();
+    }
+
+    @DisplayName("요청 중에 쓰기가 커밋되면, 창이 끝나는 시각을 쿠키로 남기고 남은 요청을 주 DB로 고정한다.")
+    @Test
+    void givenCommittedWrite_whenMarkingWritten_thenAddsCookieAndPins() {
+        //given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        //when
+        sut.markWritten();
+        sut.markWritten();
+
+        //then
+        assertThat(response.getCookies())
+                .singleElement()
+                .hasFieldOrPropertyWithValue("name", ReadYourWritesFilter.COOKIE_NAME)
+                .hasFieldOrPropertyWithValue("value", String.valueOf(NOW.toEpochMilli() + 5000))
+                .hasFieldOrPropertyWithValue("maxAge", 5);
+        assertThat(PrimaryPinning.isPinned()).isTrue();
+    }
+
+    @DisplayName("창이 끝나지 않은 쿠키가 있으면, 요청을 처리하는 동안 주 DB로 고정한다.")
+    @Test
+    void givenUnexpiredCookie_whenFiltering_thenPinsDuringRequest() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(NOW.toEpochMilli() + 1000)));
+
+        //when
+        boolean pinned = pinnedWhileFiltering(request);
+
+        //then
+        assertThat(pinned).isTrue();
+        assertThat(PrimaryPinning.isPinned()).isFalse();
+    }
+
+    @DisplayName("창이 지난 쿠키면, 요청을 주 DB로 고정하지 않는다.")
+    @Test
+    void givenExpiredCookie_whenFiltering_thenDoesNotPin() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(NOW.toEpochMilli() - 1)));
+
+        //when
+        boolean pinned = pinnedWhileFiltering(request);
+
+        //then
+        assertThat(pinned).isFalse();
+    }
+
+    @DisplayName("창 길이보다 먼 시각으로 고친 쿠키면, 요청을 주 DB로 고정하지 않는다.")
+    @Test
+    void givenCookieBeyondWindow_whenFiltering_thenDoesNotPin() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(Long.MAX_VALUE)));
+
+        //when
+        boolean pinned = pinnedWhileFiltering(request);
+
+        //then
+        assertThat(pinned).isFalse();
+    }
+
+    private boolean pinnedWhileFiltering(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                pinned.set(PrimaryPinning.isPinned());
+            }
+        };
+        sut.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+        return pinned.get();
+    }
+}
@@ -0,0 +1,134 @@
+package com.yoon.projectboard.pagecache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("페이지 캐시 필터")
+class PageCacheFilterTest {
+
+    private static final Instant NOW = Instant.parse("2023-10-01T00:00:00Z");
+
+    private final PageCache pageCache = new PageCache(Duration.ofSeconds(30), Duration.ofMinutes(2), 100, new SimpleMeterRegistry());
+    private final PageCacheFilter sut = new PageCacheFilter(pageCache, Clock.fixed(NOW, ZoneOffset.UTC), new SimpleMeterRegistry());
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("로그인하지 않은 사용자가 같은 화면을 다시 요청하면, 렌더링하지 않고 캐시한 HTML 을 내준다.")
+    @Test
+    void givenAnonymousRequests_whenRequestingSamePage_thenServesCachedPage() throws Exception {
+        //given
+        request("/articles", "page", "1", "searchValue", "");
+
+        //when
+        MockHttpServletResponse response = request("/articles", "searchValue", "", "page", "1");
+
+        //then
+        assertThat(renders).hasValue(1);
+        assertThat(response.getHeader(PageCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(response.getContentAsString()).isEqualTo("<html>1</html>");
+    }
+
+    @DisplayName("무효화된 페이지를 다시 렌더링하는 중이면, 다른 요청에는 직전 페이지를 내준다.")
+    @Test
+    void givenPurgedPageBeingRevalidated_whenRequesting_thenServesStalePage() throws Exception {
+        //given
+        request("/articles");
+        pageCache.purge(Set.of(PageCacheTags.ARTICLE_LIST), NOW.toEpochMilli());
+        pageCache.get("/articles").tryRevalidate();      // 다른 요청이 다시 렌더링하는 중
+
+        //when
+        MockHttpServletResponse response = request("/articles");
+
+        //then
+        assertThat(renders).hasValue(1);
+        assertThat(response.getHeader(PageCacheFilter.CACHE_HEADER)).isEqualTo("STALE");
+    }
+
+    @DisplayName("로그인한 사용자의 요청은 캐시를 거치지 않는다.")
+    @Test
+    void givenAuthenticatedUser_whenRequesting_thenBypassesCache() throws Exception {
+        //given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("yoon", null, AuthorityUtils.createAuthorityList("ROLE_USER"))
+        );
+
+        //when
+        request("/articles");
+        MockHttpServletResponse response = request("/articles");
+
+        //then
+        assertThat(renders).hasValue(2);
+        assertThat(response.getHeader(PageCacheFilter.CACHE_HEADER)).isNull();
+    }
+
+    @DisplayName("쿠키를 심는 응답은 캐시하지 않는다.")
+    @Test
+    void givenResponseSettingCookie_whenRequesting_thenDoesNotCache() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                render(req, resp);
+                resp.addCookie(new Cookie("JSESSIONID", "session"));
+            }
+        };
+
+        //when
+        sut.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+
+        //then
+        assertThat(pageCache.get("/articles")).isNull();
+    }
+
+    private MockHttpServletResponse request(String path, String... parameters) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        for (int i = 0; i < parameters.length; i += 2) {
+            request.addParameter(parameters[i], parameters[i + 1]);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                render(req, resp);
+            }
+        };
+        sut.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    /**
+     * 컨트롤러 + 템플릿 대신: 태그를 남기고(인터셉터가 하는 일) HTML 을 쓴다.
+     */
+    private void render(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        request.setAttribute(PageCacheFilter.TAGS_ATTRIBUTE, Set.of(PageCacheTags.ARTICLE_LIST));
+        response.setContentType("text/html;charset=UTF-8");
+        response.getWriter().write("<html>" + renders.incrementAndGet() + "</html>");
+    }
+}
@@ -0,0 +1,78 @@
+package com.yoon.projectboard.pagecache;
+
+import com.yoon.projectboard.dto.HashtagDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("페이지 캐시")
+class PageCacheTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private final PageCache sut = new PageCache(Duration.ofSeconds(30), Duration.ofMinutes(2), 100, new SimpleMeterRegistry());
+
+    @DisplayName("태그를 무효화하면, 그 태그가 붙은 페이지만 신선하지 않게 되고 stale 기간 동안은 남아 있다.")
+    @Test
+    void givenTaggedPages_whenPurgingTag_thenOnlyTaggedPagesBecomeStale() {
+        //given
+        sut.put("/articles/1", body("1"), "text/html", Set.of(PageCacheTags.article(1L)), NOW, NOW);
+        sut.put("/articles/2", body("2"), "text/html", Set.of(PageCacheTags.article(2L)), NOW, NOW);
+
+        //when
+        int purged = sut.purge(Set.of(PageCacheTags.article(1L)), NOW + 1);
+
+        //then
+        assertThat(purged).isEqualTo(1);
+        assertThat(sut.get("/articles/1").isFresh(NOW + 1)).isFalse();
+        assertThat(sut.get("/articles/1").isServable(NOW + 1)).isTrue();
+        assertThat(sut.get("/articles/2").isFresh(NOW + 1)).isTrue();
+    }
+
+    @DisplayName("렌더링하는 사이에 태그가 무효화되었으면, 렌더링한 페이지를 신선하지 않은 상태로 넣는다.")
+    @Test
+    void givenTagPurgedWhileRendering_whenPutting_thenStoresStalePage() {
+        //given
+        long renderStartedAt = NOW;
+        sut.purge(Set.of(PageCacheTags.ARTICLE_LIST), NOW + 10);
+
+        //when
+        sut.put("/articles", body("list"), "text/html", Set.of(PageCacheTags.ARTICLE_LIST), renderStartedAt, NOW + 20);
+
+        //then
+        assertThat(sut.get("/articles").isFresh(NOW + 20)).isFalse();
+    }
+
+    @DisplayName("게시글 해시태그를 바꾸면, 그 게시글과 추가/삭제된 해시태그의 검색 페이지만 무효화한다.")
+    @Test
+    void givenUpdatedArticle_whenBuildingTags_thenContainsOnlyChangedHashtags() {
+        //given
+        ArticleEvent event = new ArticleEvent(
+                ArticleEvent.EventType.UPDATED, 1L, null, "title", "content",
+                Set.of(HashtagDto.of("java"), HashtagDto.of("spring")),
+                Set.of(HashtagDto.of("java"), HashtagDto.of("legacy"))
+        );
+
+        //when
+        Set<String> tags = PageCacheTags.of(event);
+
+        //then
+        assertThat(tags).containsExactlyInAnyOrder(
+                PageCacheTags.article(1L),
+                PageCacheTags.ARTICLE_SEARCH,
+                PageCacheTags.hashtag("spring"),
+                PageCacheTags.hashtag("legacy"),
+                PageCacheTags.HASHTAG_LIST
+        );
+    }
+
+    private static byte[] body(String content) {
+        return content.getBytes();
+    }
+}
@@ -4,6 +4,8 @@ import com.yoon.projectboard.domain.Article;
 import com.yoon.projectboard.domain.ArticleComment;
 import com.yoon.projectboard.domain.Hashtag;
 import com.yoon.projectboard.domain.UserAccount;
+import com.yoon.projectboard.dto.ArticleSummaryDto;
+import com.yoon.projectboard.dto.ArticleVersionDto;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,11 +15,12 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.AuditorAware;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -189,30 +192,98 @@ class JpaRepositoryTest {
         assertThat(hashtagNames).hasSize(19);
     }
 
-    @DisplayName("[Querydsl] hashtag로 페이징된 게시글 검색하기")
+    @DisplayName("[Querydsl] 목록용 컬럼과 해시태그만 조회하기")
     @Test
-    void givenHashtagNamesAndPageable_whenQueryingArticles_thenReturnsArticleView() {
+    void givenPageable_whenQueryingSummaries_thenReturnsListingColumnsWithHashtags() {
         //given
-        List<String> hashtagNames = List.of("blue", "crimson", "fuscia");
-        PageRequest pageable = PageRequest.of(0, 5, Sort.by(
-                Sort.Order.desc("hashtags.hashtagName"),
-                Sort.Order.asc("title")
-        ));
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt")));
 
         //when
-        Page<Article> articlePage = articleRepository.findByHashtagNames(hashtagNames, pageable);
+        Slice<ArticleSummaryDto> summaries = articleRepository.findSummaries(null, pageable);
 
         //then
-        assertThat(articlePage.getContent()).hasSize(pageable.getPageSize());
-        assertThat(articlePage.getContent().get(0).getTitle()).isEqualTo("Fusce posuere felis sed lacus.");
-        assertThat(articlePage.getContent().get(0).getHashtags())
-                .extracting("hashtagName", String.class)
-                .containsExactly("fuscia");
-        assertThat(articlePage.getTotalElements()).isEqualTo(17);
-        assertThat(articlePage.getTotalPages()).isEqualTo(4);
+        assertThat(summaries.getContent()).hasSize(pageable.getPageSize());
+        assertThat(summaries.hasNext()).isTrue();
+        assertThat(summaries.getContent())
+                .allSatisfy(summary -> {
+                    assertThat(summary.excerpt()).hasSizeLessThanOrEqualTo(Article.EXCERPT_LENGTH);
+                    assertThat(summary.userId()).isNotBlank();
+                    assertThat(summary.hashtagNames())
+                            .containsExactlyInAnyOrderElementsOf(articleRepository.getReferenceById(summary.id()).getHashtags().stream()
+                                    .map(Hashtag::getHashtagName)
+                                    .toList());
+                });
+    }
+
+    @DisplayName("[Querydsl] 게시글 버전은 게시글/댓글 수정일시, 댓글 수와 조회수만 집계한다")
+    @Test
+    void givenArticleWithComments_whenQueryingVersion_thenAggregatesModifiedAtAndCommentCount() {
+        //given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        List<ArticleComment> articleComments = articleCommentRepository.findByArticle_Id(article.getId());
+
+        //when
+        ArticleVersionDto version = articleRepository.findVersionById(article.getId()).orElseThrow();
+
+        //then
+        assertThat(version.articleModifiedAt()).isEqualTo(article.getModifiedAt());
+        assertThat(version.commentCount()).isEqualTo(articleComments.size());
+        assertThat(version.views()).isEqualTo(article.getViews());
+        assertThat(version.latestCommentModifiedAt()).isEqualTo(articleComments.stream()
+                .map(ArticleComment::getModifiedAt)
+                .max(Comparator.naturalOrder())
+                .orElse(null));
+        assertThat(articleRepository.findVersionById(0L)).isEmpty();
     }
 
     @EnableJpaAuditing
+    @DisplayName("게시글이 없는 해시태그만 한 번에 삭제하기")
+    @Test
+    void givenOrphanAndUsedHashtags_whenDeletingWithoutArticles_thenDeletesOnlyOrphans() {
+        //given
+        Hashtag orphan = hashtagRepository.saveAndFlush(Hashtag.of("orphan"));
+        Hashtag used = articleRepository.getReferenceById(1L).getHashtags().iterator().next();
+
+        //when
+        int deleted = hashtagRepository.deleteWithoutArticlesByIdIn(List.of(orphan.getId(), used.getId()));
+
+        //then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(hashtagRepository.findByHashtagName("orphan")).isEmpty();
+        assertThat(hashtagRepository.findByHashtagName(used.getHashtagName())).isPresent();
+    }
+
+    @DisplayName("해시태그 이름들로 조회하면, 이미 읽은 해시태그와 처음 찾는 해시태그를 함께 반환하고 없는 이름은 뺀다")
+    @Test
+    void givenCachedAndUncachedNames_whenFindingByNaturalIds_thenReturnsExistingHashtags() {
+        //given
+        Hashtag cached = hashtagRepository.findByNaturalId("blue").orElseThrow();
+
+        //when
+        Set<Hashtag> hashtags = hashtagRepository.findAllByNaturalIdIn(List.of("blue", "crimson", "없는 해시태그"));
+
+        //then
+        assertThat(hashtags)
+                .extracting(Hashtag::getHashtagName)
+                .containsExactlyInAnyOrder("blue", "crimson");
+        assertThat(hashtags).contains(cached);
+    }
+
+    @DisplayName("해시태그 게시글 수는 article_hashtag 행 수와 같다")
+    @Test
+    void givenTestData_whenReadingHashtagArticleCount_thenMatchesLinkedArticles() {
+        //given
+        Hashtag hashtag = articleRepository.getReferenceById(1L).getHashtags().iterator().next();
+
+        //when
+        long articleCount = hashtag.getArticleCount();
+
+        //then
+        assertThat(articleCount)
+                .isPositive()
+                .isEqualTo(hashtag.getArticles().size());
+    }
+
     @TestConfiguration
     public static class TestJpaConfig {
         @Bean
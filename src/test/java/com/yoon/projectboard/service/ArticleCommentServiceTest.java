@@ -6,6 +6,7 @@ import com.yoon.projectboard.domain.Hashtag;
 import com.yoon.projectboard.domain.UserAccount;
 import com.yoon.projectboard.dto.ArticleCommentDto;
 import com.yoon.projectboard.dto.UserAccountDto;
+import com.yoon.projectboard.dto.event.ArticleCommentEvent;
 import com.yoon.projectboard.repository.ArticleCommentRepository;
 import com.yoon.projectboard.repository.ArticleRepository;
 import com.yoon.projectboard.repository.UserAccountRepository;
@@ -16,11 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,6 +43,8 @@ class ArticleCommentServiceTest {
     private ArticleCommentRepository articleCommentRepository;
     @Mock
     private UserAccountRepository userAccountRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -84,6 +89,7 @@ class ArticleCommentServiceTest {
         then(userAccountRepository).should().getReferenceById(articleCommentDto.userAccountDto().userId());
         then(articleCommentRepository).should(never()).getReferenceById(anyLong());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.created(articleCommentDto.articleId()));
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안한다.")
@@ -100,6 +106,7 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(articleCommentDto.articleId());
         then(userAccountRepository).shouldHaveNoInteractions();
         then(articleCommentRepository).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("부모 댓글 ID와 댓글 정보를 입력하면, 대댓글을 저장한다.")
@@ -166,6 +173,7 @@ class ArticleCommentServiceTest {
         //given
         Long articleCommentId = 1L;
         String userId = "yoon";
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(createArticleComment(articleCommentId, "content")));
         willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
 
         //when
@@ -173,6 +181,7 @@ class ArticleCommentServiceTest {
 
         //then
         then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.changed(1L));
     }
 
     private ArticleCommentDto createArticleCommentDto(String comment) {
@@ -0,0 +1,99 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.config.ArticleNeighborConfig.ArticleNeighborProperties;
+import com.yoon.projectboard.dto.ArticleNeighborsDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 이전/다음 게시글")
+@ExtendWith(MockitoExtension.class)
+class ArticleNeighborServiceTest {
+
+    private ArticleNeighborService sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleNeighborService(articleRepository, new ArticleNeighborProperties(100, Duration.ofMinutes(10)));
+    }
+
+    @DisplayName("게시글 ID를 주면, 실제로 존재하는 이전/다음 게시글 ID를 반환한다.")
+    @Test
+    void givenArticleId_whenSearchingNeighbors_thenReturnsNearestExistingIds() {
+        //given
+        given(articleRepository.findPreviousId(5L)).willReturn(Optional.of(2L));
+        given(articleRepository.findNextId(5L)).willReturn(Optional.empty());
+
+        //when
+        ArticleNeighborsDto actual = sut.getNeighbors(5L);
+
+        //then
+        assertThat(actual).isEqualTo(ArticleNeighborsDto.of(5L, 2L, null));
+    }
+
+    @DisplayName("같은 게시글을 다시 조회하면, 캐시된 이웃을 반환한다.")
+    @Test
+    void givenCachedNeighbors_whenSearchingAgain_thenDoesNotQuery() {
+        //given
+        given(articleRepository.findPreviousId(5L)).willReturn(Optional.of(4L));
+        given(articleRepository.findNextId(5L)).willReturn(Optional.of(6L));
+        sut.getNeighbors(5L);
+
+        //when
+        sut.getNeighbors(5L);
+
+        //then
+        then(articleRepository).should(times(1)).findPreviousId(5L);
+        then(articleRepository).should(times(1)).findNextId(5L);
+    }
+
+    @DisplayName("이웃 게시글이 삭제되면, 해당 캐시만 무효화한다.")
+    @Test
+    void givenDeletedNeighbor_whenSearchingAgain_thenReloadsOnlyAffectedEntries() {
+        //given
+        given(articleRepository.findPreviousId(5L)).willReturn(Optional.of(4L), Optional.of(3L));
+        given(articleRepository.findNextId(5L)).willReturn(Optional.of(6L));
+        given(articleRepository.findPreviousId(10L)).willReturn(Optional.of(9L));
+        given(articleRepository.findNextId(10L)).willReturn(Optional.empty());
+        sut.getNeighbors(5L);
+        sut.getNeighbors(10L);
+
+        //when
+        sut.onArticleEvent(ArticleEvent.deleted(4L, Set.of()));
+        ArticleNeighborsDto actual = sut.getNeighbors(5L);
+        sut.getNeighbors(10L);
+
+        //then
+        assertThat(actual).isEqualTo(ArticleNeighborsDto.of(5L, 3L, 6L));
+        then(articleRepository).should(times(2)).findPreviousId(5L);
+        then(articleRepository).should(times(1)).findPreviousId(10L);
+    }
+
+    @DisplayName("이웃 정보는 사이에 새 게시글이 생기면 영향을 받는다.")
+    @Test
+    void givenNewArticleBetweenNeighbors_whenCheckingAffected_thenReturnsTrue() {
+        //given
+        ArticleNeighborsDto neighbors = ArticleNeighborsDto.of(10L, 7L, null);
+
+        //when & then
+        assertThat(neighbors.isAffectedBy(11L)).isTrue();
+        assertThat(neighbors.isAffectedBy(8L)).isTrue();
+        assertThat(neighbors.isAffectedBy(7L)).isTrue();
+        assertThat(neighbors.isAffectedBy(6L)).isFalse();
+    }
+}
@@ -1,34 +1,57 @@
 package com.yoon.projectboard.service;
 
+import com.querydsl.core.types.Predicate;
+import com.yoon.projectboard.config.SingleFlightConfig.SingleFlightProperties;
 import com.yoon.projectboard.domain.Article;
 import com.yoon.projectboard.domain.Hashtag;
 import com.yoon.projectboard.domain.UserAccount;
 import com.yoon.projectboard.domain.constant.SearchType;
+import com.yoon.projectboard.dto.ArticleCursor;
 import com.yoon.projectboard.dto.ArticleDto;
+import com.yoon.projectboard.dto.ArticleSummaryDto;
+import com.yoon.projectboard.dto.ArticleVersionDto;
 import com.yoon.projectboard.dto.ArticleWithCommentsDto;
 import com.yoon.projectboard.dto.HashtagDto;
 import com.yoon.projectboard.dto.UserAccountDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.ArticleCommentRepository;
 import com.yoon.projectboard.repository.ArticleRepository;
 import com.yoon.projectboard.repository.HashtagRepository;
 import com.yoon.projectboard.repository.UserAccountRepository;
+import com.yoon.projectboard.service.search.ArticleOrderIndex;
+import com.yoon.projectboard.service.search.ArticleSearchIndex;
+import com.yoon.projectboard.service.search.HashtagAutocomplete;
+import com.yoon.projectboard.service.search.HashtagBitmapIndex;
+import com.yoon.projectboard.service.trending.TrendingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
@@ -47,23 +70,143 @@ class ArticleServiceTest {
     @Mock
     private ArticleRepository articleRepository;
     @Mock
+    private ArticleCommentRepository articleCommentRepository;
+    @Mock
     private UserAccountRepository userAccountRepository;
     @Mock
     private HashtagRepository hashtagRepository;
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+    @Mock
+    private ArticleOrderIndex articleOrderIndex;
+    @Mock
+    private HashtagBitmapIndex hashtagBitmapIndex;
+    @Mock
+    private HashtagAutocomplete hashtagAutocomplete;
+    @Mock
+    private PageCountService pageCountService;
+    @Mock
+    private ArticleNeighborService articleNeighborService;
+    @Mock
+    private ViewCountService viewCountService;
+    @Mock
+    private TrendingService trendingService;
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(
+            new SingleFlightProperties(true, Duration.ofSeconds(1)), TransactionOperations.withoutTransaction(), new SimpleMeterRegistry()
+    );
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
         //given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        Slice<Article> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSliceBy(pageable)).willReturn(slice);
+        given(pageCountService.toPage(eq(slice), isNull(), isNull(), any())).willReturn(Page.empty());
 
         //when
         Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
 
         //then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findSliceBy(pageable);
+        then(articleRepository).should(never()).findAll(pageable);
+        then(pageCountService).should().toPage(eq(slice), isNull(), isNull(), any());
+    }
+
+    @DisplayName("검색어 없이 목록용 게시글을 검색하면, 목록 컬럼만 조회한 게시글 페이지를 반환한다.")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticleSummaries_thenReturnsSummaryPage() {
+        //given
+        Pageable pageable = Pageable.ofSize(20);
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSummaries(null, pageable)).willReturn(slice);
+        given(pageCountService.toPage(eq(slice), isNull(), isNull(), any())).willReturn(Page.empty());
+
+        //when
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(null, null, pageable);
+
+        //then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummaries(null, pageable);
+        then(articleRepository).should(never()).findSliceBy(any(Pageable.class));
+    }
+
+    @DisplayName("인기 게시글을 조회하면, 메모리 순위대로 목록용 게시글을 반환한다.")
+    @Test
+    void givenTrendingArticleIds_whenGettingHotArticles_thenReturnsSummariesInRankOrder() {
+        //given
+        given(trendingService.maxSize()).willReturn(100);
+        given(trendingService.topArticleIds(10)).willReturn(List.of(3L, 1L, 2L));
+        given(articleRepository.findSummaries(any(), eq(PageRequest.of(0, 3)))).willReturn(new SliceImpl<>(List.of(
+                createArticleSummaryDto(1L),
+                createArticleSummaryDto(2L),
+                createArticleSummaryDto(3L)
+        )));
+
+        //when
+        Page<ArticleSummaryDto> articles = sut.getHotArticles(10);
+
+        //then
+        assertThat(articles).extracting(ArticleSummaryDto::id).containsExactly(3L, 1L, 2L);
+        then(articleRepository).should(never()).count();
+    }
+
+    @DisplayName("인기 게시글이 아직 없으면, DB 조회 없이 빈 페이지를 반환한다.")
+    @Test
+    void givenNoTrendingArticles_whenGettingHotArticles_thenReturnsEmptyPage() {
+        //given
+        given(trendingService.maxSize()).willReturn(100);
+        given(trendingService.topArticleIds(10)).willReturn(List.of());
+
+        //when
+        Page<ArticleSummaryDto> articles = sut.getHotArticles(10);
+
+        //then
+        assertThat(articles).isEmpty();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("인기 게시글을 범위 밖의 개수로 조회하면, 1개 이상 상위 유지 개수 이하로 맞춰 조회한다.")
+    @Test
+    void givenOutOfRangeSize_whenGettingHotArticles_thenClampsSize() {
+        //given
+        given(trendingService.maxSize()).willReturn(100);
+        given(trendingService.topArticleIds(anyInt())).willReturn(List.of());
+
+        //when
+        Page<ArticleSummaryDto> tooSmall = sut.getHotArticles(0);
+        Page<ArticleSummaryDto> tooLarge = sut.getHotArticles(1000);
+
+        //then
+        assertThat(tooSmall.getSize()).isEqualTo(1);
+        assertThat(tooLarge.getSize()).isEqualTo(100);
+        then(trendingService).should().topArticleIds(1);
+        then(trendingService).should().topArticleIds(100);
+    }
+
+    @DisplayName("해시태그로 정렬해 목록용 게시글을 검색하면, 엔티티 조회로 처리한다.")
+    @Test
+    void givenHashtagSort_whenSearchingArticleSummaries_thenFallsBackToEntityQuery() {
+        //given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Order.asc("hashtags")));
+        Slice<Article> slice = new SliceImpl<>(List.of(createArticle()), pageable, false);
+        given(articleRepository.findSliceBy(pageable)).willReturn(slice);
+        given(pageCountService.toPage(eq(slice), isNull(), isNull(), any())).willReturn(new PageImpl<>(slice.getContent(), pageable, 1));
+
+        //when
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(null, null, pageable);
+
+        //then
+        assertThat(articles.getContent())
+                .hasSize(1)
+                .first()
+                .hasFieldOrPropertyWithValue("title", "title")
+                .hasFieldOrPropertyWithValue("hashtagNames", Set.of("java", "spring"));
+        then(articleRepository).should(never()).findSummaries(any(), any());
     }
 
     @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 페이지를 반환한다.")
@@ -73,14 +216,160 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String keyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(keyword, pageable)).willReturn(Page.empty());
+        Slice<Article> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleSearchIndex.searchTitle(keyword)).willReturn(Optional.empty());
+        given(articleRepository.findSliceByTitleContaining(keyword, pageable)).willReturn(slice);
+        given(pageCountService.toPage(eq(slice), eq(searchType), eq(keyword), any())).willReturn(Page.empty());
 
         //when
         Page<ArticleDto> articles = sut.searchArticles(searchType, keyword, pageable);
 
         //then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(keyword, pageable);
+        then(articleRepository).should().findSliceByTitleContaining(keyword, pageable);
+        then(pageCountService).should().toPage(eq(slice), eq(searchType), eq(keyword), any());
+    }
+
+    @DisplayName("검색 색인이 준비된 상태에서 본문 검색을 하면, 색인이 찾은 게시글 ID 중 해당 페이지의 ID로만 게시글을 조회한다.")
+    @Test
+    void givenReadySearchIndex_whenSearchingArticlesByContent_thenQueriesOnlyPageOfIndexedIds() {
+        //given
+        SearchType searchType = SearchType.CONTENT;
+        String keyword = "spring boot";
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.desc("createdAt")));
+        List<Long> articleIds = List.of(1L, 2L, 3L);
+        Article article1 = createArticle(1L);
+        Article article3 = createArticle(3L);
+        given(articleSearchIndex.searchContent(keyword)).willReturn(Optional.of(articleIds));
+        given(articleOrderIndex.page(articleIds, pageable)).willReturn(Optional.of(new PageImpl<>(List.of(3L, 1L), pageable, 3)));
+        given(articleRepository.findAllById(List.of(3L, 1L))).willReturn(List.of(article1, article3));
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticles(searchType, keyword, pageable);
+
+        //then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(3L, 1L);
+        assertThat(articles.getTotalElements()).isEqualTo(3);
+        then(articleRepository).should().findAllById(List.of(3L, 1L));
+        then(articleRepository).should(never()).findSliceByContentContaining(any(), any());
+    }
+
+    @DisplayName("검색 색인이 준비된 상태에서 목록 화면용 제목 검색을 하면, 해당 페이지의 ID로만 목록용 컬럼을 조회해 색인이 정한 순서로 반환한다.")
+    @Test
+    void givenReadySearchIndex_whenSearchingArticleSummariesByTitle_thenQueriesOnlyPageOfIndexedIds() {
+        //given
+        String keyword = "게시판";
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Order.desc("createdAt")));
+        List<Long> articleIds = List.of(1L, 2L, 3L, 4L);
+        given(articleSearchIndex.searchTitle(keyword)).willReturn(Optional.of(articleIds));
+        given(articleOrderIndex.page(articleIds, pageable)).willReturn(Optional.of(new PageImpl<>(List.of(2L, 1L), pageable, 4)));
+        given(articleRepository.findSummaries(any(), eq(PageRequest.of(0, 2)))).willReturn(new SliceImpl<>(List.of(
+                createArticleSummaryDto(1L), createArticleSummaryDto(2L)
+        )));
+
+        //when
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(SearchType.TITLE, keyword, pageable);
+
+        //then
+        assertThat(articles.getContent()).extracting(ArticleSummaryDto::id).containsExactly(2L, 1L);
+        assertThat(articles.getTotalElements()).isEqualTo(4);
+        then(pageCountService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("검색 색인이 준비된 상태에서 커서 기반 제목 검색을 하면, 커서 위치와 개수를 메모리에서 적용한 ID로만 목록용 컬럼을 조회한다.")
+    @Test
+    void givenReadySearchIndex_whenSearchingArticleSummariesByCursor_thenQueriesOnlySlicedIds() {
+        //given
+        String keyword = "게시판";
+        ArticleCursor cursor = ArticleCursor.after(LocalDateTime.now(), 5L);
+        List<Long> articleIds = List.of(1L, 2L, 3L, 4L, 5L);
+        Pageable cursorPageable = PageRequest.of(0, 2, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        given(articleSearchIndex.searchTitle(keyword)).willReturn(Optional.of(articleIds));
+        given(articleOrderIndex.slice(articleIds, cursor, 2)).willReturn(Optional.of(new SliceImpl<>(List.of(4L, 3L), cursorPageable, true)));
+        given(articleRepository.findSummaries(any(), eq(PageRequest.of(0, 2)))).willReturn(new SliceImpl<>(List.of(
+                createArticleSummaryDto(3L), createArticleSummaryDto(4L)
+        )));
+
+        //when
+        Slice<ArticleSummaryDto> articles = sut.searchArticleSummaries(SearchType.TITLE, keyword, cursor, 2);
+
+        //then
+        assertThat(articles.getContent()).extracting(ArticleSummaryDto::id).containsExactly(4L, 3L);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should(never()).findSummariesByCursor(any(), any(), anyInt());
+    }
+
+    @DisplayName("검색어 없이 커서 기반 검색을 하면, DB 커서 조회로 목록용 컬럼을 반환한다.")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticleSummariesByCursor_thenQueriesByCursor() {
+        //given
+        ArticleCursor cursor = ArticleCursor.first();
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(createArticleSummaryDto(1L)));
+        given(articleRepository.findSummariesByCursor(null, cursor, 10)).willReturn(slice);
+
+        //when
+        Slice<ArticleSummaryDto> articles = sut.searchArticleSummaries(null, null, cursor, 10);
+
+        //then
+        assertThat(articles).isEqualTo(slice);
+        then(articleOrderIndex).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("커서 기반 검색을 범위 밖의 개수로 하면, 1개 이상 최대 개수 이하로 맞춰 조회한다.")
+    @Test
+    void givenOutOfRangeSize_whenSearchingArticleSummariesByCursor_thenClampsSize() {
+        //given
+        ArticleCursor cursor = ArticleCursor.first();
+        given(articleRepository.findSummariesByCursor(isNull(), eq(cursor), anyInt())).willReturn(new SliceImpl<>(List.of()));
+
+        //when
+        sut.searchArticleSummaries(null, null, cursor, 0);
+        sut.searchArticleSummaries(null, null, cursor, Integer.MAX_VALUE);
+
+        //then
+        then(articleRepository).should().findSummariesByCursor(null, cursor, 1);
+        then(articleRepository).should().findSummariesByCursor(null, cursor, ArticleService.MAX_CURSOR_PAGE_SIZE);
+    }
+
+    @DisplayName("해시태그 검색을 작성일시순으로 하면, 비트맵 결과를 ID 순서가 아닌 작성일시 순서로 정렬해 해당 페이지의 게시글만 조회한다.")
+    @Test
+    void givenCreatedAtSort_whenSearchingArticlesViaHashtag_thenPagesMatchesByCreatedAt() {
+        //given
+        String hashtagName = "java";
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Order.desc("createdAt")));
+        HashtagBitmapIndex.Matches matches = mock(HashtagBitmapIndex.Matches.class);
+        given(matches.allIds()).willReturn(List.of(1L, 2L));
+        given(hashtagBitmapIndex.search(hashtagName)).willReturn(Optional.of(matches));
+        given(articleOrderIndex.page(List.of(1L, 2L), pageable)).willReturn(Optional.of(new PageImpl<>(List.of(1L), pageable, 2)));
+        given(articleRepository.findAllById(List.of(1L))).willReturn(List.of(createArticle(1L)));
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+
+        //then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(1L);
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        then(matches).should(never()).pageIdsDescending(any());
+    }
+
+    @DisplayName("해시태그 검색을 ID 내림차순으로 하면, 비트맵에서 해당 페이지의 ID를 바로 고른다.")
+    @Test
+    void givenIdDescendingSort_whenSearchingArticlesViaHashtag_thenPagesMatchesFromBitmap() {
+        //given
+        String hashtagName = "java";
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Order.desc("id")));
+        HashtagBitmapIndex.Matches matches = mock(HashtagBitmapIndex.Matches.class);
+        given(matches.pageIdsDescending(pageable)).willReturn(List.of(2L));
+        given(matches.count()).willReturn(2L);
+        given(hashtagBitmapIndex.search(hashtagName)).willReturn(Optional.of(matches));
+        given(articleRepository.findAllById(List.of(2L))).willReturn(List.of(createArticle(2L)));
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+
+        //then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(2L);
+        then(articleOrderIndex).shouldHaveNoInteractions();
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
@@ -102,16 +391,18 @@ class ArticleServiceTest {
     @Test
     void givenNonexistentHashtag_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
         //given
-        String hashtagName = "없는 해시태그";
+        String hashtagName = "없는_해시태그";
         Pageable pageable = Pageable.ofSize(30);
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
+        Slice<Article> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSlice(any(Predicate.class), eq(pageable))).willReturn(slice);
+        given(pageCountService.toPage(eq(slice), eq(SearchType.HASHTAG), eq(hashtagName), any())).willReturn(new PageImpl<>(List.of(), pageable, 0));
 
         //when
         Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         //then
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findSlice(any(Predicate.class), eq(pageable));
     }
 
     @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
@@ -121,14 +412,42 @@ class ArticleServiceTest {
         String hashtagName = "java";
         Pageable pageable = Pageable.ofSize(20);
         Article expectedArticle = createArticle();
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
+        Slice<Article> slice = new SliceImpl<>(List.of(expectedArticle), pageable, false);
+        given(articleRepository.findSlice(any(Predicate.class), eq(pageable))).willReturn(slice);
+        given(pageCountService.toPage(eq(slice), eq(SearchType.HASHTAG), eq(hashtagName), any())).willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
 
         //when
         Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         //then
         assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleDto.from(expectedArticle)), pageable, 1));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findSlice(any(Predicate.class), eq(pageable));
+    }
+
+    @DisplayName("해시태그 검색의 전체 개수는, 게시글을 찾은 것과 같은 검색식 조건으로 센다.")
+    @Test
+    void givenHashtag_whenCountingArticlesViaHashtag_thenCountsWithSameConditionAsQuery() {
+        //given
+        String hashtagName = "java -legacy";
+        Pageable pageable = Pageable.ofSize(20);
+        Slice<Article> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSlice(any(Predicate.class), eq(pageable))).willReturn(slice);
+        given(pageCountService.toPage(eq(slice), eq(SearchType.HASHTAG), eq(hashtagName), any())).willAnswer(invocation -> {
+            LongSupplier countQuery = invocation.getArgument(3);
+            return new PageImpl<>(List.of(), pageable, countQuery.getAsLong());
+        });
+        given(articleRepository.count(any(Predicate.class))).willReturn(7L);
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+
+        //then
+        ArgumentCaptor<Predicate> queryCondition = ArgumentCaptor.forClass(Predicate.class);
+        ArgumentCaptor<Predicate> countCondition = ArgumentCaptor.forClass(Predicate.class);
+        then(articleRepository).should().findSlice(queryCondition.capture(), eq(pageable));
+        then(articleRepository).should().count(countCondition.capture());
+        assertThat(countCondition.getValue()).isEqualTo(queryCondition.getValue());
+        assertThat(articles.getTotalElements()).isEqualTo(7L);
     }
 
     @DisplayName("게시글 ID로 조회 하면, 댓글 달린 게시글을 반환한다.")
@@ -137,7 +456,9 @@ class ArticleServiceTest {
         //given
         Long articleId = 1L;
         Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleRepository.findWithUserAccountAndHashtagsById(articleId)).willReturn(Optional.of(article));
+        given(articleCommentRepository.findWithUserAccountByArticle_IdOrderByCreatedAtDesc(articleId)).willReturn(List.of());
+        given(viewCountService.pendingViews(articleId)).willReturn(3L);
 
         //when
         ArticleWithCommentsDto articleWithCommentsDto = sut.getArticleWithComments(articleId);
@@ -150,7 +471,11 @@ class ArticleServiceTest {
                         .map(HashtagDto::from)
                         .collect(Collectors.toUnmodifiableSet())
                 );
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithUserAccountAndHashtagsById(articleId);
+        then(articleCommentRepository).should().findWithUserAccountByArticle_IdOrderByCreatedAtDesc(articleId);
+        then(viewCountService).should().recordView(articleId);
+        then(trendingService).should().recordView(articleId);
+        assertThat(articleWithCommentsDto.views()).isEqualTo(article.getViews() + 3L);
     }
 
     @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다")
@@ -158,7 +483,7 @@ class ArticleServiceTest {
     void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
         //given
         Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        given(articleRepository.findWithUserAccountAndHashtagsById(articleId)).willReturn(Optional.empty());
 
         //when
         Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
@@ -167,7 +492,29 @@ class ArticleServiceTest {
         assertThat(t)
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("게시글이 없습니다 - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithUserAccountAndHashtagsById(articleId);
+        then(articleCommentRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글 버전을 조회하면, 엔티티를 읽지 않고 게시글과 댓글 중 가장 늦은 수정일시를 반환한다.")
+    @Test
+    void givenArticleId_whenGettingArticleVersion_thenReturnsLatestModifiedAtWithoutLoadingEntities() {
+        //given
+        Long articleId = 1L;
+        LocalDateTime articleModifiedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime commentModifiedAt = articleModifiedAt.plusMinutes(5);
+        given(articleRepository.findVersionById(articleId))
+                .willReturn(Optional.of(ArticleVersionDto.of(articleId, articleModifiedAt, commentModifiedAt, 2L, 0L)));
+
+        //when
+        Optional<ArticleVersionDto> version = sut.getArticleVersion(articleId);
+
+        //then
+        assertThat(version).hasValueSatisfying(it ->
+                assertThat(it.lastModified()).isEqualTo(ArticleVersionDto.toEpochMilli(commentModifiedAt)));
+        then(articleRepository).should().findVersionById(articleId);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+        then(articleCommentRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
@@ -232,6 +579,8 @@ class ArticleServiceTest {
         then(hashtagService).should().parseHashtagNames(articleDto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
         then(articleRepository).should().save(any(Article.class));
+        then(hashtagService).should().increaseArticleCount(Set.of(1L));
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
     @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
@@ -246,7 +595,6 @@ class ArticleServiceTest {
         given(articleRepository.getReferenceById(articleDto.id())).willReturn(article);
         given(userAccountRepository.getReferenceById(articleDto.userAccountDto().userId())).willReturn(articleDto.userAccountDto().toEntity());
         willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
         given(hashtagService.parseHashtagNames(articleDto.content())).willReturn(expectedHashtagNames);
         given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
 
@@ -264,11 +612,44 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(articleDto.id());
         then(userAccountRepository).should().getReferenceById(articleDto.userAccountDto().userId());
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().decreaseArticleCount(Set.of(1L, 2L));
+        then(hashtagService).should(never()).deleteHashtagsWithoutArticles(any());
         then(hashtagService).should().parseHashtagNames(articleDto.content());
         then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
     }
 
+    @DisplayName("게시글 수정 시 해시태그 일부만 바뀌면, 바뀐 해시태그만 붙이고 떼며 떨어진 해시태그만 정리한다.")
+    @Test
+    void givenPartiallyChangedHashtags_whenUpdatingArticle_thenReconcilesOnlyChangedHashtags() {
+        //given
+        Article article = createArticle();
+        Hashtag java = article.getHashtags().stream()
+                .filter(hashtag -> hashtag.getHashtagName().equals("java"))
+                .findFirst()
+                .orElseThrow();
+        ArticleDto articleDto = createArticleDto("title", "#java #jpa");
+        Set<String> hashtagNames = Set.of("java", "jpa");
+        Set<Hashtag> foundHashtags = new HashSet<>(Set.of(createHashtag(3L, "jpa")));
+
+        given(articleRepository.getReferenceById(articleDto.id())).willReturn(article);
+        given(userAccountRepository.getReferenceById(articleDto.userAccountDto().userId())).willReturn(articleDto.userAccountDto().toEntity());
+        given(hashtagService.parseHashtagNames(articleDto.content())).willReturn(hashtagNames);
+        given(hashtagService.findHashtagsByNames(Set.of("jpa"))).willReturn(foundHashtags);
+
+        //when
+        sut.updateArticle(articleDto.id(), articleDto);
+
+        //then
+        assertThat(article.getHashtags())
+                .extracting("hashtagName")
+                .containsExactlyInAnyOrder("java", "jpa");
+        assertThat(article.getHashtags()).contains(java);
+        then(hashtagService).should().findHashtagsByNames(Set.of("jpa"));
+        then(hashtagService).should().increaseArticleCount(Set.of(3L));
+        then(hashtagService).should().decreaseArticleCount(Set.of(2L));
+        then(articleRepository).should().flush();
+    }
+
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
     @Test
     void givenNonexistentArticleInfo_whenUpdatingArticle_thenLogsWarningAndDoesNothing() {
@@ -311,12 +692,11 @@ class ArticleServiceTest {
     void givenArticleId_whenDeletingArticle_thenDeletesArticle() {
         //given
         Long articleId = 1L;
-        String userId = "yoon";
+        String userId = "yoontest";
 
         given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
         willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
         willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
 
         //when
         sut.deleteArticle(1L, userId);
@@ -325,22 +705,28 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().decreaseArticleCount(Set.of(1L, 2L));
+        then(hashtagService).should(never()).deleteHashtagsWithoutArticles(any());
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
-    @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다.")
+    @DisplayName("작성자가 아닌 사용자가 게시글 삭제를 시도하면, 해시태그와 게시글 수를 건드리지 않고 아무것도 안한다.")
     @Test
-    void givenNothing_whenCountingArticle_thenReturnsArticleCount() {
+    void givenDifferentUser_whenDeletingArticle_thenDoesNothing() {
         //given
-        Long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        Long articleId = 1L;
+        Article article = createArticle();
+        given(articleRepository.getReferenceById(articleId)).willReturn(article);
 
         //when
-        Long actual = sut.getArticleCount();
+        sut.deleteArticle(articleId, "another-user");
 
         //then
-        assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        assertThat(article.getHashtags()).hasSize(2);
+        then(articleRepository).should(never()).deleteByIdAndUserAccount_UserId(any(), any());
+        then(articleRepository).should(never()).flush();
+        then(hashtagService).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다.")
@@ -359,6 +745,21 @@ class ArticleServiceTest {
         then(hashtagRepository).should().findAllHashtagNames();
     }
 
+    @DisplayName("자동 완성 트라이가 준비되어 있으면, DB 조회 없이 해시태그 리스트를 반환한다.")
+    @Test
+    void givenReadyAutocomplete_whenSearchingHashtag_thenReturnsHashtagsFromMemory() {
+        //given
+        List<String> expectedHashtags = List.of("java", "spring", "boot");
+        given(hashtagAutocomplete.allNames()).willReturn(Optional.of(expectedHashtags));
+
+        //when
+        List<String> actualHashtag = sut.getHashtag();
+
+        //then
+        assertThat(actualHashtag).isEqualTo(expectedHashtags);
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
     private Article createArticle() {
         return createArticle(1L);
     }
@@ -378,6 +779,10 @@ class ArticleServiceTest {
         return article;
     }
 
+    private ArticleSummaryDto createArticleSummaryDto(Long articleId) {
+        return ArticleSummaryDto.of(articleId, "title", "excerpt", Set.of(), LocalDateTime.now(), "yoon", "yoon@mail.com", "Yoon");
+    }
+
     private Hashtag createHashtag(String hashtagName) {
         return createHashtag(1L, hashtagName);
     }
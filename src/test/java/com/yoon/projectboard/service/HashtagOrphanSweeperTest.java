@@ -0,0 +1,63 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 게시글 없는 해시태그 정리")
+@ExtendWith(MockitoExtension.class)
+class HashtagOrphanSweeperTest {
+
+    @InjectMocks
+    private HashtagOrphanSweeper sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+    @Mock
+    private HashtagService hashtagService;
+
+    @DisplayName("게시글 수가 0인 해시태그가 배치보다 많으면, 배치 단위로 이어서 삭제한다.")
+    @Test
+    void givenOrphansMoreThanBatch_whenSweeping_thenDeletesBatchByBatch() {
+        //given
+        int batchSize = HashtagOrphanSweeper.BATCH_SIZE;
+        List<Long> firstBatch = LongStream.rangeClosed(1, batchSize).boxed().toList();
+        List<Long> secondBatch = List.of(batchSize + 10L, batchSize + 20L);
+        given(hashtagRepository.findOrphanIds(0L, batchSize)).willReturn(firstBatch);
+        given(hashtagRepository.findOrphanIds((long) batchSize, batchSize)).willReturn(secondBatch);
+        given(hashtagService.deleteHashtagsWithoutArticles(firstBatch)).willReturn(batchSize);
+        given(hashtagService.deleteHashtagsWithoutArticles(secondBatch)).willReturn(2);
+
+        //when
+        sut.sweep();
+
+        //then
+        then(hashtagService).should().deleteHashtagsWithoutArticles(firstBatch);
+        then(hashtagService).should().deleteHashtagsWithoutArticles(secondBatch);
+        then(hashtagRepository).should(times(2)).findOrphanIds(anyLong(), anyInt());
+    }
+
+    @DisplayName("게시글 수가 0인 해시태그가 없으면, 아무 것도 지우지 않는다.")
+    @Test
+    void givenNoOrphans_whenSweeping_thenDeletesNothing() {
+        //given
+        given(hashtagRepository.findOrphanIds(0L, HashtagOrphanSweeper.BATCH_SIZE)).willReturn(List.of());
+
+        //when
+        sut.sweep();
+
+        //then
+        then(hashtagService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,52 @@
+package com.yoon.projectboard.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("해시태그 파서")
+class HashtagParserTest {
+
+    @DisplayName("최대 길이보다 긴 해시태그는, 잘라 쓰지 않고 버린다.")
+    @Test
+    void givenTooLongHashtag_whenParsing_thenSkipsIt() {
+        //given
+        String maxLength = "a".repeat(HashtagParser.MAX_HASHTAG_LENGTH);
+        String tooLong = "b".repeat(HashtagParser.MAX_HASHTAG_LENGTH + 1);
+
+        //when
+        Set<String> actual = HashtagParser.parse("#" + maxLength + " #" + tooLong + " #java");
+
+        //then
+        assertThat(actual).containsExactlyInAnyOrder(maxLength, "java");
+    }
+
+    @DisplayName("한글 음절 전체 범위와 자모도, 해시태그 문자로 읽는다.")
+    @Test
+    void givenHangulBoundaries_whenParsing_thenReadsWholeHangulRange() {
+        //given
+        String content = "#힣힙 #가나 #ㅋㅋ #한글ー끝";
+
+        //when
+        Set<String> actual = HashtagParser.parse(content);
+
+        //then
+        assertThat(actual).containsExactlyInAnyOrder("힣힙", "가나", "ㅋㅋ", "한글");
+    }
+
+    @DisplayName("해시태그가 없으면, 빈 불변 집합을 반환한다.")
+    @Test
+    void givenNoHashtags_whenParsing_thenReturnsEmptySet() {
+        //given
+        String content = "해시태그 없는 본문 # 입니다";
+
+        //when
+        Set<String> actual = HashtagParser.parse(content);
+
+        //then
+        assertThat(actual).isEmpty();
+    }
+}
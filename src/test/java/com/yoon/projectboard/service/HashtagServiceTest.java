@@ -12,7 +12,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -93,7 +92,7 @@ class HashtagServiceTest {
     void givenHashtagNames_whenFindingHashtags_thenReturnsHashtagSet() {
         //given
         Set<String> hashtagNames = Set.of("java", "spring", "boots");
-        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(
+        given(hashtagRepository.findAllByNaturalIdIn(hashtagNames)).willReturn(Set.of(
                 Hashtag.of("spring"),
                 Hashtag.of("java")
         ));
@@ -103,6 +102,31 @@ class HashtagServiceTest {
 
         //then
         assertThat(hashtags).hasSize(2);
-        then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
+        then(hashtagRepository).should().findAllByNaturalIdIn(hashtagNames);
     }
-}
\ No newline at end of file
+
+    @DisplayName("해시태그를 게시글에 붙이면, 해시태그의 게시글 수를 DB에서 바로 하나 올린다.")
+    @Test
+    void givenHashtagIds_whenIncreasingArticleCount_thenAddsOneInDatabase() {
+        //given
+        Set<Long> hashtagIds = Set.of(1L, 2L);
+
+        //when
+        sut.increaseArticleCount(hashtagIds);
+
+        //then
+        then(hashtagRepository).should().addArticleCount(hashtagIds, 1);
+    }
+
+    @DisplayName("뗀 해시태그가 없으면, 게시글 수를 갱신하지 않는다.")
+    @Test
+    void givenNoHashtagIds_whenDecreasingArticleCount_thenDoesNothing() {
+        //given
+
+        //when
+        sut.decreaseArticleCount(Set.of());
+
+        //then
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,118 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.dto.UserAccountDto;
+import com.yoon.projectboard.dto.security.BoardPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비지니스 로직 - OAuth 계정")
+@ExtendWith(MockitoExtension.class)
+class OAuthAccountServiceTest {
+
+    @InjectMocks
+    private OAuthAccountService sut;
+
+    @Mock
+    private UserAccountService userAccountService;
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @DisplayName("이미 가입한 사용자가 로그인하면, 더미 패스워드를 만들지 않고 캐시한 인증 주체를 반환한다.")
+    @Test
+    void givenExistentUser_whenProvisioning_thenReturnsPrincipalWithoutHashing() {
+        //given
+        String username = "kakao_1234";
+        BoardPrincipal principal = BoardPrincipal.from(createUserAccountDto(username));
+        given(principalCache.get(username)).willReturn(Optional.of(principal));
+
+        //when
+        BoardPrincipal result = sut.provision(username, "yoon@mail.com", "Yoon");
+
+        //then
+        assertThat(result).isEqualTo(principal);
+        then(passwordEncoder).shouldHaveNoInteractions();
+        then(userAccountService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("처음 로그인한 사용자면, 더미 패스워드로 계정을 만들고 인증 주체를 반환한다.")
+    @Test
+    void givenNewUser_whenProvisioning_thenCreatesUserAccount() {
+        //given
+        String username = "kakao_1234";
+        given(principalCache.get(username)).willReturn(Optional.empty());
+        given(passwordEncoder.encode(anyString())).willReturn("{bcrypt}dummy");
+        given(userAccountService.createUser(username, "{bcrypt}dummy", "yoon@mail.com", "Yoon", null))
+                .willReturn(createUserAccountDto(username));
+
+        //when
+        BoardPrincipal result = sut.provision(username, "yoon@mail.com", "Yoon");
+
+        //then
+        assertThat(result).hasFieldOrPropertyWithValue("username", username);
+        then(userAccountService).should().createUser(username, "{bcrypt}dummy", "yoon@mail.com", "Yoon", null);
+    }
+
+    @DisplayName("같은 사용자의 첫 로그인이 동시에 들어와 먼저 가입되었으면, 먼저 저장된 계정의 인증 주체를 반환한다.")
+    @Test
+    void givenConcurrentSignUp_whenProvisioning_thenReturnsSignedUpPrincipal() {
+        //given
+        String username = "kakao_1234";
+        given(principalCache.get(username)).willReturn(Optional.empty());
+        given(passwordEncoder.encode(anyString())).willReturn("{bcrypt}dummy");
+        given(userAccountService.createUser(any(), any(), any(), any(), any()))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+        given(userAccountService.searchUser(username)).willReturn(Optional.of(createUserAccountDto(username)));
+
+        //when
+        BoardPrincipal result = sut.provision(username, "yoon@mail.com", "Yoon");
+
+        //then
+        assertThat(result).hasFieldOrPropertyWithValue("username", username);
+        then(principalCache).should().invalidate(username);
+    }
+
+    @DisplayName("가입이 기본 키가 아닌 제약 조건 때문에 실패하면, 예외를 그대로 던진다.")
+    @Test
+    void givenOtherConstraintViolation_whenProvisioning_thenThrowsException() {
+        //given
+        String username = "kakao_1234";
+        given(principalCache.get(username)).willReturn(Optional.empty());
+        given(passwordEncoder.encode(anyString())).willReturn("{bcrypt}dummy");
+        given(userAccountService.createUser(any(), any(), any(), any(), any()))
+                .willThrow(new DataIntegrityViolationException("duplicate email"));
+        given(userAccountService.searchUser(username)).willReturn(Optional.empty());
+
+        //when
+        Throwable t = catchThrowable(() -> sut.provision(username, "yoon@mail.com", "Yoon"));
+
+        //then
+        assertThat(t).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private UserAccountDto createUserAccountDto(String username) {
+        return UserAccountDto.of(
+                username,
+                "{bcrypt}dummy",
+                "yoon@mail.com",
+                "Yoon",
+                null
+        );
+    }
+}
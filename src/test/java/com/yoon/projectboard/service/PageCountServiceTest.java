@@ -0,0 +1,79 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.config.PaginationConfig.CountStrategy;
+import com.yoon.projectboard.config.PaginationConfig.PaginationProperties;
+import com.yoon.projectboard.domain.constant.SearchType;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비지니스 로직 - 목록 전체 개수 계산")
+class PageCountServiceTest {
+
+    @DisplayName("SLICE 전략이면, count 쿼리 없이 다음 페이지 존재 여부로 전체 개수를 추정한다.")
+    @Test
+    void givenSliceStrategy_whenMakingPage_thenEstimatesTotalWithoutCountQuery() {
+        //given
+        PageCountService sut = createService(CountStrategy.SLICE);
+        AtomicInteger countQueries = new AtomicInteger();
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(3, 2), true);
+
+        //when
+        Page<String> page = sut.toPage(slice, SearchType.TITLE, "java", () -> countQueries.incrementAndGet());
+
+        //then
+        assertThat(countQueries).hasValue(0);
+        assertThat(page.getTotalElements()).isEqualTo(9);
+        assertThat(page.getTotalPages()).isEqualTo(5);
+    }
+
+    @DisplayName("CACHED 전략이면, 같은 검색 조건의 count 쿼리는 게시글 변경 전까지 한 번만 실행한다.")
+    @Test
+    void givenCachedStrategy_whenMakingPagesRepeatedly_thenRunsCountQueryOncePerWrite() {
+        //given
+        PageCountService sut = createService(CountStrategy.CACHED);
+        AtomicInteger countQueries = new AtomicInteger();
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a"), PageRequest.of(0, 1), true);
+
+        //when
+        sut.toPage(slice, SearchType.TITLE, "java", () -> countQueries.incrementAndGet() * 10L);
+        Page<String> cached = sut.toPage(slice, SearchType.TITLE, "java", () -> countQueries.incrementAndGet() * 10L);
+        sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of()));
+        Page<String> recounted = sut.toPage(slice, SearchType.TITLE, "java", () -> countQueries.incrementAndGet() * 10L);
+
+        //then
+        assertThat(cached.getTotalElements()).isEqualTo(10);
+        assertThat(recounted.getTotalElements()).isEqualTo(20);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @DisplayName("FIRST_PAGES_EXACT 전략이면, 앞쪽 페이지만 count 쿼리를 실행하고 뒤쪽 페이지는 추정한다.")
+    @Test
+    void givenFirstPagesExactStrategy_whenMakingDeepPage_thenEstimatesTotal() {
+        //given
+        PageCountService sut = createService(CountStrategy.FIRST_PAGES_EXACT);
+        AtomicInteger countQueries = new AtomicInteger();
+        SliceImpl<String> deepSlice = new SliceImpl<>(List.of("a"), PageRequest.of(100, 1), false);
+
+        //when
+        Page<String> page = sut.toPage(deepSlice, null, null, () -> countQueries.incrementAndGet());
+
+        //then
+        assertThat(countQueries).hasValue(0);
+        assertThat(page.getTotalElements()).isEqualTo(101);
+    }
+
+    private PageCountService createService(CountStrategy countStrategy) {
+        return new PageCountService(new PaginationProperties(countStrategy, Duration.ofSeconds(30), 5));
+    }
+}
@@ -1,5 +1,7 @@
 package com.yoon.projectboard.service;
 
+import com.yoon.projectboard.dto.ArticleCursor;
+import com.yoon.projectboard.dto.response.CursorPaginationBar;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -7,7 +9,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -50,6 +55,38 @@ class PaginationServiceTest {
         );
     }
 
+    @DisplayName("첫 페이지 커서와 다음 글이 있는 목록을 주면, 다음 커서만 있는 페이지 이동 정보를 만들어준다.")
+    @Test
+    void givenFirstCursorAndSliceHavingNext_whenCalculating_thenReturnsOnlyNextCursor() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2023, 10, 10, 12, 0);
+        List<ArticleCursor> rows = List.of(ArticleCursor.after(now, 3L), ArticleCursor.after(now.minusDays(1), 2L));
+        SliceImpl<ArticleCursor> slice = new SliceImpl<>(rows, Pageable.ofSize(2), true);
+
+        //when
+        CursorPaginationBar actual = sut.getCursorPaginationBar(ArticleCursor.first(), slice, row -> row);
+
+        //then
+        assertThat(actual.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.from(actual.nextCursor())).isEqualTo(ArticleCursor.after(now.minusDays(1), 2L));
+    }
+
+    @DisplayName("이전 방향 커서로 조회한 마지막 목록을 주면, 다음 커서만 있는 페이지 이동 정보를 만들어준다.")
+    @Test
+    void givenBackwardCursorAndSliceWithoutMore_whenCalculating_thenReturnsOnlyNextCursor() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2023, 10, 10, 12, 0);
+        List<ArticleCursor> rows = List.of(ArticleCursor.after(now, 3L), ArticleCursor.after(now.minusDays(1), 2L));
+        SliceImpl<ArticleCursor> slice = new SliceImpl<>(rows, Pageable.ofSize(2), false);
+
+        //when
+        CursorPaginationBar actual = sut.getCursorPaginationBar(ArticleCursor.before(now.minusDays(2), 1L), slice, row -> row);
+
+        //then
+        assertThat(actual.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.from(actual.nextCursor())).isEqualTo(ArticleCursor.after(now.minusDays(1), 2L));
+    }
+
     @DisplayName("현재 설정되어 있는 페이지네이션 바의 길이를 알려준다.")
     @Test
     void givenNothing_whenCalling_thenReturnsCurrentBarLength() {
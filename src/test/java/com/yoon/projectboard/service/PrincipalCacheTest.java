@@ -0,0 +1,96 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.config.SecurityConfig.PrincipalCacheProperties;
+import com.yoon.projectboard.dto.UserAccountDto;
+import com.yoon.projectboard.dto.event.UserAccountEvent;
+import com.yoon.projectboard.dto.security.BoardPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비지니스 로직 - 인증 주체 캐시")
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    private PrincipalCache sut;
+
+    @Mock
+    private UserAccountService userAccountService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PrincipalCache(new PrincipalCacheProperties(Duration.ofMinutes(1), 100), userAccountService);
+    }
+
+    @DisplayName("같은 사용자를 두 번 조회하면, 회원 정보는 한 번만 읽고 캐시한 인증 주체를 반환한다.")
+    @Test
+    void givenCachedUser_whenGettingAgain_thenReturnsCachedPrincipal() {
+        //given
+        String username = "yoon";
+        given(userAccountService.searchUser(username)).willReturn(Optional.of(createUserAccountDto(username)));
+        sut.get(username);
+
+        //when
+        Optional<BoardPrincipal> result = sut.get(username);
+
+        //then
+        assertThat(result).get().hasFieldOrPropertyWithValue("username", username);
+        then(userAccountService).should(times(1)).searchUser(username);
+    }
+
+    @DisplayName("존재하지 않는 사용자를 두 번 조회하면, 회원 정보는 한 번만 읽고 비어있는 Optional을 반환한다.")
+    @Test
+    void givenNonexistentUser_whenGettingAgain_thenReturnsCachedEmptyOptional() {
+        //given
+        String username = "wrong-user";
+        given(userAccountService.searchUser(username)).willReturn(Optional.empty());
+        sut.get(username);
+
+        //when
+        Optional<BoardPrincipal> result = sut.get(username);
+
+        //then
+        assertThat(result).isEmpty();
+        then(userAccountService).should(times(1)).searchUser(username);
+    }
+
+    @DisplayName("회원 정보 변경 이벤트를 받으면, 다음 조회 때 회원 정보를 다시 읽는다.")
+    @Test
+    void givenUserAccountEvent_whenGetting_thenReloadsPrincipal() {
+        //given
+        String username = "yoon";
+        given(userAccountService.searchUser(username))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(createUserAccountDto(username)));
+        sut.get(username);
+        sut.onUserAccountEvent(UserAccountEvent.changed(username));
+
+        //when
+        Optional<BoardPrincipal> result = sut.get(username);
+
+        //then
+        assertThat(result).get().hasFieldOrPropertyWithValue("username", username);
+        then(userAccountService).should(times(2)).searchUser(username);
+    }
+
+    private UserAccountDto createUserAccountDto(String username) {
+        return UserAccountDto.of(
+                username,
+                "pw",
+                "yoon@mail.com",
+                "Yoon",
+                "memo"
+        );
+    }
+}
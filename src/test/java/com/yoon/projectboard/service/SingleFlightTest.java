@@ -0,0 +1,183 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.config.SingleFlightConfig.SingleFlightProperties;
+import com.yoon.projectboard.datasource.PrimaryPinning;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("비지니스 로직 - 동시 조회 합치기")
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        PrimaryPinning.unpin();
+    }
+
+    @DisplayName("같은 키로 동시에 조회하면, 한 번만 조회하고 모두 같은 결과를 받는다.")
+    @Test
+    void givenConcurrentCallsWithSameKey_whenExecuting_thenLoadsOnce() throws Exception {
+        //given
+        SingleFlight sut = createSingleFlight(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "article";
+        };
+        Future<String> leader = executor.submit(() -> sut.execute("article-detail", 1L, loader));
+        loading.await(1, TimeUnit.SECONDS);
+        List<Future<String>> followers = List.of(
+                executor.submit(() -> sut.execute("article-detail", 1L, loader)),
+                executor.submit(() -> sut.execute("article-detail", 1L, loader))
+        );
+        waitUntilFollowersJoin(2);
+
+        //when
+        release.countDown();
+
+        //then
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("article");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("article");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(2);
+    }
+
+    @DisplayName("조회가 끝난 뒤 같은 키로 다시 조회하면, 결과를 재사용하지 않고 다시 조회한다.")
+    @Test
+    void givenCompletedFlight_whenExecutingAgain_thenLoadsAgain() {
+        //given
+        SingleFlight sut = createSingleFlight(Duration.ofSeconds(1));
+        AtomicInteger loads = new AtomicInteger();
+        sut.execute("hot-articles", 10, loads::incrementAndGet);
+
+        //when
+        Integer result = sut.execute("hot-articles", 10, loads::incrementAndGet);
+
+        //then
+        assertThat(result).isEqualTo(2);
+        assertThat(count("leader")).isEqualTo(2);
+    }
+
+    @DisplayName("진행 중인 조회가 최대 대기 시간 안에 끝나지 않으면, 직접 조회한다.")
+    @Test
+    void givenSlowLeader_whenWaitingLongerThanMaxWait_thenLoadsItself() throws Exception {
+        //given
+        SingleFlight sut = createSingleFlight(Duration.ofMillis(50));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> sut.execute("article-detail", 1L, () -> {
+            loading.countDown();
+            await(release);
+            return "slow";
+        }));
+        loading.await(1, TimeUnit.SECONDS);
+
+        //when
+        String result = sut.execute("article-detail", 1L, () -> "fast");
+
+        //then
+        assertThat(result).isEqualTo("fast");
+        assertThat(count("timeout")).isEqualTo(1);
+        release.countDown();
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    @DisplayName("진행 중인 조회가 예외를 던지면, 기다리던 조회도 같은 예외를 받는다.")
+    @Test
+    void givenFailingLeader_whenFollowerWaiting_thenFollowerReceivesSameException() throws Exception {
+        //given
+        SingleFlight sut = createSingleFlight(Duration.ofSeconds(5));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalArgumentException failure = new IllegalArgumentException("게시글이 없습니다");
+        Supplier<String> loader = () -> {
+            loading.countDown();
+            await(release);
+            throw failure;
+        };
+        executor.submit(() -> sut.execute("article-detail", 0L, loader));
+        loading.await(1, TimeUnit.SECONDS);
+        Future<Throwable> follower = executor.submit(() -> catchThrowable(() -> sut.execute("article-detail", 0L, loader)));
+        waitUntilFollowersJoin(1);
+
+        //when
+        release.countDown();
+
+        //then
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isSameAs(failure);
+    }
+
+    @DisplayName("주 DB로 고정된 요청은, 진행 중인 조회가 있어도 합치지 않고 직접 조회한다.")
+    @Test
+    void givenPinnedRequest_whenExecuting_thenBypassesInFlightLoad() throws Exception {
+        //given
+        SingleFlight sut = createSingleFlight(Duration.ofSeconds(5));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> sut.execute("article-detail", 1L, () -> {
+            loading.countDown();
+            await(release);
+            return "replica";
+        }));
+        loading.await(1, TimeUnit.SECONDS);
+        PrimaryPinning.pin();
+
+        //when
+        String result = sut.execute("article-detail", 1L, () -> "primary");
+
+        //then
+        assertThat(result).isEqualTo("primary");
+        assertThat(count("bypass")).isEqualTo(1);
+        release.countDown();
+    }
+
+    private SingleFlight createSingleFlight(Duration maxWait) {
+        return new SingleFlight(new SingleFlightProperties(true, maxWait), TransactionOperations.withoutTransaction(), meterRegistry);
+    }
+
+    private double count(String result) {
+        return meterRegistry.find("board.single-flight.calls").tag("result", result).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private void waitUntilFollowersJoin(int followers) throws InterruptedException {
+        // follower 는 결과를 받기 전까지 지표를 남기지 않으므로, 스레드가 대기에 들어갈 시간을 준다
+        Thread.sleep(100L * followers);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
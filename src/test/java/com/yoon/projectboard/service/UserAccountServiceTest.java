@@ -2,6 +2,7 @@ package com.yoon.projectboard.service;
 
 import com.yoon.projectboard.domain.UserAccount;
 import com.yoon.projectboard.dto.UserAccountDto;
+import com.yoon.projectboard.dto.event.UserAccountEvent;
 import com.yoon.projectboard.repository.UserAccountRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -25,6 +27,8 @@ class UserAccountServiceTest {
 
     @Mock
     private UserAccountRepository userAccountRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("존재하는 회원 ID를 검색하면, 회원 데이터를 Optional로 반환한다.")
     @Test
@@ -83,6 +87,33 @@ class UserAccountServiceTest {
                 .hasFieldOrPropertyWithValue("createdBy", userAccount.getUserId())
                 .hasFieldOrPropertyWithValue("modifiedBy", userAccount.getUserId());
         then(userAccountRepository).should().save(userAccount);
+        then(userAccountRepository).should().evictFromCache(userAccount.getUserId());
+        then(eventPublisher).should().publishEvent(UserAccountEvent.changed(userAccount.getUserId()));
+    }
+
+    @DisplayName("새 회원 정보를 입력하면, 조회 없이 바로 저장하고 해당 회원 데이터를 리턴한다.")
+    @Test
+    void givenNewUserParams_whenCreating_thenInsertsUserAccount() {
+        //given
+        UserAccount userAccount = createSigningUpUserAccount("kakao_1234");
+        given(userAccountRepository.insert(userAccount)).willReturn(userAccount);
+
+        //when
+        UserAccountDto result = sut.createUser(
+                userAccount.getUserId(),
+                userAccount.getUserPassword(),
+                userAccount.getEmail(),
+                userAccount.getNickname(),
+                userAccount.getMemo()
+        );
+
+        //then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("userId", userAccount.getUserId())
+                .hasFieldOrPropertyWithValue("createdBy", userAccount.getUserId());
+        then(userAccountRepository).should().insert(userAccount);
+        then(userAccountRepository).shouldHaveNoMoreInteractions();
+        then(eventPublisher).should().publishEvent(UserAccountEvent.changed(userAccount.getUserId()));
     }
 
     private UserAccount createUserAccount(String username) {
@@ -0,0 +1,178 @@
+package com.yoon.projectboard.service;
+
+import com.yoon.projectboard.config.ViewCountConfig.ViewCountProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 조회수")
+@ExtendWith(MockitoExtension.class)
+class ViewCountServiceTest {
+
+    private ViewCountService sut;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ViewCountService(jdbcTemplate, TransactionOperations.withoutTransaction(), new ViewCountProperties(Duration.ofSeconds(10), 2));
+    }
+
+    @DisplayName("조회를 기록하면, 반영 전까지 대기 중인 조회수로 더해진다.")
+    @Test
+    void givenViews_whenCountingPending_thenReturnsPendingViews() {
+        //given
+        sut.recordView(1L);
+        sut.recordView(1L);
+        sut.recordView(2L);
+
+        //when & then
+        assertThat(sut.pendingViews(1L)).isEqualTo(2L);
+        assertThat(sut.pendingViews(2L)).isEqualTo(1L);
+        assertThat(sut.pendingViews(3L)).isZero();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("반영하면, 증가분을 한 번의 배치 update 로 DB에 보내고 대기 중인 조회수를 비운다.")
+    @Test
+    void givenPendingViews_whenFlushing_thenSendsDeltasInOneBatch() {
+        //given
+        sut.recordView(1L);
+        sut.recordView(1L);
+        sut.recordView(2L);
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{1, 1});
+
+        //when
+        sut.flush();
+
+        //then
+        then(jdbcTemplate).should().batchUpdate(eq("update article set views = views + ? where id = ?"), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(args -> List.of(args))
+                .containsExactlyInAnyOrder(List.of(2L, 1L), List.of(1L, 2L));
+        assertThat(sut.pendingViews(1L)).isZero();
+        assertThat(sut.pendingViews(2L)).isZero();
+    }
+
+    @DisplayName("반영에 실패하면, 대기 중인 조회수를 유지한다.")
+    @Test
+    void givenFailingDatabase_whenFlushing_thenKeepsPendingViews() {
+        //given
+        sut.recordView(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new QueryTimeoutException("timeout"));
+
+        //when
+        sut.flush();
+
+        //then
+        assertThat(sut.pendingViews(1L)).isEqualTo(1L);
+    }
+
+    @DisplayName("반영할 조회수가 없으면, DB에 아무것도 보내지 않는다.")
+    @Test
+    void givenNoViews_whenFlushing_thenDoesNothing() {
+        //given
+
+        //when
+        sut.flush();
+
+        //then
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("반영에 실패한 뒤 다시 반영하면, 실패한 증가분을 한 번만 보낸다.")
+    @Test
+    void givenFailedFlush_whenFlushingAgain_thenSendsEachDeltaOnce() {
+        //given
+        sut.recordView(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[]{1});
+        sut.flush();
+        sut.recordView(1L);
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+
+        //when
+        sut.flush();
+
+        //then
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(args -> List.of(args))
+                .containsExactly(List.of(2L, 1L));
+        assertThat(sut.pendingViews(1L)).isZero();
+    }
+
+    @DisplayName("반영한 뒤에 들어온 조회는, 잃어버리지 않고 다음 반영을 기다린다.")
+    @Test
+    void givenViewAfterFlush_whenCountingPending_thenKeepsNewView() {
+        //given
+        sut.recordView(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{1});
+        sut.flush();
+
+        //when
+        sut.recordView(1L);
+
+        //then
+        assertThat(sut.pendingViews(1L)).isEqualTo(1L);
+    }
+
+    @DisplayName("반영하는 동안 조회수를 읽으면, 반영 중인 조회와 새 조회를 한 번씩만 센다.")
+    @Test
+    void givenViewsDuringFlush_whenCountingPending_thenCountsEachViewOnce() {
+        //given
+        sut.recordView(1L);
+        sut.recordView(1L);
+        AtomicLong pendingDuringFlush = new AtomicLong();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            sut.recordView(1L);
+            pendingDuringFlush.set(sut.pendingViews(1L));
+            return new int[]{1};
+        });
+
+        //when
+        sut.flush();
+
+        //then
+        assertThat(pendingDuringFlush).hasValue(3L);
+        assertThat(sut.pendingViews(1L)).isEqualTo(1L);
+    }
+
+    @DisplayName("반영을 기다리는 게시글 수가 상한에 이르면, 새 게시글의 조회는 바로 DB에 반영한다.")
+    @Test
+    void givenFullCounters_whenRecordingViewOfNewArticle_thenUpdatesDatabaseDirectly() {
+        //given
+        sut.recordView(1L);
+        sut.recordView(2L);
+
+        //when
+        sut.recordView(3L);
+        sut.recordView(1L);
+
+        //then
+        then(jdbcTemplate).should().update("update article set views = views + ? where id = ?", 1L, 3L);
+        assertThat(sut.pendingViews(3L)).isZero();
+        assertThat(sut.pendingViews(1L)).isEqualTo(2L);
+    }
+}
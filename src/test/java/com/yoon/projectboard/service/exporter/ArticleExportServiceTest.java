@@ -0,0 +1,140 @@
+package com.yoon.projectboard.service.exporter;
+
+import com.yoon.projectboard.domain.Article;
+import com.yoon.projectboard.domain.ArticleComment;
+import com.yoon.projectboard.domain.Hashtag;
+import com.yoon.projectboard.dto.ImportResultDto;
+import com.yoon.projectboard.repository.ArticleCommentRepository;
+import com.yoon.projectboard.repository.ArticleRepository;
+import com.yoon.projectboard.repository.UserAccountRepository;
+import com.yoon.projectboard.service.importer.ArticleImportService;
+import com.yoon.projectboard.service.importer.ImportFormat;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 초기 데이터(data.sql)를 내보낸 뒤 같은 DB로 다시 가져와, 가져온 게시글이 원본과 같은지 확인한다.
+ * 가져오기는 테스트 트랜잭션에 참여하므로 테스트가 끝나면 되돌려진다.
+ */
+@DisplayName("비지니스 로직 - 내보내기")
+@Transactional
+@SpringBootTest
+class ArticleExportServiceTest {
+
+    private final ArticleExportService sut;
+    private final ArticleImportService articleImportService;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final EntityManager entityManager;
+
+    public ArticleExportServiceTest(
+            @Autowired ArticleExportService sut,
+            @Autowired ArticleImportService articleImportService,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired EntityManager entityManager
+    ) {
+        this.sut = sut;
+        this.articleImportService = articleImportService;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.entityManager = entityManager;
+    }
+
+    @DisplayName("내보낸 파일을 그대로 가져오면, 작성자/해시태그/대댓글 관계까지 같은 게시글이 만들어진다.")
+    @Test
+    void givenExportedBoard_whenImportingIt_thenRecreatesSameArticles() throws IOException {
+        //given
+        List<Article> originals = articleRepository.findAll(Sort.by("id"));
+        Long lastOriginalId = originals.get(originals.size() - 1).getId();
+        List<Tuple> expectedArticles = originals.stream().map(ArticleExportServiceTest::summaryOf).toList();
+        List<Tuple> expectedComments = commentSummariesOf(articleCommentRepository.findAll(Sort.by("id")), originals);
+        long userCount = userAccountRepository.count();
+
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        long exportedArticles = sut.exportArticles(exported, false);
+
+        //when
+        ImportResultDto result = articleImportService.importRecords(
+                "round-trip", ImportFormat.NDJSON, new ByteArrayInputStream(exported.toByteArray())
+        );
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        assertThat(exportedArticles).isEqualTo(originals.size());
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("articlesImported", (long) originals.size())
+                .hasFieldOrPropertyWithValue("commentsImported", (long) expectedComments.size())
+                .hasFieldOrPropertyWithValue("recordsSkipped", userCount)       // 같은 DB라 사용자는 이미 있다
+                .hasFieldOrPropertyWithValue("recordsFailed", 0L)
+                .hasFieldOrPropertyWithValue("completed", true);
+
+        List<Article> imported = articleRepository.findAll(Sort.by("id")).stream()
+                .filter(article -> article.getId() > lastOriginalId)
+                .toList();
+        assertThat(imported)
+                .map(ArticleExportServiceTest::summaryOf)
+                .containsExactlyElementsOf(expectedArticles);
+        List<ArticleComment> importedComments = articleCommentRepository.findAll(Sort.by("id")).stream()
+                .filter(comment -> comment.getArticle().getId() > lastOriginalId)
+                .toList();
+        assertThat(commentSummariesOf(importedComments, imported))
+                .containsExactlyInAnyOrderElementsOf(expectedComments);
+    }
+
+    /**
+     * (제목, 작성자, 해시태그 이름)
+     */
+    private static Tuple summaryOf(Article article) {
+        return tuple(
+                article.getTitle(),
+                article.getUserAccount().getUserId(),
+                article.getHashtags().stream().map(Hashtag::getHashtagName).collect(Collectors.toSet())
+        );
+    }
+
+    /**
+     * (게시글 순번, 작성자, 본문, 부모 댓글 본문). 가져오면 ID가 바뀌므로 게시글은 순번, 부모 댓글은 본문으로 비교한다.
+     */
+    private static List<Tuple> commentSummariesOf(List<ArticleComment> comments, List<Article> articles) {
+        Map<Long, Integer> articleIndexes = articles.stream()
+                .collect(Collectors.toMap(Article::getId, articles::indexOf));
+        Map<Long, String> contents = comments.stream()
+                .collect(Collectors.toMap(ArticleComment::getId, ArticleComment::getContent));
+        Set<Long> articleIds = articleIndexes.keySet();
+        Function<ArticleComment, String> parentContent = comment ->
+                comment.getParentCommentId() == null ? null : contents.get(comment.getParentCommentId());
+
+        return comments.stream()
+                .filter(comment -> articleIds.contains(comment.getArticle().getId()))
+                .map(comment -> tuple(
+                        articleIndexes.get(comment.getArticle().getId()),
+                        comment.getUserAccount().getUserId(),
+                        comment.getContent(),
+                        parentContent.apply(comment)
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,273 @@
+package com.yoon.projectboard.service.importer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoon.projectboard.config.ImportConfig.ImportProperties;
+import com.yoon.projectboard.domain.Article;
+import com.yoon.projectboard.domain.Hashtag;
+import com.yoon.projectboard.domain.ImportCheckpoint;
+import com.yoon.projectboard.domain.UserAccount;
+import com.yoon.projectboard.dto.ImportResultDto;
+import com.yoon.projectboard.repository.HashtagRepository;
+import com.yoon.projectboard.repository.ImportCheckpointRepository;
+import com.yoon.projectboard.repository.UserAccountRepository;
+import com.yoon.projectboard.service.HashtagService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 대량 가져오기")
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    private static final String JOB_ID = "boards";
+    private static final String INPUT = """
+            {"type":"user","userId":"yoon","userPassword":"{bcrypt}$2a$10$hash","email":"yoon@mail.com","nickname":"Yoon"}
+            {"type":"article","userId":"yoon","title":"첫 글","content":"본문 #java"}
+            {"type":"comment","userId":"yoon","content":"댓글1"}
+            {"type":"comment","userId":"yoon","content":"댓글2"}
+            {"type":"article","userId":"yoon","title":"두 번째 글","content":"#java #spring"}
+            {"type":"article","userId":"yoon","title":"세 번째 글","content":"본문"}
+            """;
+
+    private ArticleImportService sut;
+
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private EntityManager entityManager;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private ImportCheckpointRepository importCheckpointRepository;
+    @Mock private HashtagService hashtagService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, ImportCheckpoint> checkpoints = new HashMap<>();
+    private final AtomicLong hashtagSequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        sut = new ArticleImportService(
+                new ImportProperties(2, 100, null, null),
+                objectMapper,
+                transactionTemplate,
+                entityManager,
+                jdbcTemplate,
+                userAccountRepository,
+                hashtagRepository,
+                importCheckpointRepository,
+                hashtagService,
+                eventPublisher,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @DisplayName("입력을 가져오면, 댓글이 아닌 레코드 앞에서 청크를 끊어 청크마다 한 트랜잭션으로 쓰고 체크포인트를 남긴다.")
+    @Test
+    void givenRecords_whenImporting_thenWritesChunkPerTransactionAndCheckpoints() throws IOException {
+        //given
+        givenTransactionsAndCheckpointStore();
+        givenHashtagIdsAssignedOnPersist();
+        given(userAccountRepository.findAllById(Set.of("yoon"))).willReturn(List.of(), List.of(createUserAccount()));
+        given(userAccountRepository.findAllById(Set.of())).willReturn(List.of());
+        given(hashtagService.parseHashtagNames("본문 #java")).willReturn(Set.of("java"));
+        given(hashtagService.parseHashtagNames("#java #spring")).willReturn(Set.of("java", "spring"));
+        given(hashtagService.parseHashtagNames("본문")).willReturn(Set.of());
+
+        //when
+        ImportResultDto result = sut.importRecords(JOB_ID, ImportFormat.NDJSON, streamOf(INPUT));
+
+        //then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("recordsProcessed", 6L)
+                .hasFieldOrPropertyWithValue("usersImported", 1L)
+                .hasFieldOrPropertyWithValue("articlesImported", 3L)
+                .hasFieldOrPropertyWithValue("commentsImported", 2L)
+                .hasFieldOrPropertyWithValue("completed", true);
+        then(transactionTemplate).should(times(2)).execute(any());
+        then(importCheckpointRepository).should(times(2)).save(any(ImportCheckpoint.class));
+        then(entityManager).should(times(3)).persist(any(Article.class));
+    }
+
+    @DisplayName("해시태그가 달린 게시글을 가져오면, 청크마다 해시태그별 게시글 수를 늘리고 이미 본 해시태그는 다시 조회하지 않는다.")
+    @Test
+    void givenArticlesWithHashtags_whenImporting_thenIncreasesArticleCountsAndCachesHashtagIds() throws IOException {
+        //given
+        givenTransactionsAndCheckpointStore();
+        givenHashtagIdsAssignedOnPersist();
+        given(userAccountRepository.findAllById(Set.of("yoon"))).willReturn(List.of(), List.of(createUserAccount()));
+        given(userAccountRepository.findAllById(Set.of())).willReturn(List.of());
+        given(hashtagService.parseHashtagNames("본문 #java")).willReturn(Set.of("java"));
+        given(hashtagService.parseHashtagNames("#java #spring")).willReturn(Set.of("java", "spring"));
+        given(hashtagService.parseHashtagNames("본문")).willReturn(Set.of());
+
+        //when
+        sut.importRecords(JOB_ID, ImportFormat.NDJSON, streamOf(INPUT));
+
+        //then
+        then(hashtagService).should().increaseArticleCounts(Map.of(1L, 1L));
+        then(hashtagService).should().increaseArticleCounts(Map.of(1L, 1L, 2L, 1L));
+        then(hashtagRepository).should().findByHashtagNameIn(Set.of("java"));
+        then(hashtagRepository).should().findByHashtagNameIn(Set.of("spring"));
+        then(hashtagRepository).shouldHaveNoMoreInteractions();
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @DisplayName("체크포인트가 있는 작업을 다시 실행하면, 반영된 레코드는 건너뛰고 나머지만 가져온다.")
+    @Test
+    void givenCheckpoint_whenImportingAgain_thenResumesAfterProcessedRecords() throws IOException {
+        //given
+        ImportCheckpoint checkpoint = ImportCheckpoint.of(JOB_ID);
+        checkpoint.record(4, 1, 1, 2, 0, 0);
+        checkpoints.put(JOB_ID, checkpoint);
+        givenTransactionsAndCheckpointStore();
+        givenHashtagIdsAssignedOnPersist();
+        given(userAccountRepository.findAllById(Set.of("yoon"))).willReturn(List.of(createUserAccount()));
+        given(hashtagService.parseHashtagNames("#java #spring")).willReturn(Set.of("java", "spring"));
+        given(hashtagService.parseHashtagNames("본문")).willReturn(Set.of());
+
+        //when
+        ImportResultDto result = sut.importRecords(JOB_ID, ImportFormat.NDJSON, streamOf(INPUT));
+
+        //then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("recordsProcessed", 6L)
+                .hasFieldOrPropertyWithValue("usersImported", 1L)
+                .hasFieldOrPropertyWithValue("articlesImported", 3L)
+                .hasFieldOrPropertyWithValue("commentsImported", 2L)
+                .hasFieldOrPropertyWithValue("completed", true);
+        then(transactionTemplate).should().execute(any());
+        then(entityManager).should(times(2)).persist(any(Article.class));
+        then(entityManager).should(never()).persist(any(UserAccount.class));
+        then(hashtagService).should(never()).parseHashtagNames("본문 #java");
+    }
+
+    @DisplayName("이미 끝난 작업을 다시 실행하면, 아무것도 쓰지 않고 저장된 결과를 반환한다.")
+    @Test
+    void givenCompletedCheckpoint_whenImportingAgain_thenWritesNothing() throws IOException {
+        //given
+        ImportCheckpoint checkpoint = ImportCheckpoint.of(JOB_ID);
+        checkpoint.record(6, 1, 3, 2, 0, 0);
+        checkpoint.complete();
+        given(importCheckpointRepository.findById(JOB_ID)).willReturn(Optional.of(checkpoint));
+
+        //when
+        ImportResultDto result = sut.importRecords(JOB_ID, ImportFormat.NDJSON, streamOf(INPUT));
+
+        //then
+        assertThat(result.completed()).isTrue();
+        assertThat(result.recordsProcessed()).isEqualTo(6L);
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(entityManager).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("청크 쓰기가 한 번 실패하면, 같은 청크를 한 번 더 써서 레코드를 한 번만 반영한다.")
+    @Test
+    void givenChunkFailsOnce_whenImporting_thenRetriesChunk() throws IOException {
+        //given
+        String input = """
+                {"type":"user","userId":"yoon","userPassword":"{bcrypt}$2a$10$hash"}
+                {"type":"article","userId":"yoon","title":"첫 글","content":"본문 #java"}
+                """;
+        givenTransactionsAndCheckpointStore();
+        givenHashtagIdsAssignedOnPersist();
+        given(hashtagService.parseHashtagNames("본문 #java")).willReturn(Set.of("java"));
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataIntegrityViolationException("hashtag_id 외래 키 위반"))
+                .willReturn(new int[]{1});
+
+        //when
+        ImportResultDto result = sut.importRecords(JOB_ID, ImportFormat.NDJSON, streamOf(input));
+
+        //then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("recordsProcessed", 2L)
+                .hasFieldOrPropertyWithValue("usersImported", 1L)
+                .hasFieldOrPropertyWithValue("articlesImported", 1L)
+                .hasFieldOrPropertyWithValue("completed", true);
+        then(transactionTemplate).should(times(2)).execute(any());
+        then(importCheckpointRepository).should().save(any(ImportCheckpoint.class));
+        then(hashtagService).should().increaseArticleCounts(anyMap());
+    }
+
+    @DisplayName("평문 비밀번호({noop})인 사용자 레코드는 실패로 세고, 그 사용자가 쓴 게시글도 가져오지 않는다.")
+    @Test
+    void givenPlainTextPassword_whenImporting_thenRejectsUserAndTheirArticles() throws IOException {
+        //given
+        String input = """
+                {"type":"user","userId":"yoon","userPassword":"{noop}password"}
+                {"type":"user","userId":"kim","userPassword":"password"}
+                {"type":"article","userId":"yoon","title":"첫 글","content":"본문"}
+                """;
+        givenTransactionsAndCheckpointStore();
+
+        //when
+        ImportResultDto result = sut.importRecords(JOB_ID, ImportFormat.NDJSON, streamOf(input));
+
+        //then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("usersImported", 0L)
+                .hasFieldOrPropertyWithValue("articlesImported", 0L)
+                .hasFieldOrPropertyWithValue("recordsFailed", 3L);
+        then(entityManager).should(never()).persist(any());
+    }
+
+    /**
+     * 트랜잭션은 콜백을 그대로 실행하고, 체크포인트는 저장한 것을 다시 돌려준다.
+     */
+    private void givenTransactionsAndCheckpointStore() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(importCheckpointRepository.findById(JOB_ID)).willAnswer(invocation -> Optional.ofNullable(checkpoints.get(JOB_ID)));
+        given(importCheckpointRepository.save(any(ImportCheckpoint.class))).willAnswer(invocation -> {
+            ImportCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoints.put(checkpoint.getJobId(), checkpoint);
+            return checkpoint;
+        });
+    }
+
+    /**
+     * 새 해시태그는 저장할 때 1부터 차례로 ID를 받는다.
+     */
+    private void givenHashtagIdsAssignedOnPersist() {
+        willAnswer(invocation -> {
+            if (invocation.getArgument(0) instanceof Hashtag hashtag) {
+                ReflectionTestUtils.setField(hashtag, "id", hashtagSequence.incrementAndGet());
+            }
+            return null;
+        }).given(entityManager).persist(any());
+    }
+
+    private UserAccount createUserAccount() {
+        return UserAccount.of("yoon", "{bcrypt}$2a$10$hash", "yoon@mail.com", "Yoon", null, "yoon");
+    }
+
+    private InputStream streamOf(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
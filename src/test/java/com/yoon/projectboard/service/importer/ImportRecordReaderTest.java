@@ -0,0 +1,116 @@
+package com.yoon.projectboard.service.importer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoon.projectboard.service.importer.ImportRecord.RecordType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비지니스 로직 - 가져오기 레코드 읽기")
+class ImportRecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @DisplayName("NDJSON 을 읽으면, 빈 줄은 건너뛰고 한 줄씩 레코드로 반환한다.")
+    @Test
+    void givenNdjson_whenReading_thenReturnsRecordsPerLine() throws IOException {
+        //given
+        String input = """
+                {"type":"user","userId":"yoon","userPassword":"{noop}pw","email":"yoon@mail.com","unknown":1}
+
+                {"type":"ARTICLE","userId":"yoon","title":"제목","content":"본문 #java"}
+                {"type":"comment","userId":"yoon","content":"댓글"}
+                """;
+
+        //when & then
+        try (ImportRecordReader sut = ImportFormat.NDJSON.open(streamOf(input), objectMapper)) {
+            assertThat(sut.read())
+                    .hasFieldOrPropertyWithValue("type", RecordType.USER)
+                    .hasFieldOrPropertyWithValue("userPassword", "{noop}pw")
+                    .hasFieldOrPropertyWithValue("email", "yoon@mail.com");
+            assertThat(sut.read())
+                    .hasFieldOrPropertyWithValue("type", RecordType.ARTICLE)
+                    .hasFieldOrPropertyWithValue("content", "본문 #java");
+            assertThat(sut.read()).hasFieldOrPropertyWithValue("type", RecordType.COMMENT);
+            assertThat(sut.read()).isNull();
+        }
+    }
+
+    @DisplayName("NDJSON 에 형식이 잘못된 줄이 있으면, 그 줄만 예외를 던지고 다음 줄부터 계속 읽는다.")
+    @Test
+    void givenMalformedNdjsonLine_whenReading_thenThrowsAndContinues() throws IOException {
+        //given
+        String input = """
+                {"type":"article","title":
+                {"type":"post","title":"제목"}
+                {"type":"comment","userId":"yoon","content":"댓글"}
+                """;
+
+        //when & then
+        try (ImportRecordReader sut = ImportFormat.NDJSON.open(streamOf(input), objectMapper)) {
+            assertThatThrownBy(sut::read).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(sut::read).isInstanceOf(IllegalArgumentException.class);
+            assertThat(sut.read()).hasFieldOrPropertyWithValue("content", "댓글");
+            assertThat(sut.read()).isNull();
+        }
+    }
+
+    @DisplayName("CSV 를 읽으면, 헤더 이름으로 열을 찾고 따옴표 안의 쉼표/줄바꿈/큰따옴표를 그대로 살린다.")
+    @Test
+    void givenCsvWithQuotedFields_whenReading_thenReturnsRecordsByHeader() throws IOException {
+        //given
+        String input = "content,type,userId,title\r\n" +
+                "\"첫 줄, 쉼표\n둘째 줄 \"\"인용\"\"\",article,yoon,제목\r\n" +
+                "\r\n" +
+                "댓글,COMMENT,yoon,\r\n";
+
+        //when & then
+        try (ImportRecordReader sut = ImportFormat.CSV.open(streamOf(input), objectMapper)) {
+            assertThat(sut.read())
+                    .hasFieldOrPropertyWithValue("type", RecordType.ARTICLE)
+                    .hasFieldOrPropertyWithValue("userId", "yoon")
+                    .hasFieldOrPropertyWithValue("title", "제목")
+                    .hasFieldOrPropertyWithValue("content", "첫 줄, 쉼표\n둘째 줄 \"인용\"");
+            assertThat(sut.read())
+                    .hasFieldOrPropertyWithValue("type", RecordType.COMMENT)
+                    .hasFieldOrPropertyWithValue("content", "댓글")
+                    .hasFieldOrPropertyWithValue("title", null)
+                    .hasFieldOrPropertyWithValue("email", null);
+            assertThat(sut.read()).isNull();
+        }
+    }
+
+    @DisplayName("CSV 헤더에 type 열이 없으면, 예외를 던진다.")
+    @Test
+    void givenCsvWithoutTypeColumn_whenOpening_thenThrowsException() {
+        //given
+        String input = "userId,title\nyoon,제목\n";
+
+        //when & then
+        assertThatThrownBy(() -> ImportFormat.CSV.open(streamOf(input), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("파일 확장자가 .csv 면 CSV, 그 외에는 NDJSON 으로 읽는다.")
+    @Test
+    void givenFileNames_whenResolvingFormat_thenReturnsFormatByExtension() {
+        //given
+
+        //when & then
+        assertThat(ImportFormat.fromFileName("boards.CSV")).isEqualTo(ImportFormat.CSV);
+        assertThat(ImportFormat.fromFileName("boards.ndjson")).isEqualTo(ImportFormat.NDJSON);
+    }
+
+    private static InputStream streamOf(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,95 @@
+package com.yoon.projectboard.service.search;
+
+import com.yoon.projectboard.dto.ArticleCreatedAtDto;
+import com.yoon.projectboard.dto.ArticleCursor;
+import com.yoon.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비지니스 로직 - 게시글 정렬 색인")
+@ExtendWith(MockitoExtension.class)
+class ArticleOrderIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @InjectMocks
+    private ArticleOrderIndex sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(articleRepository.findCreatedAtsAfter(anyLong(), anyLong())).willReturn(List.of(
+                ArticleCreatedAtDto.of(1L, NOW.minusDays(1)),
+                ArticleCreatedAtDto.of(2L, NOW),
+                ArticleCreatedAtDto.of(3L, NOW.minusDays(2)),
+                ArticleCreatedAtDto.of(4L, NOW)
+        ));
+        sut.build();
+    }
+
+    @DisplayName("작성일시 내림차순 페이지를 요청하면, ID 순서와 무관하게 작성일시 순서(같으면 ID 내림차순)로 해당 페이지의 ID만 반환한다.")
+    @Test
+    void givenCreatedAtDescending_whenPaging_thenReturnsPageOfIdsOrderedByCreatedAt() {
+        //given
+        PageRequest firstPage = PageRequest.of(0, 3, Sort.by(Sort.Order.desc("createdAt")));
+        PageRequest secondPage = PageRequest.of(1, 3, Sort.by(Sort.Order.desc("createdAt")));
+
+        //when
+        Page<Long> first = sut.page(List.of(1L, 2L, 3L, 4L), firstPage).orElseThrow();
+        Page<Long> second = sut.page(List.of(1L, 2L, 3L, 4L), secondPage).orElseThrow();
+
+        //then
+        assertThat(first.getContent()).containsExactly(4L, 2L, 1L);
+        assertThat(first.getTotalElements()).isEqualTo(4);
+        assertThat(second.getContent()).containsExactly(3L);
+    }
+
+    @DisplayName("커서로 다음/이전 조각을 요청하면, 커서 위치 이후의 ID를 최신순으로 개수만큼 반환한다.")
+    @Test
+    void givenCursor_whenSlicing_thenReturnsIdsBeyondCursorInRecencyOrder() {
+        //given
+        List<Long> articleIds = List.of(1L, 2L, 3L, 4L);
+
+        //when
+        Slice<Long> next = sut.slice(articleIds, ArticleCursor.after(NOW, 2L), 1).orElseThrow();
+        Slice<Long> previous = sut.slice(articleIds, ArticleCursor.before(NOW.minusDays(2), 3L), 2).orElseThrow();
+
+        //then
+        assertThat(next.getContent()).containsExactly(1L);
+        assertThat(next.hasNext()).isTrue();
+        assertThat(previous.getContent()).containsExactly(2L, 1L);
+        assertThat(previous.hasNext()).isTrue();
+    }
+
+    @DisplayName("ID, 작성일시가 아닌 정렬을 요청하면, 빈 결과를 반환해 DB 정렬로 대체하게 한다.")
+    @Test
+    void givenUnsupportedSort_whenPaging_thenReturnsEmpty() {
+        //given
+        PageRequest pageable = PageRequest.of(0, 3, Sort.by(Sort.Order.asc("title")));
+
+        //when
+        Optional<Page<Long>> actual = sut.page(List.of(1L, 2L), pageable);
+
+        //then
+        assertThat(actual).isEmpty();
+    }
+}
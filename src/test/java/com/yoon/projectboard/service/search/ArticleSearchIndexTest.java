@@ -0,0 +1,84 @@
+package com.yoon.projectboard.service.search;
+
+import com.yoon.projectboard.dto.ArticleDocumentDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비지니스 로직 - 게시글 검색 색인")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+
+    @InjectMocks
+    private ArticleSearchIndex sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @DisplayName("색인을 만들면, 제목과 본문을 따로 검색한다.")
+    @Test
+    void givenBuiltIndex_whenSearching_thenSearchesTitleAndContentSeparately() {
+        //given
+        given(articleRepository.findDocumentsAfter(anyLong(), anyLong())).willReturn(List.of(
+                ArticleDocumentDto.of(1L, "spring boot", "본문"),
+                ArticleDocumentDto.of(2L, "자바", "spring boot 실습")
+        ));
+        sut.build();
+
+        //when
+        Optional<List<Long>> title = sut.searchTitle("spring boot");
+        Optional<List<Long>> content = sut.searchContent("spring boot");
+
+        //then
+        assertThat(title).contains(List.of(1L));
+        assertThat(content).contains(List.of(2L));
+    }
+
+    @DisplayName("색인이 준비되지 않았거나 검색어에 단어가 없으면, DB 검색으로 대체하도록 빈 값을 반환한다.")
+    @Test
+    void givenNotReadyIndexOrKeywordWithoutTerms_whenSearching_thenReturnsEmpty() {
+        //given
+        Optional<List<Long>> notReady = sut.searchTitle("spring");
+        given(articleRepository.findDocumentsAfter(anyLong(), anyLong())).willReturn(List.of());
+        sut.build();
+
+        //when
+        Optional<List<Long>> withoutTerms = sut.searchTitle("!?");
+
+        //then
+        assertThat(notReady).isEmpty();
+        assertThat(withoutTerms).isEmpty();
+    }
+
+    @DisplayName("색인을 다시 만드는 동안 지워진 게시글은, 새 색인으로 교체할 때 반영해 검색되지 않는다.")
+    @Test
+    void givenArticleDeletedDuringRebuild_whenRebuilding_thenNewIndexDoesNotContainIt() {
+        //given
+        given(articleRepository.findDocumentsAfter(anyLong(), anyLong())).willAnswer(invocation -> {
+            sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of()));
+            return List.of(
+                    ArticleDocumentDto.of(1L, "spring", "본문"),
+                    ArticleDocumentDto.of(2L, "spring", "본문")
+            );
+        });
+
+        //when
+        sut.build();
+
+        //then
+        assertThat(sut.searchTitle("spring")).contains(List.of(2L));
+    }
+}
@@ -0,0 +1,74 @@
+package com.yoon.projectboard.service.search;
+
+import com.yoon.projectboard.dto.HashtagArticleCountDto;
+import com.yoon.projectboard.dto.HashtagDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비지니스 로직 - 해시태그 자동 완성")
+@ExtendWith(MockitoExtension.class)
+class HashtagAutocompleteTest {
+
+    @InjectMocks
+    private HashtagAutocomplete sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @DisplayName("트라이를 다시 만드는 동안 들어온 변경 이벤트는, 새 트라이로 교체할 때 반영한다.")
+    @Test
+    void givenArticleEventDuringRebuild_whenRebuilding_thenNewTrieReflectsEvent() {
+        //given
+        given(hashtagRepository.findAllHashtagArticleCounts()).willAnswer(invocation -> {
+            sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of(HashtagDto.of("java"))));
+            return List.of(HashtagArticleCountDto.of("java", 2L), HashtagArticleCountDto.of("javascript", 1L));
+        });
+
+        //when
+        sut.build();
+
+        //then
+        assertThat(sut.suggest("ja", 10).orElseThrow())
+                .extracting(HashtagTrie.Completion::hashtagName, HashtagTrie.Completion::weight)
+                .containsExactlyInAnyOrder(
+                        tuple("java", 1L),
+                        tuple("javascript", 1L)
+                );
+    }
+
+    @DisplayName("해시태그 이름 전체는 만들어 둔 목록을 주고, 게시글 수가 바뀌면 다시 정렬한다.")
+    @Test
+    void givenChangedCounts_whenGettingAllNames_thenReturnsResortedNames() {
+        //given
+        given(hashtagRepository.findAllHashtagArticleCounts()).willReturn(List.of(
+                HashtagArticleCountDto.of("java", 2L),
+                HashtagArticleCountDto.of("spring", 1L)
+        ));
+        sut.build();
+        List<String> before = sut.allNames().orElseThrow();
+
+        //when
+        List<String> cached = sut.allNames().orElseThrow();
+        sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of(HashtagDto.of("java"))));
+        sut.onArticleEvent(ArticleEvent.deleted(2L, Set.of(HashtagDto.of("java"))));
+        List<String> after = sut.allNames().orElseThrow();
+
+        //then
+        assertThat(before).containsExactly("java", "spring");
+        assertThat(cached).isSameAs(before);
+        assertThat(after).containsExactly("spring");
+    }
+}
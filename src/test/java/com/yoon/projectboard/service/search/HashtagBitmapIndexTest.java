@@ -0,0 +1,108 @@
+package com.yoon.projectboard.service.search;
+
+import com.yoon.projectboard.dto.ArticleHashtagDto;
+import com.yoon.projectboard.dto.HashtagDto;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import com.yoon.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비지니스 로직 - 해시태그 비트맵 색인")
+@ExtendWith(MockitoExtension.class)
+class HashtagBitmapIndexTest {
+
+    @InjectMocks
+    private HashtagBitmapIndex sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(articleRepository.findIdsAfter(anyLong(), anyLong())).willReturn(List.of(1L, 2L, 3L, 4L));
+        given(articleRepository.findArticleHashtagsAfter(anyLong(), anyLong(), anyLong())).willReturn(List.of(
+                ArticleHashtagDto.of(1L, 10L, "java"),
+                ArticleHashtagDto.of(1L, 20L, "spring"),
+                ArticleHashtagDto.of(2L, 10L, "java"),
+                ArticleHashtagDto.of(3L, 20L, "spring"),
+                ArticleHashtagDto.of(4L, 30L, "kotlin")
+        ));
+        sut.build();
+    }
+
+    @DisplayName("해시태그 여러 개로 검색하면, 하나라도 포함한 게시글을 중복 없이 최신순으로 반환한다.")
+    @Test
+    void givenOptionalHashtags_whenSearching_thenReturnsUnionWithoutDuplicates() {
+        //given
+
+        //when
+        HashtagBitmapIndex.Matches matches = sut.search("#java spring").orElseThrow();
+
+        //then
+        assertThat(matches.count()).isEqualTo(3);
+        assertThat(matches.pageIdsDescending(PageRequest.of(0, 2))).containsExactly(3L, 2L);
+        assertThat(matches.pageIdsDescending(PageRequest.of(1, 2))).containsExactly(1L);
+    }
+
+    @DisplayName("필수(+), 제외(-) 해시태그로 검색하면, AND/NOT 조건에 맞는 게시글을 반환한다.")
+    @Test
+    void givenRequiredAndExcludedHashtags_whenSearching_thenReturnsIntersectionWithoutExcluded() {
+        //given
+
+        //when
+        List<Long> both = sut.search("+java +spring").orElseThrow().allIds();
+        List<Long> withoutJava = sut.search("-java").orElseThrow().allIds();
+
+        //then
+        assertThat(both).containsExactly(1L);
+        assertThat(withoutJava).containsExactly(3L, 4L);
+    }
+
+    @DisplayName("게시글 변경 이벤트를 받으면, 해시태그 비트맵을 갱신한다.")
+    @Test
+    void givenArticleEvents_whenSearching_thenReflectsChanges() {
+        //given
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.EventType.UPDATED, 4L, null, "title", "#java", Set.of(HashtagDto.of(10L, "java", null, null, null, null)), Set.of()));
+        sut.onArticleEvent(ArticleEvent.deleted(2L, Set.of()));
+
+        //when
+        List<Long> java = sut.search("java").orElseThrow().allIds();
+        boolean kotlinExists = sut.search("kotlin").orElseThrow().count() > 0;
+
+        //then
+        assertThat(java).containsExactly(1L, 4L);
+        assertThat(kotlinExists).isFalse();
+    }
+
+    @DisplayName("색인을 다시 만드는 동안 들어온 변경 이벤트는, 새 색인으로 교체할 때 반영한다.")
+    @Test
+    void givenArticleEventDuringRebuild_whenRebuilding_thenNewIndexReflectsEvent() {
+        //given
+        given(articleRepository.findArticleHashtagsAfter(anyLong(), anyLong(), anyLong())).willAnswer(invocation -> {
+            sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of()));
+            return List.of(
+                    ArticleHashtagDto.of(1L, 10L, "java"),
+                    ArticleHashtagDto.of(2L, 10L, "java")
+            );
+        });
+
+        //when
+        sut.build();
+
+        //then
+        assertThat(sut.search("java").orElseThrow().allIds()).containsExactly(2L);
+    }
+}
@@ -0,0 +1,86 @@
+package com.yoon.projectboard.service.search;
+
+import com.yoon.projectboard.service.search.HashtagTrie.Completion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("해시태그 접두어 트라이")
+class HashtagTrieTest {
+
+    private HashtagTrie sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagTrie();
+        sut.put("java", 5);
+        sut.put("javascript", 8);
+        sut.put("jpa", 3);
+        sut.put("spring", 7);
+        sut.put("자바", 2);
+    }
+
+    @DisplayName("접두어를 주면, 게시글 수가 많은 순서로 해시태그를 반환한다.")
+    @Test
+    void givenPrefix_whenSearching_thenReturnsCompletionsOrderedByWeight() {
+        //given
+
+        //when
+        List<Completion> actual = sut.topK("j", 10);
+
+        //then
+        assertThat(actual).extracting(Completion::hashtagName).containsExactly("javascript", "java", "jpa");
+        assertThat(sut.topK("자", 10)).extracting(Completion::hashtagName).containsExactly("자바");
+        assertThat(sut.topK("x", 10)).isEmpty();
+    }
+
+    @DisplayName("가중치를 바꾸면, 순서가 바로 반영된다.")
+    @Test
+    void givenChangedWeight_whenSearching_thenReflectsNewOrder() {
+        //given
+        sut.add("jpa", 10);
+
+        //when
+        List<Completion> actual = sut.topK("j", 2);
+
+        //then
+        assertThat(actual).containsExactly(new Completion("jpa", 13), new Completion("javascript", 8));
+    }
+
+    @DisplayName("가중치가 0이 되면, 해시태그가 트라이에서 빠진다.")
+    @Test
+    void givenZeroWeight_whenSearching_thenExcludesHashtag() {
+        //given
+        sut.add("javascript", -8);
+
+        //when
+        List<Completion> actual = sut.topK("java", 10);
+
+        //then
+        assertThat(actual).extracting(Completion::hashtagName).containsExactly("java");
+        assertThat(sut.weightOf("javascript")).isZero();
+        assertThat(sut.size()).isEqualTo(4);
+    }
+
+    @DisplayName("캐시된 개수보다 많이 요청하면, 하위 트리 전체에서 골라 반환한다.")
+    @Test
+    void givenLargeK_whenSearching_thenReturnsBeyondCachedCompletions() {
+        //given
+        HashtagTrie trie = new HashtagTrie();
+        IntStream.rangeClosed(1, 30).forEach(i -> trie.put("tag" + i, i));
+
+        //when
+        List<Completion> actual = trie.topK("tag", 20);
+
+        //then
+        assertThat(actual).hasSize(20);
+        assertThat(actual.get(0)).isEqualTo(new Completion("tag30", 30));
+        assertThat(actual.get(19)).isEqualTo(new Completion("tag11", 11));
+        assertThat(trie.topK("tag", HashtagTrie.CACHED_TOP_K)).isEqualTo(actual.subList(0, HashtagTrie.CACHED_TOP_K));
+    }
+}
@@ -0,0 +1,110 @@
+package com.yoon.projectboard.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비지니스 로직 - 검색 역색인")
+class InvertedIndexTest {
+
+    private final InvertedIndex sut = new InvertedIndex();
+
+    @DisplayName("단어로 검색하면, 해당 단어를 포함한 문서 ID를 오름차순으로 반환한다.")
+    @Test
+    void givenIndexedDocuments_whenSearchingWord_thenReturnsMatchingDocumentIds() {
+        //given
+        sut.add(3L, "Spring Boot 게시판");
+        sut.add(1L, "spring data jpa");
+        sut.add(2L, "자바 17");
+
+        //when
+        List<Long> actual = sut.search("SPRING");
+
+        //then
+        assertThat(actual).containsExactly(1L, 3L);
+    }
+
+    @DisplayName("여러 단어로 검색하면, 단어가 검색어 순서대로 이어서 나오는 문서만 반환한다. 조사가 붙은 한글도 찾는다.")
+    @Test
+    void givenIndexedDocuments_whenSearchingPhrase_thenReturnsDocumentsWithAdjacentTerms() {
+        //given
+        sut.add(1L, "게시판에서 글쓰기");
+        sut.add(2L, "게시 판매");
+        sut.add(3L, "spring boot 실습");
+        sut.add(4L, "boot spring 실습");
+        sut.add(5L, "spring 그리고 boot");
+
+        //when
+        List<Long> korean = sut.search("게시판");
+        List<Long> phrase = sut.search("Spring, boot");
+
+        //then
+        assertThat(korean).containsExactly(1L);
+        assertThat(phrase).containsExactly(3L);
+    }
+
+    @DisplayName("단어가 모두 있어도 이어서 나오지 않으면, 반환하지 않는다.")
+    @Test
+    void givenDocumentContainingAllTermsApart_whenSearchingPhrase_thenDoesNotReturnIt() {
+        //given
+        sut.add(1L, "가나 다라 마바");
+        sut.add(2L, "마바 가나 다라");
+        sut.add(3L, "가나 마바 다라");
+
+        //when
+        List<Long> actual = sut.search("가나 다라");
+
+        //then
+        assertThat(actual).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("한 글자로 검색하면, 그 글자로 시작하는 단어가 있는 문서를 반환한다.")
+    @Test
+    void givenSingleCharacterKeyword_whenSearching_thenReturnsDocumentsWithTermStartingWithCharacter() {
+        //given
+        sut.add(1L, "자바");
+        sut.add(2L, "코틀린");
+        sut.add(3L, "파이썬과 자바스크립트");
+
+        //when
+        List<Long> actual = sut.search("자");
+
+        //then
+        assertThat(actual).containsExactly(1L, 3L);
+    }
+
+    @DisplayName("문서를 다시 색인하거나 삭제하면, 이전 단어로는 검색되지 않는다.")
+    @Test
+    void givenReindexedAndRemovedDocuments_whenSearching_thenReflectsLatestState() {
+        //given
+        sut.add(1L, "java spring");
+        sut.add(2L, "java");
+
+        //when
+        sut.add(1L, "kotlin");
+        sut.remove(2L);
+
+        //then
+        assertThat(sut.search("java")).isEmpty();
+        assertThat(sut.search("kotlin")).containsExactly(1L);
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("단어가 없는 검색어는 빈 결과를 반환한다.")
+    @Test
+    void givenKeywordWithoutTerms_whenSearching_thenReturnsEmptyList() {
+        //given
+        sut.add(1L, "java");
+
+        //when
+        List<Long> empty = sut.search("");
+        List<Long> punctuation = sut.search("!?");
+
+        //then
+        assertThat(empty).isEmpty();
+        assertThat(punctuation).isEmpty();
+    }
+}
@@ -0,0 +1,111 @@
+package com.yoon.projectboard.service.trending;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("인기 게시글 슬라이딩 윈도우 순위")
+class TrendingRankingTest {
+
+    private TrendingRanking sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TrendingRanking(3, 2);
+    }
+
+    @DisplayName("점수를 더하면, 점수가 높은 순서로 상위 N개 게시글을 반환한다.")
+    @Test
+    void givenScores_whenGettingTop_thenReturnsTopArticlesOrderedByScore() {
+        //given
+        sut.add(1L, 1, 0);
+        sut.add(2L, 5, 0);
+        sut.add(3L, 3, 0);
+
+        //when
+        List<Long> actual = sut.top(10);
+
+        //then
+        assertThat(actual).containsExactly(2L, 3L);
+        assertThat(sut.scoreOf(1L)).isEqualTo(1);
+    }
+
+    @DisplayName("상위 N개 밖의 게시글 점수가 올라가면, 힙에 바로 들어온다.")
+    @Test
+    void givenArticleOutsideTop_whenScoreRises_thenEntersTop() {
+        //given
+        sut.add(1L, 1, 0);
+        sut.add(2L, 5, 0);
+        sut.add(3L, 3, 0);
+
+        //when
+        sut.add(1L, 10, 1);
+
+        //then
+        assertThat(sut.top(10)).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("윈도우 밖으로 밀려난 구간의 점수는 빠지고, 순위가 다시 매겨진다.")
+    @Test
+    void givenExpiredBucket_whenAdvancing_thenSubtractsExpiredScores() {
+        //given
+        sut.add(1L, 10, 0);
+        sut.add(2L, 3, 1);
+        sut.add(3L, 2, 2);
+
+        //when
+        sut.advance(3);
+
+        //then
+        assertThat(sut.scoreOf(1L)).isZero();
+        assertThat(sut.top(10)).containsExactly(2L, 3L);
+    }
+
+    @DisplayName("윈도우 길이 이상 시간이 지나면, 모든 점수가 빠진다.")
+    @Test
+    void givenLongIdle_whenAdvancing_thenClearsAllScores() {
+        //given
+        sut.add(1L, 10, 0);
+        sut.add(2L, 3, 1);
+
+        //when
+        sut.advance(100);
+
+        //then
+        assertThat(sut.top(10)).isEmpty();
+    }
+
+    @DisplayName("늦게 도착한 기록은, 현재 구간에 더해진다.")
+    @Test
+    void givenLateRecord_whenAdding_thenAddsToCurrentBucket() {
+        //given
+        sut.add(1L, 1, 5);
+
+        //when
+        sut.add(1L, 1, 4);
+        sut.advance(7);
+
+        //then
+        assertThat(sut.scoreOf(1L)).isEqualTo(2);
+    }
+
+    @DisplayName("게시글을 제거하면, 순위와 점수에서 빠지고 다음 게시글이 올라온다.")
+    @Test
+    void givenRankedArticle_whenRemoving_thenRemovesFromTop() {
+        //given
+        sut.add(1L, 1, 0);
+        sut.add(2L, 5, 0);
+        sut.add(3L, 3, 0);
+
+        //when
+        sut.remove(2L);
+
+        //then
+        assertThat(sut.top(10)).containsExactly(3L, 1L);
+        assertThat(sut.scoreOf(2L)).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package com.yoon.projectboard.service.trending;
+
+import com.yoon.projectboard.config.TrendingConfig.TrendingProperties;
+import com.yoon.projectboard.dto.event.ArticleCommentEvent;
+import com.yoon.projectboard.dto.event.ArticleEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비지니스 로직 - 인기 게시글")
+class TrendingServiceTest {
+
+    private TrendingService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TrendingService(new TrendingProperties(Duration.ofMinutes(1), 60, 10, 1, 5));
+    }
+
+    @DisplayName("여러 스레드에서 동시에 조회를 기록해도, 기록한 가중치를 모두 점수에 반영한다.")
+    @Test
+    void givenConcurrentViews_whenGettingTopArticleIds_thenCountsEveryView() throws InterruptedException {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            long articleId = i % 2 == 0 ? 1L : 2L;
+            executor.submit(() -> sut.recordView(articleId));
+            if (i == 500) {
+                executor.submit(() -> sut.topArticleIds(10));
+            }
+        }
+        sut.recordView(1L);
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        //when
+        List<Long> actual = sut.topArticleIds(10);
+
+        //then
+        assertThat(actual).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("커밋된 새 댓글 이벤트만 댓글 가중치를 더한다.")
+    @Test
+    void givenCommentEvents_whenGettingTopArticleIds_thenCountsOnlyNewComments() {
+        //given
+        sut.recordView(1L);
+        sut.recordView(1L);
+        sut.onArticleCommentEvent(ArticleCommentEvent.created(2L));
+        sut.onArticleCommentEvent(ArticleCommentEvent.changed(3L));
+
+        //when
+        List<Long> actual = sut.topArticleIds(10);
+
+        //then
+        assertThat(actual).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("게시글이 삭제되면, 반영 전인 가중치까지 순위에서 뺀다.")
+    @Test
+    void givenDeletedArticle_whenGettingTopArticleIds_thenExcludesArticle() {
+        //given
+        sut.recordView(1L);
+        sut.recordView(2L);
+        sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of()));
+
+        //when
+        List<Long> actual = sut.topArticleIds(10);
+
+        //then
+        assertThat(actual).containsExactly(2L);
+    }
+}